@@ -1,6 +1,8 @@
 package com.benleskey.textengine;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -12,6 +14,7 @@ import com.benleskey.textengine.entities.Avatar;
 import com.benleskey.textengine.model.Entity;
 import com.benleskey.textengine.util.Markup;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -32,9 +35,19 @@ public abstract class Client {
 
 	protected Game game;
 	protected Optional<Avatar> entity;
-	protected boolean alive;
+	protected volatile boolean alive;
 	protected String id = "?";
 
+	// Output collected while buffering, written together on flush; game thread only
+	@Getter(AccessLevel.NONE)
+	private final List<CommandOutput> pendingOutput = new ArrayList<>();
+	@Setter(AccessLevel.NONE)
+	private boolean bufferingOutput = false;
+	// Quit with the goodbye still held; disconnect once it is written
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private boolean disconnectOnFlush = false;
+
 	/**
 	 * Client-specific mapping of numeric IDs to entities for disambiguation.
 	 * Reset each time a command generates a new list (look, inventory, etc.).
@@ -69,19 +82,86 @@ public abstract class Client {
 
 	public abstract CommandInput waitForInput();
 
-	public abstract void sendOutput(CommandOutput output);
+	/**
+	 * Write outputs to the client, in order, as one batch.
+	 */
+	protected abstract void writeOutput(List<CommandOutput> outputs);
 
-	public abstract void sendStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+	protected abstract void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
 			CompletableFuture<String> future);
 
+	/**
+	 * Send an output now, or hold it until {@link #flushOutput()} while
+	 * buffering. A held output that can coalesce with the one before it is
+	 * merged into it.
+	 */
+	public void sendOutput(CommandOutput output) {
+		if (!bufferingOutput) {
+			writeOutput(List.of(output));
+			return;
+		}
+		int last = pendingOutput.size() - 1;
+		if (last >= 0 && pendingOutput.get(last).coalescesWith(output)) {
+			pendingOutput.set(last, pendingOutput.get(last).coalesce(output));
+		} else {
+			pendingOutput.add(output);
+		}
+	}
+
+	/**
+	 * Streams are written as they arrive, after any output already held.
+	 */
+	public void sendStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+			CompletableFuture<String> future) {
+		writePending();
+		writeStreamedOutput(output, stream, future);
+	}
+
+	/**
+	 * Hold outputs until the next {@link #flushOutput()}.
+	 */
+	public void bufferOutput() {
+		bufferingOutput = true;
+	}
+
+	/**
+	 * Write all held output at once and stop buffering.
+	 */
+	public void flushOutput() {
+		bufferingOutput = false;
+		writePending();
+		if (disconnectOnFlush) {
+			disconnectOnFlush = false;
+			disconnect();
+		}
+	}
+
+	private void writePending() {
+		if (!pendingOutput.isEmpty()) {
+			writeOutput(new ArrayList<>(pendingOutput));
+			pendingOutput.clear();
+		}
+	}
+
 	public void quitFromServer() {
 		if (alive) {
 			alive = false;
 			sendOutput(CommandOutput.make(M_QUIT_FROM_SERVER).text(Markup.escape("Goodbye.")));
 			game.log.log("Disconnected %s", this);
+			if (bufferingOutput) {
+				disconnectOnFlush = true;
+			} else {
+				disconnect();
+			}
 		}
 	}
 
+	/**
+	 * Release the connection after quitting, once the goodbye has been written.
+	 */
+	protected void disconnect() {
+	}
+
 	public void setEntity(Avatar newEntity) {
 		this.entity = Optional.ofNullable(newEntity);
 		this.entity.ifPresentOrElse(entity -> {
@@ -0,0 +1,26 @@
+package com.benleskey.textengine;
+
+/**
+ * When the game loop commits its transaction, and when clients are sent the
+ * output of their commands. Grouped and relaxed commit once
+ * {@link Game#setCommitIntervalMillis(long)} has passed or
+ * {@link Game#setCommitCommands(int)} commands are uncommitted, whichever is
+ * first.
+ */
+public enum Durability {
+	/**
+	 * Commit after every command. Output is sent once it is committed.
+	 */
+	STRICT,
+	/**
+	 * Commit in groups. Output, and with it the client's next command, waits
+	 * for the commit, so a client never sees the result of a command that could
+	 * be lost.
+	 */
+	GROUPED,
+	/**
+	 * Commit in groups but send output at once. A crash loses at most the
+	 * commands of one group, which their clients may already have seen.
+	 */
+	RELAXED
+}
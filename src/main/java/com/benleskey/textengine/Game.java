@@ -1,34 +1,71 @@
 package com.benleskey.textengine;
 
 import com.benleskey.textengine.commands.Command;
+import com.benleskey.textengine.commands.CommandDispatcher;
 import com.benleskey.textengine.commands.CommandInput;
 import com.benleskey.textengine.commands.CommandOutput;
-import com.benleskey.textengine.commands.CommandVariant;
 import com.benleskey.textengine.exceptions.DatabaseException;
 import com.benleskey.textengine.exceptions.InternalException;
 import com.benleskey.textengine.hooks.core.*;
 import com.benleskey.textengine.plugins.core.*;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.systems.TickSystem;
 import com.benleskey.textengine.systems.UniqueTypeSystem;
+import com.benleskey.textengine.systems.WorldSystem;
 import com.benleskey.textengine.util.*;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.regex.Matcher;
 
 public class Game {
 	public static final int CACHE_SIZE = 2000;
 	public static final String M_WELCOME = "welcome";
 	public static final String M_VERSION = "version";
-	private final Collection<Client> clients = new ArrayList<>();
+	// World catch-up time allowed per loop iteration before other clients are served
+	public static final long TICK_BUDGET_NANOS = 50_000_000L;
+	// Longest wait for a command before checking whether any client is still alive
+	private static final long IDLE_POLL_MILLIS = 100;
+	private final Collection<Client> clients = new CopyOnWriteArrayList<>();
+	// Commands from every client in arrival order, filled by one reader thread per client
+	private final BlockingQueue<QueuedCommand> commandQueue = new LinkedBlockingQueue<>();
+	private volatile boolean looping = false;
+	// Keep looping with no clients, for servers waiting for connections
+	@Setter
+	private volatile boolean acceptingClients = false;
+	// When the loop commits; the defaults commit once per loop iteration
+	@Setter
+	private Durability durability = Durability.GROUPED;
+	@Setter
+	private long commitIntervalMillis = 0;
+	@Setter
+	private int commitCommands = Integer.MAX_VALUE;
+	@Getter
+	private long commits = 0;
+	@Getter
+	private long commandsHandled = 0;
+	@Getter
+	private long totalCommandLatencyNanos = 0;
+	@Getter
+	private long maxCommandLatencyNanos = 0;
 	private final Map<String, Plugin> plugins = new LinkedHashMap<>();
 	private final Map<String, Plugin> tentativePlugins = new LinkedHashMap<>();
 	private final HookManager<HookHandler> hooks = new HookManager<>();
 	private final Map<String, Command> commands = new LinkedHashMap<>();
+	// Rebuilt on first use after a command is registered; read by client reader threads
+	private volatile CommandDispatcher commandDispatcher;
 	private final Map<String, GameSystem> systems = new LinkedHashMap<>();
+	// Singleton systems by SystemHandle slot
+	private SingletonGameSystem[] systemSlots = new SingletonGameSystem[32];
 	@Getter
 	private final SchemaManager schemaManager;
 	@Getter
@@ -87,11 +124,12 @@ public class Game {
 			// Activate tentative plugins that are needed as dependencies
 			activateTentativePlugins();
 
-			hooks.calculateOrder();
+			// Dependencies are fixed from here on, so each order is worked out once
+			DependencyOrder<HookHandler> eventOrder = new DependencyOrder<>(Game::getHandlerDependencies);
+			hooks.calculateOrder(eventOrder.comparator());
 
-			for (Plugin plugin : plugins.values().stream().sorted(Comparator.comparing(Plugin::getEventOrder))
-					.toList()) {
-				log.log("Plugin %s event order %d", plugin.getId(), plugin.getEventOrder());
+			for (Plugin plugin : plugins.values().stream().sorted(eventOrder.comparator()).toList()) {
+				log.log("Plugin %s event order %d", plugin.getId(), eventOrder.getOrder(plugin));
 			}
 
 			log.log("Initializing schema...");
@@ -106,7 +144,7 @@ public class Game {
 
 			log.log("Initializing systems...");
 
-			hooks.calculateOrder();
+			hooks.calculateOrder(eventOrder.comparator());
 
 			hooks.doEvent(OnSystemInitialize.class, system -> {
 				int previousVersion = system.getSchema().getVersionNumber();
@@ -116,13 +154,14 @@ public class Game {
 				int nextVersion = system.getSchema().getVersionNumber();
 
 				if (previousVersion == nextVersion) {
-					log.log("System %s (order %d) version %d", system.getId(), system.getEventOrder(), nextVersion);
-				} else if (previousVersion == 0) {
-					log.log("System %s (order %d) initialized to version %d", system.getId(), system.getEventOrder(),
+					log.log("System %s (order %d) version %d", system.getId(), eventOrder.getOrder(system),
 							nextVersion);
+				} else if (previousVersion == 0) {
+					log.log("System %s (order %d) initialized to version %d", system.getId(),
+							eventOrder.getOrder(system), nextVersion);
 				} else {
 					log.log("System %s (order %d) upgraded from version %d to version %d", system.getId(),
-							system.getEventOrder(), previousVersion, nextVersion);
+							eventOrder.getOrder(system), previousVersion, nextVersion);
 				}
 			});
 
@@ -165,7 +204,17 @@ public class Game {
 	}
 
 	public <T extends SingletonGameSystem> T getSystem(Class<T> c) {
-		return getSystem(SingletonGameSystem.getSingletonGameSystemId(c));
+		return getSystem(SystemHandle.of(c));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends SingletonGameSystem> T getSystem(SystemHandle<T> handle) {
+		int slot = handle.getSlot();
+		SingletonGameSystem system = slot < systemSlots.length ? systemSlots[slot] : null;
+		if (system == null) {
+			throw new NoSuchElementException("No system registered for " + handle.getType().getCanonicalName());
+		}
+		return (T) system;
 	}
 
 	public Connection db() {
@@ -227,6 +276,7 @@ public class Game {
 	public void registerCommand(Command command) {
 		log.log("Registering command %s (variants: %d)", command.getName(), command.getVariants().size());
 		commands.put(command.getName(), command);
+		commandDispatcher = null;
 	}
 
 	/**
@@ -244,11 +294,24 @@ public class Game {
 		client.setId(String.valueOf(getNewSessionId()));
 		log.log("Registering client: %s", client);
 		clients.add(client);
+		if (looping) {
+			// Like every other client's, its output waits for the loop to acknowledge it
+			client.bufferOutput();
+			startReader(client);
+		}
 		client.sendOutput(CommandOutput.make(M_WELCOME).put(M_VERSION, Version.toMessage())
 				.textf("Welcome to %s %s <%s>", Version.humanName, Version.versionNumber, Version.url));
 		hooks.doEvent(OnStartClient.class, plugin -> plugin.onStartClient(client));
 	}
 
+	/**
+	 * Register a client from any thread. Registration runs on the game thread
+	 * between commands.
+	 */
+	public void connectClient(Client client) {
+		commandQueue.add(new QueuedCommand(client, null, System.nanoTime(), null));
+	}
+
 	/**
 	 * Fire a hook event to all registered handlers.
 	 * This provides a general-purpose way for systems to fire hooks without
@@ -262,15 +325,40 @@ public class Game {
 		hooks.doEvent(clazz, consumer);
 	}
 
+	/**
+	 * The handlers of a hook event in dispatch order, for hot paths that call
+	 * them in a loop instead of allocating a consumer. Do not modify the array.
+	 */
+	public <T extends HookEvent> T[] getHookHandlers(Class<T> clazz) {
+		return hooks.getHandlers(clazz);
+	}
+
 	@SuppressWarnings("null") // Generic type T will never be null
 	public <T extends GameSystem> T registerSystem(T system) {
 		systems.put(system.getId(), system);
+		if (system instanceof SingletonGameSystem singleton) {
+			int slot = SystemHandle.of(singleton.getClass()).getSlot();
+			if (slot >= systemSlots.length) {
+				systemSlots = Arrays.copyOf(systemSlots, Math.max(slot + 1, systemSlots.length * 2));
+			}
+			systemSlots[slot] = singleton;
+		}
 		Set<Class<? extends HookEvent>> events = hooks.registerHookHandler(system);
 		log.log("Registered system %s with event handlers [%s]", system.getId(),
 				String.join(", ", events.stream().map(Class::getSimpleName).sorted().toList()));
 		return system;
 	}
 
+	private static Collection<? extends HookHandler> getHandlerDependencies(HookHandler handler) {
+		if (handler instanceof Plugin plugin) {
+			return plugin.getDependencies();
+		}
+		if (handler instanceof GameSystem system) {
+			return system.getDependencies();
+		}
+		return Set.of();
+	}
+
 	private boolean anyClientAlive() {
 		return clients.stream().anyMatch(Client::isAlive);
 	}
@@ -287,35 +375,110 @@ public class Game {
 	/**
 	 * Process ticks for all tickable entities in the world.
 	 * This is called after all client commands have been processed in the game
-	 * loop.
+	 * loop, and stops after TICK_BUDGET_NANOS so a long catch-up is spread over
+	 * several iterations.
 	 * Ticks are based on world time advancement, not individual clients.
 	 */
 	private void processTicks() throws InternalException {
-		com.benleskey.textengine.systems.TickSystem tickSystem = getSystem(
-				com.benleskey.textengine.systems.TickSystem.class);
-		tickSystem.processWorldTicks();
+		getSystem(TickSystem.class).processWorldTicks(TICK_BUDGET_NANOS);
 	}
 
+	/**
+	 * Run the game until no client is alive. Each client's input is read on its
+	 * own thread into one queue, so idle clients block nobody. This thread is
+	 * the only one touching game state: it handles queued commands in arrival
+	 * order, processes ticks and commits as the {@link Durability} asks.
+	 */
 	public void loopWithClients() throws InternalException {
 		if (!initialized) {
 			throw new IllegalStateException("Tried to run the game without calling initialize() first");
 		}
-		log.log("Looping with clients...");
-		while (anyClientAlive()) {
+		log.log("Looping with clients (%s durability, commit every %d ms or %d commands)...", durability,
+				commitIntervalMillis, commitCommands);
+		TickSystem tickSystem = getSystem(TickSystem.class);
+		WorldSystem worldSystem = getSystem(WorldSystem.class);
+		// World time each client's last command advanced to
+		Map<Client, DTime> tickTargets = new HashMap<>();
+		List<QueuedCommand> batch = new ArrayList<>();
+		// Handled but not yet answered, waiting for a grouped commit
+		List<QueuedCommand> unacknowledged = new ArrayList<>();
+		long uncommittedSince = -1;
+		int uncommittedCommands = 0;
+
+		looping = true;
+		clients.forEach(this::startReader);
+		while (anyClientAlive() || acceptingClients) {
 			try {
-				for (Client client : clients) {
-					feedCommand(client, client.waitForInput());
+				// Only wait for input when there is no catch-up left to do, and not past a due commit
+				boolean lagging = tickSystem.getTickLag().toMilliseconds() > 0;
+				long waitMillis = IDLE_POLL_MILLIS;
+				if (uncommittedSince >= 0) {
+					long dueMillis = commitIntervalMillis - (System.nanoTime() - uncommittedSince) / 1_000_000;
+					waitMillis = Math.max(0, Math.min(waitMillis, dueMillis));
+				}
+				QueuedCommand first;
+				try {
+					first = lagging ? commandQueue.poll() : commandQueue.poll(waitMillis, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InternalException("Interrupted while waiting for commands", e);
+				}
+				if (first == null && !lagging) {
+					if (uncommittedSince >= 0 && commitDue(uncommittedSince, uncommittedCommands)) {
+						commitLoop();
+						acknowledge(unacknowledged);
+						uncommittedSince = -1;
+						uncommittedCommands = 0;
+					}
+					continue;
+				}
+				if (uncommittedSince < 0) {
+					uncommittedSince = System.nanoTime();
+				}
+				if (first != null) {
+					batch.add(first);
+					commandQueue.drainTo(batch);
+				}
+				// Everything a client is sent this iteration goes out in one write
+				clients.forEach(Client::bufferOutput);
+
+				for (QueuedCommand command : batch) {
+					Client client = command.client();
+					if (command.input() == null) {
+						registerClient(client);
+						continue;
+					}
+					// A client's last command must be fully simulated before its next one is handled
+					DTime target = tickTargets.remove(client);
+					if (target != null) {
+						tickSystem.catchUpTo(target);
+					}
+					feedCommand(client, command.input());
+					tickTargets.put(client, worldSystem.getCurrentTime());
+					uncommittedCommands++;
+					if (durability == Durability.STRICT) {
+						commitLoop();
+					}
 				}
 
-				// Process ticks after all client commands (only if clients still alive)
+				// Process ticks after the batch of commands (only if clients still alive)
 				if (anyClientAlive()) {
 					processTicks();
 				}
 
-				try {
-					databaseConnection.commit();
-				} catch (SQLException e) {
-					throw new DatabaseException("Unable to commit loop transaction", e);
+				if (durability == Durability.STRICT || commitDue(uncommittedSince, uncommittedCommands)) {
+					commitLoop();
+					uncommittedSince = -1;
+					uncommittedCommands = 0;
+				}
+				unacknowledged.addAll(batch);
+				batch.clear();
+				if (uncommittedSince < 0 || durability == Durability.RELAXED) {
+					acknowledge(unacknowledged);
+				}
+				// Forget disconnected clients so long-running servers do not accumulate them
+				if (unacknowledged.isEmpty() && clients.removeIf(client -> !client.isAlive())) {
+					tickTargets.keySet().removeIf(client -> !client.isAlive());
 				}
 			} catch (Throwable e) {
 				try {
@@ -328,26 +491,100 @@ public class Game {
 				throw e;
 			}
 		}
+		if (uncommittedSince >= 0) {
+			commitLoop();
+			acknowledge(unacknowledged);
+		}
+		looping = false;
+		if (commandsHandled > 0) {
+			log.log("Handled %d commands in %d commits, mean latency %.1f ms, max %.1f ms", commandsHandled,
+					commits, totalCommandLatencyNanos / 1e6 / commandsHandled, maxCommandLatencyNanos / 1e6);
+		}
 		log.log("No clients left alive...");
 	}
 
-	public CommandInput inputLineToCommandInput(String line) {
-		for (Command command : commands.values()) {
-			for (CommandVariant variant : command.getVariants().values()) {
-				Matcher matcher = variant.getRegex().matcher(line);
-				if (matcher.find()) {
-					CommandInput processedInput = variant.getFunction().run(matcher);
-					processedInput.id(command.getName());
-					processedInput.line(line);
-					return processedInput;
+	private boolean commitDue(long uncommittedSince, int uncommittedCommands) {
+		return uncommittedCommands >= commitCommands
+				|| System.nanoTime() - uncommittedSince >= commitIntervalMillis * 1_000_000;
+	}
+
+	private void commitLoop() {
+		try {
+			databaseConnection.commit();
+			commits++;
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to commit loop transaction", e);
+		}
+	}
+
+	/**
+	 * Send held output and let the clients whose commands it answers send their
+	 * next ones.
+	 */
+	private void acknowledge(List<QueuedCommand> commands) {
+		clients.forEach(Client::flushOutput);
+
+		long now = System.nanoTime();
+		for (QueuedCommand command : commands) {
+			if (command.input() == null) {
+				continue;
+			}
+			long latency = now - command.receivedNanos();
+			commandsHandled++;
+			totalCommandLatencyNanos += latency;
+			maxCommandLatencyNanos = Math.max(maxCommandLatencyNanos, latency);
+			command.handled().release();
+		}
+		commands.clear();
+	}
+
+	/**
+	 * Read a client's commands on a virtual thread. Only one command per client
+	 * is in flight, so its output arrives before the client is asked for the next.
+	 */
+	private void startReader(Client client) {
+		Thread.ofVirtual().name("client-" + client.getId()).start(() -> {
+			Semaphore handled = new Semaphore(0);
+			while (client.isAlive()) {
+				CommandInput input;
+				try {
+					input = client.waitForInput();
+				} catch (Throwable e) {
+					// Nothing a client sends may stop its reader without quitting it
+					errorLog.log("Unable to read from %s: %s", client, e);
+					input = CommandInput.make(Client.M_QUIT_FROM_CLIENT);
 				}
+				commandQueue.add(new QueuedCommand(client, input, System.nanoTime(), handled));
+				handled.acquireUninterruptibly();
 			}
+		});
+	}
+
+	// A null input registers the client instead
+	private record QueuedCommand(Client client, CommandInput input, long receivedNanos, Semaphore handled) {
+	}
+
+	public CommandInput inputLineToCommandInput(String line) {
+		CommandDispatcher dispatcher = commandDispatcher;
+		if (dispatcher == null) {
+			dispatcher = getCommandDispatcher();
+		}
+		CommandInput processedInput = dispatcher.parse(line);
+		if (processedInput != null) {
+			return processedInput;
 		}
 
 		return CommandInput.make(CommandOutput.M_UNKNOWN_COMMAND).put(CommandOutput.M_ORIGINAL_UNKNOWN_COMMAND_LINE,
 				line);
 	}
 
+	private synchronized CommandDispatcher getCommandDispatcher() {
+		if (commandDispatcher == null) {
+			commandDispatcher = new CommandDispatcher(commands.values());
+		}
+		return commandDispatcher;
+	}
+
 	public void feedCommand(Client client, CommandInput input) throws InternalException {
 		if (commands.containsKey(input.getId())) {
 			commands.get(input.getId()).getFunction().run(client, input);
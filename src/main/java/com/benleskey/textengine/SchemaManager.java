@@ -5,10 +5,26 @@ import com.benleskey.textengine.exceptions.DatabaseException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * Owns schema versions and global IDs, and routes tables to attached databases.
+ * A database attached as {@link #CATALOG} holds the global tables in
+ * {@link #CATALOG_TABLES}; databases attached as {@link #SHARD_PREFIX}0..n-1
+ * hold region shards of spatially keyed tables.
+ */
 public class SchemaManager {
 	public static final long ID_MULTIPLIER = 1000;
+	public static final String CATALOG = "catalog";
+	public static final String SHARD_PREFIX = "shard_";
+	private static final Set<String> CATALOG_TABLES = Set.of("unique_type", "system_id", "world_time");
 	private final Game game;
+	private boolean catalogAttached;
+	private List<String> shards = List.of();
 	private PreparedStatement insertNewIdStatement;
 	private PreparedStatement getNewIdStatement;
 	private long idCounter;
@@ -19,6 +35,22 @@ public class SchemaManager {
 
 	public void initialize() throws DatabaseException {
 		try {
+			List<String> attachedShards = new ArrayList<>();
+			try (PreparedStatement s = game.db().prepareStatement("PRAGMA database_list");
+					ResultSet rs = s.executeQuery()) {
+				while (rs.next()) {
+					String name = rs.getString("name");
+					if (name.equals(CATALOG)) {
+						catalogAttached = true;
+					} else if (name.startsWith(SHARD_PREFIX)) {
+						attachedShards.add(name);
+					}
+				}
+			}
+			attachedShards.sort(Comparator.comparingInt(
+					name -> Integer.parseInt(name.substring(SHARD_PREFIX.length()))));
+			shards = Collections.unmodifiableList(attachedShards);
+
 			// Use IF NOT EXISTS to allow reconnecting to existing databases
 			try (PreparedStatement s = game.db().prepareStatement(
 					"CREATE TABLE IF NOT EXISTS system_schema(system_id TEXT PRIMARY KEY, version_number INTEGER)")) {
@@ -26,7 +58,7 @@ public class SchemaManager {
 			}
 
 			try (PreparedStatement s = game.db()
-					.prepareStatement("CREATE TABLE IF NOT EXISTS system_id(id INTEGER PRIMARY KEY)")) {
+					.prepareStatement("CREATE TABLE IF NOT EXISTS " + table("system_id") + "(id INTEGER PRIMARY KEY)")) {
 				s.execute();
 			}
 
@@ -52,6 +84,21 @@ public class SchemaManager {
 		}
 	}
 
+	/**
+	 * Qualified name to use when creating a table, so catalog tables land in the
+	 * catalog database. Queries can keep using the bare name.
+	 */
+	public String table(String name) {
+		return catalogAttached && CATALOG_TABLES.contains(name) ? CATALOG + "." + name : name;
+	}
+
+	/**
+	 * Attached shard database names in shard order, empty when not sharded.
+	 */
+	public List<String> getShards() {
+		return shards;
+	}
+
 	public Schema getSchema(String systemId) {
 		return new Schema(this, systemId);
 	}
@@ -0,0 +1,46 @@
+package com.benleskey.textengine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed reference to a singleton system. Every system class gets one handle
+ * and a fixed slot number, and a game keeps its systems in an array by slot,
+ * so {@link Game#getSystem(SystemHandle)} is an array read. Keep handles in
+ * static final fields for code that looks systems up often.
+ */
+public final class SystemHandle<T extends SingletonGameSystem> {
+	private static final AtomicInteger nextSlot = new AtomicInteger();
+	private static final ClassValue<SystemHandle<?>> handles = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		protected SystemHandle<?> computeValue(Class<?> type) {
+			return new SystemHandle(type, nextSlot.getAndIncrement());
+		}
+	};
+
+	private final Class<T> type;
+	private final int slot;
+
+	private SystemHandle(Class<T> type, int slot) {
+		this.type = type;
+		this.slot = slot;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T extends SingletonGameSystem> SystemHandle<T> of(Class<T> type) {
+		return (SystemHandle<T>) handles.get(type);
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	int getSlot() {
+		return slot;
+	}
+
+	@Override
+	public String toString() {
+		return "SystemHandle[" + type.getSimpleName() + "]";
+	}
+}
@@ -16,6 +16,7 @@ import com.benleskey.textengine.systems.ItemSystem;
 import com.benleskey.textengine.systems.RelationshipSystem;
 import com.benleskey.textengine.systems.WorldSystem;
 import com.benleskey.textengine.util.Markup;
+import com.benleskey.textengine.util.MessageLayout;
 
 /**
  * Action for dropping an item in the actor's current location.
@@ -28,6 +29,8 @@ public class DropItemAction extends Action {
 	public static final String ERR_NOT_CARRYING = "not_carrying";
 	public static final String ERR_NOWHERE = "nowhere";
 	public static final String BROADCAST_DROPS = "actor_drops";
+	public static final MessageLayout LAYOUT_DROPS = CommandOutput.layout(BROADCAST_DROPS,
+			EntitySystem.M_ACTOR_ID, EntitySystem.M_ACTOR_NAME, ItemSystem.M_ITEM_ID, ItemSystem.M_ITEM_NAME);
 	// Note: EntitySystem.M_ACTOR_ID, EntitySystem.M_ACTOR_NAME defined in
 	// EntitySystem
 
@@ -114,10 +117,10 @@ public class DropItemAction extends Action {
 		rs.add(currentLocation, target, rs.rvContains);
 
 		// Broadcast to all entities including the actor
-		CommandOutput broadcast = CommandOutput.make(BROADCAST_DROPS)
-				.put(EntitySystem.M_ACTOR_ID, actor.getKeyId())
+		CommandOutput broadcast = CommandOutput.make(LAYOUT_DROPS)
+				.putId(EntitySystem.M_ACTOR_ID, actor.getId())
 				.put(EntitySystem.M_ACTOR_NAME, actorDesc)
-				.put(ItemSystem.M_ITEM_ID, target.getKeyId())
+				.putId(ItemSystem.M_ITEM_ID, target.getId())
 				.put(ItemSystem.M_ITEM_NAME, itemDesc)
 				.text(Markup.concat(
 						Markup.capital(Markup.entity(actor.getKeyId(), actorDesc)),
@@ -9,6 +9,7 @@ import com.benleskey.textengine.model.Entity;
 import com.benleskey.textengine.model.UniqueType;
 import com.benleskey.textengine.systems.*;
 import com.benleskey.textengine.util.Markup;
+import com.benleskey.textengine.util.MessageLayout;
 
 /**
  * Action for moving an actor from one location to another.
@@ -22,6 +23,10 @@ public class MoveAction extends Action {
 	public static final String ERR_DESTINATION_NOT_FOUND = "destination_not_found";
 	public static final String BROADCAST_LEAVES = "actor_leaves";
 	public static final String BROADCAST_ARRIVES = "actor_arrives";
+	public static final MessageLayout LAYOUT_LEAVES = CommandOutput.layout(BROADCAST_LEAVES,
+			EntitySystem.M_ACTOR_ID, EntitySystem.M_ACTOR_NAME, RelationshipSystem.M_FROM);
+	public static final MessageLayout LAYOUT_ARRIVES = CommandOutput.layout(BROADCAST_ARRIVES,
+			EntitySystem.M_ACTOR_ID, EntitySystem.M_ACTOR_NAME, RelationshipSystem.M_TO);
 
 	public MoveAction(long id, Game game) {
 		super(id, game);
@@ -75,10 +80,10 @@ public class MoveAction extends Action {
 		// Broadcast departure to entities in current location
 		// Using new markup: <capital><entity id="X">name</entity></capital>
 		// <you>leave</you><notyou>leaves</notyou>
-		bs.broadcast(actor, CommandOutput.make(BROADCAST_LEAVES)
-				.put(EntitySystem.M_ACTOR_ID, actor.getKeyId())
+		bs.broadcast(actor, CommandOutput.make(LAYOUT_LEAVES)
+				.putId(EntitySystem.M_ACTOR_ID, actor.getId())
 				.put(EntitySystem.M_ACTOR_NAME, actorDesc)
-				.put(RelationshipSystem.M_FROM, currentLocation.getKeyId())
+				.putId(RelationshipSystem.M_FROM, currentLocation.getId())
 				.text(Markup.concat(
 						Markup.capital(Markup.entity(actor.getKeyId(), actorDesc)),
 						Markup.raw(" "),
@@ -99,10 +104,10 @@ public class MoveAction extends Action {
 		// Broadcast arrival to entities in destination
 		// Using new markup: <capital><entity id="X">name</entity></capital>
 		// <you>arrive</you><notyou>arrives</notyou>
-		bs.broadcast(actor, CommandOutput.make(BROADCAST_ARRIVES)
-				.put(EntitySystem.M_ACTOR_ID, actor.getKeyId())
+		bs.broadcast(actor, CommandOutput.make(LAYOUT_ARRIVES)
+				.putId(EntitySystem.M_ACTOR_ID, actor.getId())
 				.put(EntitySystem.M_ACTOR_NAME, actorDesc)
-				.put(RelationshipSystem.M_TO, target.getKeyId())
+				.putId(RelationshipSystem.M_TO, target.getId())
 				.text(Markup.concat(
 						Markup.capital(Markup.entity(actor.getKeyId(), actorDesc)),
 						Markup.raw(" "),
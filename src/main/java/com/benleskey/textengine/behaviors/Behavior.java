@@ -0,0 +1,28 @@
+package com.benleskey.textengine.behaviors;
+
+import java.util.Random;
+import java.util.Set;
+
+import com.benleskey.textengine.model.Decision;
+
+/**
+ * One thing a behaving actor might do, chosen by utility: every behavior
+ * scores the perception and the highest positive score decides.
+ *
+ * Scoring and deciding may run on any thread, so they must only use the
+ * perception, the actor's Random and constants given at construction.
+ */
+public interface Behavior {
+
+	/**
+	 * @return the parts of the world this behavior looks at
+	 */
+	Set<Sense> getSenses();
+
+	/**
+	 * @return how much this behavior wants to run now; zero or less to skip it
+	 */
+	double score(Perception perception, Random random);
+
+	Decision decide(Perception perception, Random random);
+}
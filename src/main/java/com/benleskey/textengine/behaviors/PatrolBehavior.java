@@ -0,0 +1,57 @@
+package com.benleskey.textengine.behaviors;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Decision;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.UniqueType;
+
+/**
+ * Walk to a patrol target other than the current place, or to a random exit
+ * if there are none.
+ */
+public class PatrolBehavior implements Behavior {
+
+	private final UniqueType moveAction;
+	private final DTime moveTime;
+
+	public PatrolBehavior(UniqueType moveAction, DTime moveTime) {
+		this.moveAction = moveAction;
+		this.moveTime = moveTime;
+	}
+
+	@Override
+	public Set<Sense> getSenses() {
+		return Set.of(Sense.EXITS, Sense.PATROL_TARGETS);
+	}
+
+	@Override
+	public double score(Perception perception, Random random) {
+		if (perception.patrolTargets().isEmpty() && perception.here().exits().isEmpty()) {
+			return 0;
+		}
+		return random.nextDouble();
+	}
+
+	@Override
+	public Decision decide(Perception perception, Random random) {
+		Entity here = perception.here().place();
+		List<Entity> targets = perception.patrolTargets().stream()
+				.filter(t -> !t.equals(here))
+				.toList();
+		List<Entity> exits = perception.here().exits();
+
+		Entity destination;
+		if (!targets.isEmpty()) {
+			destination = targets.get(random.nextInt(targets.size()));
+		} else if (!exits.isEmpty()) {
+			destination = exits.get(random.nextInt(exits.size()));
+		} else {
+			return Decision.idle();
+		}
+		return Decision.act(moveAction, destination, moveTime);
+	}
+}
@@ -0,0 +1,24 @@
+package com.benleskey.textengine.behaviors;
+
+import java.util.List;
+
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.util.Message;
+
+/**
+ * One actor's view for a decision: the shared snapshot of its place plus what
+ * is specific to it. here is null if the actor is nowhere.
+ */
+public record Perception(DTime currentTime, Entity self, PlaceSnapshot here, List<Entity> carried,
+		List<Entity> patrolTargets, List<CommandOutput> noticed) {
+
+	/**
+	 * @return true if a broadcast with this output id was noticed since the last
+	 *         decision
+	 */
+	public boolean noticed(String outputId) {
+		return noticed.stream().anyMatch(b -> outputId.equals(b.<String>getO(Message.M_OUTPUT_ID).orElse(null)));
+	}
+}
@@ -0,0 +1,21 @@
+package com.benleskey.textengine.behaviors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.UniqueType;
+
+/**
+ * What is visible at one place at one time, built once and shared by every
+ * behaving actor there. Lists for senses nobody asked for are empty.
+ */
+public record PlaceSnapshot(Entity place, List<Entity> exits, List<Entity> items, List<Entity> actors,
+		Map<Entity, Set<UniqueType>> itemTags) {
+
+	public boolean hasTag(Entity item, UniqueType tag) {
+		Set<UniqueType> tags = itemTags.get(item);
+		return tags != null && tags.contains(tag);
+	}
+}
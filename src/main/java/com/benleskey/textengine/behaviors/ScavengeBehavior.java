@@ -0,0 +1,69 @@
+package com.benleskey.textengine.behaviors;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.benleskey.textengine.actions.DropItemAction;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Decision;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.UniqueType;
+
+/**
+ * Pick up loose items and drop carried ones at random. Strongly preferred
+ * right after noticing someone drop something here.
+ */
+public class ScavengeBehavior implements Behavior {
+
+	private final UniqueType takeAction;
+	private final UniqueType dropAction;
+	private final UniqueType containerTag;
+	private final DTime itemTime;
+
+	public ScavengeBehavior(UniqueType takeAction, UniqueType dropAction, UniqueType containerTag, DTime itemTime) {
+		this.takeAction = takeAction;
+		this.dropAction = dropAction;
+		this.containerTag = containerTag;
+		this.itemTime = itemTime;
+	}
+
+	@Override
+	public Set<Sense> getSenses() {
+		return Set.of(Sense.ITEMS, Sense.CARRIED);
+	}
+
+	@Override
+	public double score(Perception perception, Random random) {
+		List<Entity> pickupable = getPickupable(perception);
+		if (pickupable.isEmpty() && perception.carried().isEmpty()) {
+			return 0;
+		}
+		double score = random.nextDouble();
+		if (!pickupable.isEmpty() && perception.noticed(DropItemAction.BROADCAST_DROPS)) {
+			score += 1;
+		}
+		return score;
+	}
+
+	@Override
+	public Decision decide(Perception perception, Random random) {
+		List<Entity> carried = perception.carried();
+		List<Entity> pickupable = getPickupable(perception);
+
+		// Drop if carrying items, otherwise take
+		if (!carried.isEmpty() && (pickupable.isEmpty() || random.nextBoolean())) {
+			return Decision.act(dropAction, carried.get(random.nextInt(carried.size())), itemTime);
+		} else if (!pickupable.isEmpty()) {
+			return Decision.act(takeAction, pickupable.get(random.nextInt(pickupable.size())), itemTime);
+		}
+		return Decision.idle();
+	}
+
+	private List<Entity> getPickupable(Perception perception) {
+		PlaceSnapshot here = perception.here();
+		return here.items().stream()
+				.filter(e -> !here.hasTag(e, containerTag))
+				.toList();
+	}
+}
@@ -0,0 +1,18 @@
+package com.benleskey.textengine.behaviors;
+
+/**
+ * A part of the world a behavior needs to see. BehaviorSystem only gathers
+ * the senses some actor at a place asks for.
+ */
+public enum Sense {
+	/** Places connected to the actor's place */
+	EXITS,
+	/** Items at the actor's place, with their tags */
+	ITEMS,
+	/** Actors at the actor's place */
+	ACTORS,
+	/** Items the actor carries */
+	CARRIED,
+	/** The actor's patrol targets */
+	PATROL_TARGETS,
+}
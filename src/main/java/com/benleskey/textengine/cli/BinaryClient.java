@@ -0,0 +1,84 @@
+package com.benleskey.textengine.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.commands.MessageCodec;
+import com.benleskey.textengine.util.Markup;
+import com.benleskey.textengine.util.Message;
+
+/**
+ * A machine client speaking {@link MessageCodec} frames. Input frames are
+ * command inputs carrying an original line, which is parsed like typed input;
+ * other fields are ignored, since command handlers trust the types of their
+ * inputs. Every output is sent as one frame. A frame that cannot be decoded
+ * disconnects the client.
+ */
+public class BinaryClient extends SocketClient {
+	public static final String M_BAD_FRAME = "bad_frame";
+
+	private final MessageCodec.Decoder decoder = new MessageCodec.Decoder();
+	// Key ids are per stream, so encoding and queueing happen under one lock
+	private final MessageCodec.Encoder encoder = new MessageCodec.Encoder();
+
+	public BinaryClient(Game game, Socket socket) throws IOException {
+		super(game, socket);
+	}
+
+	@Override
+	protected String getProtocol() {
+		return "binary";
+	}
+
+	@Override
+	public CommandInput waitForInput() {
+		while (true) {
+			Message<?> message;
+			try {
+				message = decoder.read(in);
+			} catch (IOException | RuntimeException e) {
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			}
+			if (message == null) {
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			}
+			if (message instanceof CommandInput input
+					&& input.<Object>getO(CommandInput.M_ORIGINAL_LINE).orElse(null) instanceof String line) {
+				return game.inputLineToCommandInput(line);
+			}
+			// Reader thread: reply directly rather than through the game thread's buffer
+			writeOutput(List.of(CommandOutput.make(M_BAD_FRAME)
+					.error("Expected a command input with an original line")));
+		}
+	}
+
+	@Override
+	protected void writeOutput(List<CommandOutput> outputs) {
+		ByteArrayOutputStream frames = new ByteArrayOutputStream();
+		synchronized (encoder) {
+			for (CommandOutput output : outputs) {
+				try {
+					encoder.write(output, frames);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			write(frames.toByteArray());
+		}
+	}
+
+	@Override
+	protected void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+			CompletableFuture<String> future) {
+		// Frames are whole messages, so send the finished text in one
+		writeOutput(List.of(output.text(Markup.escape(future.join()))));
+	}
+}
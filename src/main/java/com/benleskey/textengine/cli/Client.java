@@ -1,6 +1,7 @@
 package com.benleskey.textengine.cli;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
@@ -103,22 +104,25 @@ public class Client extends com.benleskey.textengine.Client {
 	}
 
 	@Override
-	public void sendOutput(CommandOutput output) {
-		if (apiDebug) {
-			System.out.printf("< %s\n", output.toPrettyString());
+	protected void writeOutput(List<CommandOutput> outputs) {
+		// Convert markup to terminal output, using avatar's entity ID for you/notyou
+		// conversion
+		String avatarId = (entity != null) ? entity.map(e -> e.getKeyId()).orElse(null) : null;
+		StringBuilder out = new StringBuilder();
+		for (CommandOutput output : outputs) {
+			if (apiDebug) {
+				out.append("< ").append(output.toPrettyString()).append('\n');
+			}
+			output.getError().ifPresent(error -> out.append("! ").append(error).append('\n'));
+			output.getText().ifPresent(
+					text -> out.append(Markup.toTerminal(Markup.raw(text), avatarId)).append('\n'));
 		}
-		output.getError().ifPresent(error -> System.out.printf("! %s\n", error));
-		output.getText().ifPresent(text -> {
-			// Convert markup to terminal output, using avatar's entity ID for you/notyou
-			// conversion
-			String avatarId = (entity != null) ? entity.map(e -> e.getKeyId()).orElse(null) : null;
-			String rendered = Markup.toTerminal(Markup.raw(text), avatarId);
-			System.out.println(rendered);
-		});
+		System.out.print(out);
+		System.out.flush();
 	}
 
 	@Override
-	public void sendStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+	protected void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
 			CompletableFuture<String> future) {
 		stream.subscribe(new Flow.Subscriber<>() {
 			private Flow.Subscription subscription;
@@ -151,8 +155,7 @@ public class Client extends com.benleskey.textengine.Client {
 	}
 
 	@Override
-	public void quitFromServer() {
-		super.quitFromServer();
+	protected void disconnect() {
 		// Close the terminal if it was opened
 		if (terminal != null) {
 			try {
@@ -1,11 +1,14 @@
 package com.benleskey.textengine.cli;
 
+import com.benleskey.textengine.Durability;
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.Plugin;
+import com.benleskey.textengine.SchemaManager;
 import com.benleskey.textengine.Version;
 import com.benleskey.textengine.exceptions.InternalException;
 import com.benleskey.textengine.util.Logger;
 import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.impl.Arguments;
 import net.sourceforge.argparse4j.impl.action.AppendArgumentAction;
 import net.sourceforge.argparse4j.impl.action.StoreTrueArgumentAction;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
@@ -16,6 +19,8 @@ import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 
 public class Main {
@@ -28,6 +33,27 @@ public class Main {
 				.type(Long.class);
 		parser.addArgument("--database").help("Database file path for persistence (default: timestamped temp file)")
 				.type(String.class);
+		parser.addArgument("--catalog")
+				.help("Shared catalog database file for unique types, global IDs and world time")
+				.type(String.class);
+		parser.addArgument("--shards")
+				.help("Split spatial positions by region across this many database files beside the main one")
+				.type(Integer.class)
+				.choices(Arguments.range(1, 8));
+		parser.addArgument("--listen").help("Serve players over TCP (telnet) on this port instead of the terminal")
+				.type(Integer.class);
+		parser.addArgument("--listen-binary")
+				.help("Serve machine clients over TCP with the binary message codec on this port")
+				.type(Integer.class);
+		parser.addArgument("--durability")
+				.help("When commands are committed: after each (strict), in groups before answering (grouped) or in groups after answering (relaxed)")
+				.type(String.class)
+				.choices("strict", "grouped", "relaxed")
+				.setDefault("grouped");
+		parser.addArgument("--commit-interval").help("Most milliseconds between grouped commits (default: 0)")
+				.type(Long.class);
+		parser.addArgument("--commit-commands").help("Most commands per grouped commit")
+				.type(Integer.class);
 		parser.addArgument("--plugin").help("Plugin class name to load (can be specified multiple times)")
 				.action(new AppendArgumentAction())
 				.type(String.class);
@@ -38,7 +64,14 @@ public class Main {
 		boolean showLog = ns.getBoolean("showlog");
 		Long seed = ns.getLong("seed");
 		String databasePath = ns.getString("database");
+		String catalogPath = ns.getString("catalog");
+		Integer shardCount = ns.getInt("shards");
 		List<String> pluginClassNames = ns.getList("plugin");
+		Integer listenPort = ns.getInt("listen");
+		Integer listenBinaryPort = ns.getInt("listen_binary");
+		Durability durability = Durability.valueOf(ns.getString("durability").toUpperCase());
+		Long commitInterval = ns.getLong("commit_interval");
+		Integer commitCommands = ns.getInt("commit_commands");
 
 		Logger logger = Logger.builder()
 				.stream(showLog ? System.out : OutputStream.nullOutputStream())
@@ -62,12 +95,29 @@ public class Main {
 		}
 
 		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile)) {
+			// Attach before the game opens its transaction; ATTACH cannot run inside one
+			if (catalogPath != null) {
+				attachDatabase(connection, catalogPath, SchemaManager.CATALOG);
+			}
+			if (shardCount != null) {
+				for (int i = 0; i < shardCount; i++) {
+					attachDatabase(connection, dbFile + ".shard" + i, SchemaManager.SHARD_PREFIX + i);
+				}
+			}
+
 			try {
 				Game.GameBuilder builder = Game.builder().log(logger).databaseConnection(connection);
 				if (seed != null) {
 					builder.seed(seed);
 				}
 				Game game = builder.build();
+				game.setDurability(durability);
+				if (commitInterval != null) {
+					game.setCommitIntervalMillis(commitInterval);
+				}
+				if (commitCommands != null) {
+					game.setCommitCommands(commitCommands);
+				}
 
 				// Load and register plugins specified via --plugin
 				if (pluginClassNames != null) {
@@ -93,8 +143,18 @@ public class Main {
 
 				game.initialize();
 
-				Client client = Client.builder().game(game).apiDebug(apiDebug).build();
-				game.registerClient(client);
+				if (listenPort != null || listenBinaryPort != null) {
+					if (listenPort != null) {
+						new SocketServer(game, listenPort, "telnet", TelnetClient::new).start();
+					}
+					if (listenBinaryPort != null) {
+						new SocketServer(game, listenBinaryPort, "binary", BinaryClient::new).start();
+					}
+					game.setAcceptingClients(true);
+				} else {
+					Client client = Client.builder().game(game).apiDebug(apiDebug).build();
+					game.registerClient(client);
+				}
 
 				game.loopWithClients();
 			} catch (InternalException e) {
@@ -106,4 +166,11 @@ public class Main {
 			e.printStackTrace();
 		}
 	}
+
+	private static void attachDatabase(Connection connection, String file, String name) throws SQLException {
+		try (PreparedStatement s = connection.prepareStatement("ATTACH DATABASE ? AS " + name)) {
+			s.setString(1, file);
+			s.execute();
+		}
+	}
 }
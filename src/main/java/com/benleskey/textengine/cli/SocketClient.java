@@ -0,0 +1,106 @@
+package com.benleskey.textengine.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.benleskey.textengine.Game;
+
+/**
+ * A player connected over TCP. Input is read on the game's reader thread for
+ * this client. Output is queued and written by a virtual thread of its own, so
+ * a slow connection never blocks the game thread.
+ */
+public abstract class SocketClient extends com.benleskey.textengine.Client {
+	protected static final int IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000;
+	// Connections this far behind on output are dropped
+	private static final int MAX_PENDING_OUTPUT = 10000;
+
+	private static final byte[] CLOSE = new byte[0];
+
+	protected final Socket socket;
+	protected final InputStream in;
+	private final BlockingQueue<byte[]> outbound = new LinkedBlockingQueue<>();
+	private final String address;
+	private volatile boolean closing = false;
+
+	protected SocketClient(Game game, Socket socket) throws IOException {
+		this.game = game;
+		this.socket = socket;
+		this.address = String.valueOf(socket.getRemoteSocketAddress());
+		socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+		socket.setTcpNoDelay(true);
+		in = new BufferedInputStream(socket.getInputStream());
+		OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+		Thread.ofVirtual().name("socket-writer-" + address).start(() -> writeLoop(out));
+	}
+
+	/**
+	 * @return a short protocol name for the account identifier
+	 */
+	protected abstract String getProtocol();
+
+	@Override
+	public String getAccountIdentifier() {
+		return getProtocol() + ":" + address;
+	}
+
+	@Override
+	protected void disconnect() {
+		close();
+	}
+
+	/**
+	 * Queue bytes for the writer thread. Drops the connection instead of
+	 * buffering without limit.
+	 */
+	protected void write(byte[] bytes) {
+		if (closing) {
+			return;
+		}
+		if (outbound.size() >= MAX_PENDING_OUTPUT) {
+			outbound.clear();
+			close();
+			return;
+		}
+		outbound.add(bytes);
+	}
+
+	/**
+	 * Close the connection once everything queued so far is written.
+	 */
+	protected void close() {
+		closing = true;
+		outbound.add(CLOSE);
+	}
+
+	private void writeLoop(OutputStream out) {
+		try {
+			while (true) {
+				byte[] chunk = outbound.take();
+				if (chunk == CLOSE) {
+					break;
+				}
+				out.write(chunk);
+				// Coalesce everything already queued into one flush
+				if (outbound.isEmpty()) {
+					out.flush();
+				}
+			}
+			out.flush();
+		} catch (IOException | InterruptedException e) {
+			// Connection gone; the reader sees it and quits
+		} finally {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// Ignore
+			}
+		}
+	}
+}
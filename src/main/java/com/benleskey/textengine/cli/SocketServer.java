@@ -0,0 +1,53 @@
+package com.benleskey.textengine.cli;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import com.benleskey.textengine.Game;
+
+/**
+ * Accepts TCP connections and connects each as a client made by the given
+ * factory. Accepting runs on its own virtual thread; clients are registered on
+ * the game thread.
+ */
+public class SocketServer {
+	@FunctionalInterface
+	public interface ClientFactory {
+		SocketClient create(Game game, Socket socket) throws IOException;
+	}
+
+	private final Game game;
+	private final ServerSocket serverSocket;
+	private final ClientFactory factory;
+	private final String name;
+
+	public SocketServer(Game game, int port, String name, ClientFactory factory) throws IOException {
+		this.game = game;
+		this.serverSocket = new ServerSocket(port);
+		this.name = name;
+		this.factory = factory;
+	}
+
+	public void start() {
+		game.log.log("Listening for %s on port %d", name, serverSocket.getLocalPort());
+		Thread.ofVirtual().name(name + "-accept").start(this::acceptLoop);
+	}
+
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				game.connectClient(factory.create(game, socket));
+			} catch (IOException e) {
+				if (!serverSocket.isClosed()) {
+					game.errorLog.log("Unable to accept connection: %s", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.benleskey.textengine.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.util.Markup;
+
+/**
+ * A player connected with a line-based, telnet-compatible protocol. Telnet
+ * option negotiation is skipped.
+ */
+public class TelnetClient extends SocketClient {
+	private static final int MAX_LINE_BYTES = 4096;
+
+	// Telnet protocol bytes
+	private static final int IAC = 255;
+	private static final int SB = 250;
+	private static final int SE = 240;
+	private static final int WILL = 251;
+	private static final int DONT = 254;
+
+	public TelnetClient(Game game, Socket socket) throws IOException {
+		super(game, socket);
+	}
+
+	@Override
+	protected String getProtocol() {
+		return "telnet";
+	}
+
+	@Override
+	public CommandInput waitForInput() {
+		while (true) {
+			write("> ");
+			String line;
+			try {
+				line = readLine();
+			} catch (SocketTimeoutException e) {
+				write("\r\nDisconnected for being idle.\r\n");
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			} catch (IOException e) {
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			}
+			if (line == null) {
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			}
+			if (!line.trim().isEmpty()) {
+				return game.inputLineToCommandInput(line);
+			}
+		}
+	}
+
+	@Override
+	protected void writeOutput(List<CommandOutput> outputs) {
+		String avatarId = (entity != null) ? entity.map(e -> e.getKeyId()).orElse(null) : null;
+		StringBuilder out = new StringBuilder();
+		for (CommandOutput output : outputs) {
+			output.getError().ifPresent(error -> out.append("! ").append(error).append("\r\n"));
+			output.getText().ifPresent(text -> {
+				String rendered = Markup.toTerminal(Markup.raw(text), avatarId);
+				out.append(rendered.replace("\r\n", "\n").replace("\n", "\r\n")).append("\r\n");
+			});
+		}
+		// One chunk, so one flush and usually one packet
+		write(out.toString());
+	}
+
+	@Override
+	protected void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+			CompletableFuture<String> future) {
+		stream.subscribe(new Flow.Subscriber<>() {
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(String item) {
+				write(item.replace("\n", "\r\n"));
+				subscription.request(1);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				game.errorLog.log("Streamed output to %s failed: %s", TelnetClient.this, throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				write("\r\n");
+			}
+		});
+
+		future.join();
+	}
+
+	private void write(String text) {
+		write(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Read one line, skipping telnet commands and carriage returns.
+	 *
+	 * @return the line, or null at end of stream
+	 */
+	private String readLine() throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		while (true) {
+			int b = in.read();
+			if (b < 0) {
+				return line.size() > 0 ? line.toString(StandardCharsets.UTF_8) : null;
+			}
+			if (b == IAC) {
+				skipTelnetCommand();
+			} else if (b == '\n') {
+				return line.toString(StandardCharsets.UTF_8);
+			} else if (b != '\r' && b != 0 && line.size() < MAX_LINE_BYTES) {
+				line.write(b);
+			}
+		}
+	}
+
+	private void skipTelnetCommand() throws IOException {
+		int command = in.read();
+		if (command >= WILL && command <= DONT) {
+			in.read(); // Option byte
+		} else if (command == SB) {
+			// Subnegotiation runs until IAC SE
+			int previous = 0;
+			int b;
+			while ((b = in.read()) >= 0 && !(previous == IAC && b == SE)) {
+				previous = b;
+			}
+		}
+	}
+}
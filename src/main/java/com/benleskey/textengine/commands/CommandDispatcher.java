@@ -0,0 +1,196 @@
+package com.benleskey.textengine.commands;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * Matches input lines against command variants without trying every regex.
+ *
+ * Most variant regexes are anchored verbs like {@code ^(?:take|get)\s+...}, so
+ * their literal prefixes go into a character trie. A line walks the trie as far
+ * as it matches, and only the variants whose prefix it starts with are tried,
+ * plus any variant whose regex has no usable prefix. Candidates are tried in
+ * the same order as a scan over every command and variant, so the first match
+ * is the same.
+ */
+public class CommandDispatcher {
+	private record Entry(Command command, CommandVariant variant, int order) {
+	}
+
+	private static class Node {
+		final Map<Character, Node> children = new HashMap<>();
+		final List<Entry> own = new ArrayList<>();
+		// Own entries, every ancestor's and the unanchored ones, in scan order
+		Entry[] candidates;
+	}
+
+	private final Node root = new Node();
+
+	public CommandDispatcher(Collection<Command> commands) {
+		List<Entry> unanchored = new ArrayList<>();
+		int order = 0;
+		for (Command command : commands) {
+			for (CommandVariant variant : command.getVariants().values()) {
+				Entry entry = new Entry(command, variant, order++);
+				List<String> prefixes = literalPrefixes(variant);
+				if (prefixes == null) {
+					unanchored.add(entry);
+					continue;
+				}
+				for (String prefix : prefixes) {
+					Node node = root;
+					for (int i = 0; i < prefix.length(); i++) {
+						node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+					}
+					node.own.add(entry);
+				}
+			}
+		}
+		fillCandidates(root, unanchored);
+	}
+
+	/**
+	 * @return the parsed input, or null if no variant matches
+	 */
+	public CommandInput parse(String line) {
+		Node node = root;
+		for (int i = 0; i < line.length(); i++) {
+			Node next = node.children.get(line.charAt(i));
+			if (next == null) {
+				break;
+			}
+			node = next;
+		}
+		for (Entry entry : node.candidates) {
+			Matcher matcher = entry.variant().getRegex().matcher(line);
+			if (matcher.find()) {
+				CommandInput processedInput = entry.variant().getFunction().run(matcher);
+				processedInput.id(entry.command().getName());
+				processedInput.line(line);
+				return processedInput;
+			}
+		}
+		return null;
+	}
+
+	private void fillCandidates(Node node, List<Entry> inherited) {
+		List<Entry> candidates = new ArrayList<>(inherited);
+		for (Entry entry : node.own) {
+			if (!candidates.contains(entry)) {
+				candidates.add(entry);
+			}
+		}
+		candidates.sort((a, b) -> Integer.compare(a.order(), b.order()));
+		node.candidates = candidates.toArray(new Entry[0]);
+		for (Node child : node.children.values()) {
+			fillCandidates(child, candidates);
+		}
+	}
+
+	/**
+	 * Work out literal strings one of which every line the variant matches
+	 * must start with.
+	 *
+	 * @return the prefixes, or null if the regex is not anchored on a literal
+	 */
+	static List<String> literalPrefixes(CommandVariant variant) {
+		String pattern = variant.getRegex().pattern();
+		// Flags could make ^ match after newlines or change case
+		if (variant.getRegex().flags() != 0 || !pattern.startsWith("^") || hasTopLevelAlternation(pattern)) {
+			return null;
+		}
+
+		StringBuilder literal = new StringBuilder();
+		int i = 1;
+		while (i < pattern.length() && isLiteral(pattern.charAt(i))) {
+			literal.append(pattern.charAt(i++));
+		}
+		if (i < pattern.length() && isOptionalQuantifier(pattern.charAt(i)) && literal.length() > 0) {
+			// The last character may be absent
+			literal.setLength(literal.length() - 1);
+			return literal.length() > 0 ? List.of(literal.toString()) : null;
+		}
+
+		List<String> prefixes = List.of(literal.toString());
+		List<String> alternatives = i < pattern.length() && pattern.charAt(i) == '(' ? groupAlternatives(pattern, i)
+				: null;
+		if (alternatives != null) {
+			List<String> combined = new ArrayList<>();
+			for (String alternative : alternatives) {
+				combined.add(literal + alternative);
+			}
+			prefixes = combined;
+		}
+		for (String prefix : prefixes) {
+			if (prefix.isEmpty()) {
+				return null;
+			}
+		}
+		return prefixes;
+	}
+
+	/**
+	 * @return the alternatives of a group of plain literals starting at
+	 *         {@code start} that must be present, or null
+	 */
+	private static List<String> groupAlternatives(String pattern, int start) {
+		int i = start + 1;
+		if (pattern.startsWith("?:", i)) {
+			i += 2;
+		} else if (i < pattern.length() && pattern.charAt(i) == '?') {
+			return null; // Lookaround, named group or inline flags
+		}
+		List<String> alternatives = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		for (; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '|') {
+				alternatives.add(current.toString());
+				current.setLength(0);
+			} else if (c == ')') {
+				alternatives.add(current.toString());
+				boolean optional = i + 1 < pattern.length() && isOptionalQuantifier(pattern.charAt(i + 1));
+				return optional ? null : alternatives;
+			} else if (isLiteral(c)) {
+				current.append(c);
+			} else {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static boolean hasTopLevelAlternation(String pattern) {
+		int depth = 0;
+		boolean inClass = false;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (inClass) {
+				inClass = c != ']';
+			} else if (c == '[') {
+				inClass = true;
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '|' && depth == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLiteral(char c) {
+		return "\\^$.|?*+()[]{}".indexOf(c) < 0;
+	}
+
+	private static boolean isOptionalQuantifier(char c) {
+		return c == '?' || c == '*' || c == '{';
+	}
+}
@@ -1,14 +1,17 @@
 package com.benleskey.textengine.commands;
 
 import com.benleskey.textengine.util.Message;
+import com.benleskey.textengine.util.MessageLayout;
 
 import java.util.Optional;
 
 public class CommandInput extends Message<CommandInput> {
 	public final static String M_ORIGINAL_LINE = "original_input_line";
 
+	private static final MessageLayout LAYOUT = new MessageLayout(null, M_TYPE, M_INPUT_ID, M_ORIGINAL_LINE);
+
 	public CommandInput() {
-		super(M_INPUT_ID);
+		super(LAYOUT, M_INPUT_ID);
 	}
 
 	public static CommandInput make(String id) {
@@ -2,7 +2,9 @@ package com.benleskey.textengine.commands;
 
 import com.benleskey.textengine.util.Markup;
 import com.benleskey.textengine.util.Message;
+import com.benleskey.textengine.util.MessageLayout;
 
+import java.util.Objects;
 import java.util.Optional;
 
 public class CommandOutput extends Message<CommandOutput> {
@@ -11,15 +13,44 @@ public class CommandOutput extends Message<CommandOutput> {
 	public static final String M_UNKNOWN_COMMAND = "unknown_command";
 	public static final String M_ORIGINAL_UNKNOWN_COMMAND_COMMAND = "unknown_command_original_command";
 	public static final String M_ORIGINAL_UNKNOWN_COMMAND_LINE = "unknown_command_original_line";
+	public static final String M_COALESCE = "coalesce";
+	public static final String M_COALESCED_COUNT = "coalesced_count";
+
+	private static final MessageLayout DEFAULT_LAYOUT = layout(null);
 
 	public CommandOutput() {
-		super(M_OUTPUT_ID);
+		this(DEFAULT_LAYOUT);
+	}
+
+	public CommandOutput(MessageLayout layout) {
+		super(layout, M_OUTPUT_ID);
 	}
 
 	public static CommandOutput make(String id) {
 		return (new CommandOutput()).put(M_OUTPUT_ID, id);
 	}
 
+	/**
+	 * Make an output with a layout from {@link #layout}, which carries its id.
+	 */
+	public static CommandOutput make(MessageLayout layout) {
+		return (new CommandOutput(layout)).put(M_OUTPUT_ID, layout.getId());
+	}
+
+	/**
+	 * Define the fields of an output kind, in addition to those every output
+	 * has. Make this once, as a constant.
+	 */
+	public static MessageLayout layout(String id, String... fields) {
+		String[] keys = new String[fields.length + 4];
+		keys[0] = M_TYPE;
+		keys[1] = M_OUTPUT_ID;
+		keys[2] = M_TEXT;
+		keys[3] = M_ERROR;
+		System.arraycopy(fields, 0, keys, 4, fields.length);
+		return new MessageLayout(id, keys);
+	}
+
 	/**
 	 * Set text output using safe markup.
 	 * The Markup.Safe type ensures content is properly escaped.
@@ -51,6 +82,38 @@ public class CommandOutput extends Message<CommandOutput> {
 		return put(M_TEXT, String.format(fmt, escapedArgs));
 	}
 
+	/**
+	 * Allow this output to merge with adjacent outputs of the same id and key
+	 * when a client sends them together, such as repeated chimes.
+	 */
+	public CommandOutput coalesceBy(String key) {
+		return put(M_COALESCE, key);
+	}
+
+	public boolean coalescesWith(CommandOutput next) {
+		Object key = getO(M_COALESCE).orElse(null);
+		return key != null && key.equals(next.getO(M_COALESCE).orElse(null))
+				&& Objects.equals(getO(M_OUTPUT_ID), next.getO(M_OUTPUT_ID));
+	}
+
+	/**
+	 * @return a new output with the later output's values, both texts on
+	 *         separate lines and a count of how many outputs were merged
+	 */
+	public CommandOutput coalesce(CommandOutput next) {
+		CommandOutput merged = new CommandOutput();
+		merged.putAll(next);
+		merged.put(M_COALESCED_COUNT, this.<Integer>getO(M_COALESCED_COUNT).orElse(1) + 1);
+		String text = getText().orElse(null);
+		String nextText = next.getText().orElse(null);
+		if (text != null && nextText != null) {
+			merged.put(M_TEXT, text + "\n" + nextText);
+		} else if (text != null) {
+			merged.put(M_TEXT, text);
+		}
+		return merged;
+	}
+
 	public Optional<String> getText() {
 		return getO(M_TEXT);
 	}
@@ -0,0 +1,480 @@
+package com.benleskey.textengine.commands;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.benleskey.textengine.Client;
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.ItemSystem;
+import com.benleskey.textengine.systems.RelationshipSystem;
+import com.benleskey.textengine.systems.WorldSystem;
+import com.benleskey.textengine.util.Message;
+import com.benleskey.textengine.util.RawMessage;
+
+/**
+ * Compact streaming encoding of messages for machine clients.
+ *
+ * Each message is a frame: a varint payload length, then the payload. A
+ * payload is a kind byte (raw, input or output), an entry count and the
+ * entries. Keys are sent as ids: common keys are pre-registered, and any other
+ * key is sent once as a string and gets the next id on that stream, so an
+ * Encoder and Decoder pair must see the same frames in order.
+ *
+ * Values may be null, booleans, ints, longs, doubles, strings, entity ids,
+ * nested messages, lists and string-keyed maps. Anything else is sent as its
+ * toString().
+ */
+public final class MessageCodec {
+
+	// Append only: ids are positions in this list
+	private static final List<String> DEFAULT_KEYS = List.of(
+			Message.M_TYPE,
+			Message.M_RAW_ID,
+			Message.M_OUTPUT_ID,
+			Message.M_INPUT_ID,
+			CommandOutput.M_TEXT,
+			CommandOutput.M_ERROR,
+			CommandOutput.M_ORIGINAL_UNKNOWN_COMMAND_COMMAND,
+			CommandOutput.M_ORIGINAL_UNKNOWN_COMMAND_LINE,
+			CommandInput.M_ORIGINAL_LINE,
+			EntitySystem.M_ENTITY_ID,
+			EntitySystem.M_ACTOR_ID,
+			EntitySystem.M_ACTOR_NAME,
+			RelationshipSystem.M_CONTAINER,
+			RelationshipSystem.M_CONTAINER_ID,
+			RelationshipSystem.M_CONTAINER_NAME,
+			RelationshipSystem.M_TARGET,
+			RelationshipSystem.M_FROM,
+			RelationshipSystem.M_TO,
+			ItemSystem.M_ITEM,
+			ItemSystem.M_ITEM_ID,
+			ItemSystem.M_ITEM_NAME,
+			ItemSystem.M_ITEMS,
+			ItemSystem.M_WEIGHT,
+			ItemSystem.M_CARRY_WEIGHT,
+			WorldSystem.M_DURATION,
+			Client.M_ENTITY,
+			Game.M_VERSION,
+			CommandOutput.M_COALESCE,
+			CommandOutput.M_COALESCED_COUNT);
+
+	// Message kinds
+	private static final int KIND_RAW = 0;
+	private static final int KIND_INPUT = 1;
+	private static final int KIND_OUTPUT = 2;
+
+	// Value tags
+	private static final int T_NULL = 0;
+	private static final int T_FALSE = 1;
+	private static final int T_TRUE = 2;
+	private static final int T_INT = 3;
+	private static final int T_LONG = 4;
+	private static final int T_DOUBLE = 5;
+	private static final int T_STRING = 6;
+	private static final int T_MESSAGE = 7;
+	private static final int T_LIST = 8;
+	private static final int T_MAP = 9;
+	// An entity id put with Message.putId, as a varint
+	private static final int T_ID = 10;
+
+	// Key id 0 introduces a new key; known ids are sent as id + 1
+	private static final int NEW_KEY = 0;
+
+	private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+	// Nested messages, lists and maps a decoded frame may hold
+	private static final int MAX_DEPTH = 32;
+
+	private MessageCodec() {
+	}
+
+	/**
+	 * Writes frames into a reusable buffer, so steady-state encoding only
+	 * allocates when a message is larger than any before it.
+	 */
+	public static class Encoder {
+		private final Map<String, Integer> keyIds = new HashMap<>();
+		private byte[] buf = new byte[1024];
+		private int pos;
+		private final Message.EntryVisitor entryWriter = new Message.EntryVisitor() {
+			@Override
+			public void entry(String key, Object value) {
+				writeKey(key);
+				writeValue(value);
+			}
+
+			@Override
+			public void id(String key, long id) {
+				writeKey(key);
+				ensure(1);
+				buf[pos++] = T_ID;
+				writeVarint(id);
+			}
+		};
+
+		public Encoder() {
+			for (String key : DEFAULT_KEYS) {
+				keyIds.put(key, keyIds.size());
+			}
+		}
+
+		public void write(Message<?> message, OutputStream out) throws IOException {
+			pos = 0;
+			writeMessage(message);
+			int length = pos;
+			writeVarintTo(out, length);
+			out.write(buf, 0, length);
+		}
+
+		/**
+		 * @return the encoded frame, length prefix included, as a new array
+		 */
+		public byte[] encode(Message<?> message) {
+			pos = 0;
+			writeMessage(message);
+			int length = pos;
+			writeVarint(length);
+			byte[] frame = new byte[pos];
+			System.arraycopy(buf, length, frame, 0, pos - length);
+			System.arraycopy(buf, 0, frame, pos - length, length);
+			return frame;
+		}
+
+		private void writeMessage(Message<?> message) {
+			ensure(1);
+			buf[pos++] = (byte) (message instanceof CommandOutput ? KIND_OUTPUT
+					: message instanceof CommandInput ? KIND_INPUT : KIND_RAW);
+			writeVarint(message.size());
+			message.visit(entryWriter);
+		}
+
+		private void writeEntries(Map<?, ?> entries) {
+			writeVarint(entries.size());
+			for (Map.Entry<?, ?> entry : entries.entrySet()) {
+				writeKey(String.valueOf(entry.getKey()));
+				writeValue(entry.getValue());
+			}
+		}
+
+		private void writeKey(String key) {
+			Integer id = keyIds.get(key);
+			if (id != null) {
+				writeVarint(id + 1);
+			} else {
+				keyIds.put(key, keyIds.size());
+				writeVarint(NEW_KEY);
+				writeString(key);
+			}
+		}
+
+		private void writeValue(Object value) {
+			ensure(9);
+			if (value == null) {
+				buf[pos++] = T_NULL;
+			} else if (value instanceof Boolean b) {
+				buf[pos++] = (byte) (b ? T_TRUE : T_FALSE);
+			} else if (value instanceof Integer i) {
+				buf[pos++] = T_INT;
+				writeVarint(zigzag(i));
+			} else if (value instanceof Long l) {
+				buf[pos++] = T_LONG;
+				writeVarint(zigzag(l));
+			} else if (value instanceof Double d) {
+				buf[pos++] = T_DOUBLE;
+				long bits = Double.doubleToRawLongBits(d);
+				for (int shift = 56; shift >= 0; shift -= 8) {
+					buf[pos++] = (byte) (bits >>> shift);
+				}
+			} else if (value instanceof Message<?> m) {
+				buf[pos++] = T_MESSAGE;
+				writeMessage(m);
+			} else if (value instanceof List<?> list) {
+				buf[pos++] = T_LIST;
+				writeVarint(list.size());
+				for (Object item : list) {
+					writeValue(item);
+				}
+			} else if (value instanceof Map<?, ?> map) {
+				buf[pos++] = T_MAP;
+				writeEntries(map);
+			} else {
+				buf[pos++] = T_STRING;
+				writeString(value.toString());
+			}
+		}
+
+		private void writeString(String s) {
+			int length = s.length();
+			// Worst case three bytes per UTF-16 unit, plus the length prefix
+			ensure(length * 3 + 5);
+			int lengthPos = pos;
+			pos += 5;
+			int start = pos;
+			for (int i = 0; i < length; i++) {
+				char c = s.charAt(i);
+				if (c < 0x80) {
+					buf[pos++] = (byte) c;
+				} else if (c < 0x800) {
+					buf[pos++] = (byte) (0xC0 | (c >> 6));
+					buf[pos++] = (byte) (0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(s.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, s.charAt(++i));
+					buf[pos++] = (byte) (0xF0 | (cp >> 18));
+					buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+					buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+					buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+				} else {
+					if (Character.isSurrogate(c)) {
+						c = '?'; // Unpaired surrogate, as String.getBytes() would
+					}
+					buf[pos++] = (byte) (0xE0 | (c >> 12));
+					buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					buf[pos++] = (byte) (0x80 | (c & 0x3F));
+				}
+			}
+			// Move the bytes back over the unused part of the reserved length prefix
+			int byteLength = pos - start;
+			int prefixEnd = lengthPos;
+			long v = byteLength;
+			while ((v & ~0x7FL) != 0) {
+				buf[prefixEnd++] = (byte) ((v & 0x7F) | 0x80);
+				v >>>= 7;
+			}
+			buf[prefixEnd++] = (byte) v;
+			System.arraycopy(buf, start, buf, prefixEnd, byteLength);
+			pos = prefixEnd + byteLength;
+		}
+
+		private void writeVarint(long v) {
+			ensure(10);
+			while ((v & ~0x7FL) != 0) {
+				buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+				v >>>= 7;
+			}
+			buf[pos++] = (byte) v;
+		}
+
+		private void ensure(int extra) {
+			if (pos + extra > buf.length) {
+				byte[] bigger = new byte[Math.max(buf.length * 2, pos + extra)];
+				System.arraycopy(buf, 0, bigger, 0, pos);
+				buf = bigger;
+			}
+		}
+	}
+
+	/**
+	 * Reads frames written by an Encoder, in the same order. Every read is
+	 * bounded by the frame, and a frame that is malformed in any way fails with
+	 * an IOException, so untrusted streams can be decoded safely.
+	 */
+	public static class Decoder {
+		private final List<String> keys = new ArrayList<>(DEFAULT_KEYS);
+		private byte[] buf = new byte[1024];
+		private int pos;
+		private int limit;
+
+		/**
+		 * @return the next message, or null at a clean end of stream
+		 */
+		public Message<?> read(InputStream in) throws IOException {
+			long length = readVarintFrom(in);
+			if (length < 0) {
+				return null;
+			}
+			if (length > MAX_FRAME_BYTES) {
+				throw new IOException("Frame of " + length + " bytes is too large");
+			}
+			if (buf.length < length) {
+				buf = new byte[(int) Math.max(length, buf.length * 2L)];
+			}
+			if (in.readNBytes(buf, 0, (int) length) != length) {
+				throw new EOFException("Stream ended inside a frame");
+			}
+			pos = 0;
+			limit = (int) length;
+			Message<?> message = readMessage(0);
+			if (pos != limit) {
+				throw new IOException("Frame has " + (limit - pos) + " bytes after its message");
+			}
+			return message;
+		}
+
+		private Message<?> readMessage(int depth) throws IOException {
+			checkDepth(depth);
+			int kind = next();
+			Message<?> message = switch (kind) {
+				case KIND_OUTPUT -> new CommandOutput();
+				case KIND_INPUT -> new CommandInput();
+				case KIND_RAW -> new RawMessage();
+				default -> throw new IOException("Unknown message kind " + kind);
+			};
+			message.clear();
+			long count = readVarint();
+			for (long i = 0; i < count; i++) {
+				String key = readKey();
+				if (peek() == T_ID) {
+					pos++;
+					message.putId(key, readVarint());
+				} else {
+					message.put(key, readValue(depth));
+				}
+			}
+			return message;
+		}
+
+		private void readEntries(Map<String, Object> into, int depth) throws IOException {
+			long count = readVarint();
+			for (long i = 0; i < count; i++) {
+				String key = readKey();
+				into.put(key, readValue(depth));
+			}
+		}
+
+		private String readKey() throws IOException {
+			long id = readVarint();
+			if (id == NEW_KEY) {
+				String key = readString();
+				keys.add(key);
+				return key;
+			}
+			if (id < 0 || id > keys.size()) {
+				throw new IOException("Unknown key id " + (id - 1));
+			}
+			return keys.get((int) id - 1);
+		}
+
+		private Object readValue(int depth) throws IOException {
+			int tag = next();
+			switch (tag) {
+				case T_NULL:
+					return null;
+				case T_FALSE:
+					return false;
+				case T_TRUE:
+					return true;
+				case T_INT:
+					return (int) unzigzag(readVarint());
+				case T_LONG:
+					return unzigzag(readVarint());
+				case T_DOUBLE: {
+					long bits = 0;
+					for (int i = 0; i < 8; i++) {
+						bits = (bits << 8) | (next() & 0xFF);
+					}
+					return Double.longBitsToDouble(bits);
+				}
+				case T_STRING:
+					return readString();
+				case T_MESSAGE:
+					return readMessage(depth + 1);
+				case T_LIST: {
+					checkDepth(depth + 1);
+					long count = readVarint();
+					List<Object> list = new ArrayList<>();
+					for (long i = 0; i < count; i++) {
+						list.add(readValue(depth + 1));
+					}
+					return list;
+				}
+				case T_MAP: {
+					checkDepth(depth + 1);
+					Map<String, Object> map = new LinkedHashMap<>();
+					readEntries(map, depth + 1);
+					return map;
+				}
+				default:
+					throw new IOException("Unknown value tag " + tag);
+			}
+		}
+
+		private String readString() throws IOException {
+			long length = readVarint();
+			if (length < 0 || length > limit - pos) {
+				throw new IOException("String of " + length + " bytes overruns the frame");
+			}
+			String s = new String(buf, pos, (int) length, StandardCharsets.UTF_8);
+			pos += (int) length;
+			return s;
+		}
+
+		private long readVarint() throws IOException {
+			long v = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = next();
+				v |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return v;
+				}
+			}
+			throw new IOException("Varint longer than 64 bits");
+		}
+
+		private void checkDepth(int depth) throws IOException {
+			if (depth > MAX_DEPTH) {
+				throw new IOException("Frame nests deeper than " + MAX_DEPTH);
+			}
+		}
+
+		private byte peek() throws IOException {
+			if (pos >= limit) {
+				throw new EOFException("Frame ended inside a message");
+			}
+			return buf[pos];
+		}
+
+		private byte next() throws IOException {
+			byte b = peek();
+			pos++;
+			return b;
+		}
+	}
+
+	private static void writeVarintTo(OutputStream out, long v) throws IOException {
+		while ((v & ~0x7FL) != 0) {
+			out.write((int) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.write((int) v);
+	}
+
+	/**
+	 * @return the varint, or -1 at end of stream before its first byte
+	 */
+	private static long readVarintFrom(InputStream in) throws IOException {
+		long v = 0;
+		for (int shift = 0;; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				if (shift == 0) {
+					return -1;
+				}
+				throw new EOFException("Stream ended inside a frame length");
+			}
+			v |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return v;
+			}
+			if (shift > 28) {
+				throw new IOException("Frame length too long");
+			}
+		}
+	}
+
+	private static long zigzag(long v) {
+		return (v << 1) ^ (v >> 63);
+	}
+
+	private static long unzigzag(long v) {
+		return (v >>> 1) ^ -(v & 1);
+	}
+}
@@ -6,7 +6,8 @@ import com.benleskey.textengine.model.Entity;
 /**
  * Interface for entities that can decide what actions to perform.
  * Extends Entity so Acting can be used as a type constraint for actions.
- * Entities implementing this interface should be tagged with TAG_ACTING.
+ * Entities implementing this interface should be registered with
+ * ActionSystem.addActing().
  * The ActionSystem calls onActionReady when the actor has no pending action.
  * 
  * The entity should queue an action using ActionSystem.queueAction().
@@ -26,7 +27,8 @@ public interface Acting extends Entity {
 	/**
 	 * How often to check if this actor is ready for a new action.
 	 * 
-	 * @return The interval between action readiness checks
+	 * @return The interval between action readiness checks, or null to only
+	 *         wake when a queued action becomes ready
 	 */
 	DTime getActionInterval();
 }
@@ -3,12 +3,15 @@ package com.benleskey.textengine.entities;
 import java.util.Optional;
 
 import com.benleskey.textengine.Client;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.model.DTime;
 import com.benleskey.textengine.systems.AvatarBroadcastSystem;
 
 public interface Avatar extends Actor {
 
+    SystemHandle<AvatarBroadcastSystem> AVATAR_BROADCAST_SYSTEM = SystemHandle.of(AvatarBroadcastSystem.class);
+
     public default Optional<Client> getClient() {
         for (Client client : getGame().getClients()) {
             if (client.getEntity().isPresent() && client.getEntity().get().getId() == this.getId()) {
@@ -25,12 +28,13 @@ public interface Avatar extends Actor {
 
     @Override
     public default DTime getActionInterval() {
-        return new DTime(1);
+        // Players act through commands, so only queued actions need a wake
+        return null;
     }
 
     @Override
     public default void receiveBroadcast(CommandOutput output) {
-        getGame().getSystem(AvatarBroadcastSystem.class)
+        getGame().getSystem(AVATAR_BROADCAST_SYSTEM)
                 .deliverBroadcast(this, output);
     }
 }
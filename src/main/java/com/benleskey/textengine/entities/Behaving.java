@@ -0,0 +1,53 @@
+package com.benleskey.textengine.entities;
+
+import java.util.List;
+import java.util.Random;
+
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.behaviors.Behavior;
+import com.benleskey.textengine.behaviors.Perception;
+import com.benleskey.textengine.model.Decision;
+import com.benleskey.textengine.systems.BehaviorSystem;
+
+/**
+ * A Deliberating actor whose AI is a list of behaviors. Perception comes from
+ * BehaviorSystem, which shares one snapshot per place among every actor due at
+ * the same time; the decision runs the highest scoring behavior.
+ */
+public interface Behaving extends Deliberating<Perception> {
+
+	SystemHandle<BehaviorSystem> BEHAVIOR_SYSTEM = SystemHandle.of(BehaviorSystem.class);
+
+	/**
+	 * @return behaviors to score, in tie-breaking order
+	 */
+	List<Behavior> getBehaviors();
+
+	/**
+	 * @return the actor's own random source, used by its behaviors
+	 */
+	Random getRandom();
+
+	@Override
+	default Perception perceive() {
+		return getGame().getSystem(BEHAVIOR_SYSTEM).perceive(this);
+	}
+
+	@Override
+	default Decision decide(Perception perception) {
+		if (perception.here() == null) {
+			return Decision.idle();
+		}
+
+		Behavior best = null;
+		double bestScore = 0;
+		for (Behavior behavior : getBehaviors()) {
+			double score = behavior.score(perception, getRandom());
+			if (score > bestScore) {
+				best = behavior;
+				bestScore = score;
+			}
+		}
+		return best != null ? best.decide(perception, getRandom()) : Decision.idle();
+	}
+}
@@ -0,0 +1,36 @@
+package com.benleskey.textengine.entities;
+
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.model.Decision;
+import com.benleskey.textengine.systems.ActionSystem;
+
+/**
+ * An Acting entity whose decision splits into a perception step that reads
+ * game state and a decision step that only uses that perception.
+ * ActionSystem decides in parallel for actors due at the same time in places
+ * far enough apart that none can perceive what another does, and commits the
+ * decisions in turn order.
+ * 
+ * @param <P> The perception snapshot type
+ */
+public interface Deliberating<P> extends Acting {
+
+	SystemHandle<ActionSystem> ACTION_SYSTEM = SystemHandle.of(ActionSystem.class);
+
+	/**
+	 * Gather everything the decision needs. Runs on the game thread.
+	 */
+	P perceive();
+
+	/**
+	 * Decide what to do from the perception alone. May run on any thread, so it
+	 * must not read or change game state beyond constants such as action types;
+	 * any randomness must come from state owned by this entity.
+	 */
+	Decision decide(P perception);
+
+	@Override
+	default void onActionReady() {
+		getGame().getSystem(ACTION_SYSTEM).commitDecision(this, decide(perceive()));
+	}
+}
@@ -0,0 +1,35 @@
+package com.benleskey.textengine.entities;
+
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.systems.PerceptionSystem;
+
+/**
+ * An Acting entity that reacts to what happens around it instead of only
+ * polling on its interval. Broadcasts it is interested in go to its perception
+ * inbox and wake it shortly afterwards; the inbox is read with
+ * PerceptionSystem.drainInbox() when it next decides.
+ */
+public interface Perceiving extends Acting {
+
+	SystemHandle<PerceptionSystem> PERCEPTION_SYSTEM = SystemHandle.of(PerceptionSystem.class);
+
+	/**
+	 * @return true if this broadcast should be noticed and wake the actor early
+	 */
+	boolean isInterestedIn(CommandOutput broadcast);
+
+	/**
+	 * How long after noticing something to wake. Anything else noticed before
+	 * then shares the same wake.
+	 */
+	default DTime getReactionDelay() {
+		return DTime.fromSeconds(5);
+	}
+
+	@Override
+	default void receiveBroadcast(CommandOutput output) {
+		getGame().getSystem(PERCEPTION_SYSTEM).deliver(this, output);
+	}
+}
@@ -0,0 +1,27 @@
+package com.benleskey.textengine.entities;
+
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.PeriodicSchedule;
+
+/**
+ * Interface for entities that broadcast on a fixed schedule, such as clocks.
+ * Register with PeriodicSystem.addPeriodic(). The PeriodicSystem computes
+ * occurrences as time passes and only renders them when someone can observe
+ * them; nothing is persisted per occurrence.
+ */
+public interface Periodic extends Entity {
+
+	PeriodicSchedule getPeriodicSchedule();
+
+	/**
+	 * Render one beat of the schedule.
+	 * World time is set to {@code when} during the call.
+	 * 
+	 * @param when The time of the beat
+	 * @param beat Which beat of the period this is (1 to count)
+	 * @return The broadcast for this beat, or null to stay silent
+	 */
+	CommandOutput renderPeriodic(DTime when, int beat);
+}
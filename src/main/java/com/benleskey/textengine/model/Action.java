@@ -3,9 +3,11 @@ package com.benleskey.textengine.model;
 import java.util.Optional;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.Acting;
 import com.benleskey.textengine.systems.ActionSystem;
 import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.UniqueTypeSystem;
 import com.benleskey.textengine.util.Logger;
 
 /**
@@ -13,10 +15,10 @@ import com.benleskey.textengine.util.Logger;
  * Actions are stored in the database and extend BaseReference for consistent ID
  * handling.
  * 
- * Action properties (actor, target, time required, etc.) are stored in a
- * flexible
- * key-value property table, allowing different action types to have different
- * properties.
+ * The standard properties (actor, target, time required) are typed columns
+ * cached by ActionSystem as an ActionRecord. Additional properties are stored
+ * in a flexible key-value property table, allowing different action types to
+ * have different properties.
  * 
  * Each action type must:
  * - Define an action type identifier (UniqueType)
@@ -25,6 +27,10 @@ import com.benleskey.textengine.util.Logger;
  * - Implement canExecute() to validate preconditions
  */
 public abstract class Action extends BaseReference {
+    private static final SystemHandle<ActionSystem> ACTION_SYSTEM = SystemHandle.of(ActionSystem.class);
+    private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+    private static final SystemHandle<UniqueTypeSystem> UNIQUE_TYPE_SYSTEM = SystemHandle.of(UniqueTypeSystem.class);
+
     protected final Logger log;
 
     public Action(long id, Game game) {
@@ -78,13 +84,13 @@ public abstract class Action extends BaseReference {
      * @return Optional containing the Reference, or empty if not set
      */
     protected <T extends Reference> Optional<T> getRefProperty(UniqueType key, Class<T> clazz) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         return aas.getActionProperty(this, key)
                 .map(id -> {
                     if (Entity.class.isAssignableFrom(clazz)) {
                         // Use EntitySystem.get(id) to look up the correct concrete type from database
                         @SuppressWarnings("unchecked")
-                        T result = (T) game.getSystem(EntitySystem.class).get(id);
+                        T result = (T) game.getSystem(ENTITY_SYSTEM).get(id);
                         return result;
                     } else {
                         // Generic Reference
@@ -104,7 +110,7 @@ public abstract class Action extends BaseReference {
      * @param value The Reference value
      */
     protected void setRefProperty(UniqueType key, Reference value) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         aas.setActionProperty(this, key, value.getId());
     }
 
@@ -115,9 +121,9 @@ public abstract class Action extends BaseReference {
      * @return Optional containing the UniqueType, or empty if not set
      */
     protected Optional<UniqueType> getTypeProperty(UniqueType key) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         return aas.getActionProperty(this, key)
-                .map(id -> new UniqueType(id, game.getSystem(com.benleskey.textengine.systems.UniqueTypeSystem.class)));
+                .map(id -> new UniqueType(id, game.getSystem(UNIQUE_TYPE_SYSTEM)));
     }
 
     /**
@@ -127,7 +133,7 @@ public abstract class Action extends BaseReference {
      * @param value The UniqueType value
      */
     protected void setTypeProperty(UniqueType key, UniqueType value) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         aas.setActionProperty(this, key, value.type());
     }
 
@@ -138,7 +144,7 @@ public abstract class Action extends BaseReference {
      * @return Optional containing the long value, or empty if not set
      */
     protected Optional<Long> getLongProperty(UniqueType key) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         return aas.getActionProperty(this, key);
     }
 
@@ -149,7 +155,7 @@ public abstract class Action extends BaseReference {
      * @param value The long value
      */
     protected void setLongProperty(UniqueType key, long value) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
         aas.setActionProperty(this, key, value);
     }
 
@@ -161,9 +167,9 @@ public abstract class Action extends BaseReference {
      * @return Optional containing the actor, or empty if not set
      */
     public Optional<Acting> getActor() {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        // All Acting entities are also Entity, so we query for Entity and cast
-        return getRefProperty(aas.PROP_ACTOR, Entity.class)
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        // All Acting entities are also Entity, so we look up the Entity and cast
+        return Optional.of(game.getSystem(ENTITY_SYSTEM).get(aas.getActionRecord(this).actorId()))
                 .filter(e -> e instanceof Acting)
                 .map(e -> (Acting) e);
     }
@@ -174,9 +180,8 @@ public abstract class Action extends BaseReference {
      * @param actor The actor
      */
     public void setActor(Acting actor) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        // Acting extends Entity which extends Reference
-        setRefProperty(aas.PROP_ACTOR, (Reference) actor);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        aas.updateActionRecord(aas.getActionRecord(this).withActorId(actor.getId()));
     }
 
     /**
@@ -185,8 +190,9 @@ public abstract class Action extends BaseReference {
      * @return Optional containing the target entity, or empty if not set
      */
     public Optional<Entity> getTarget() {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        return getRefProperty(aas.PROP_TARGET, Entity.class);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        return Optional.ofNullable(aas.getActionRecord(this).targetId())
+                .map(id -> game.getSystem(ENTITY_SYSTEM).get(id));
     }
 
     /**
@@ -195,8 +201,8 @@ public abstract class Action extends BaseReference {
      * @param target The target entity
      */
     public void setTarget(Entity target) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        setRefProperty(aas.PROP_TARGET, target);
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        aas.updateActionRecord(aas.getActionRecord(this).withTargetId(target.getId()));
     }
 
     /**
@@ -205,10 +211,8 @@ public abstract class Action extends BaseReference {
      * @return Time required, or zero if not set
      */
     public DTime getTimeRequired() {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        return getLongProperty(aas.PROP_TIME_REQUIRED)
-                .map(ms -> DTime.fromMilliseconds(ms))
-                .orElse(DTime.fromMilliseconds(0));
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        return aas.getActionRecord(this).timeRequired();
     }
 
     /**
@@ -217,7 +221,7 @@ public abstract class Action extends BaseReference {
      * @param timeRequired Time required
      */
     public void setTimeRequired(DTime timeRequired) {
-        ActionSystem aas = game.getSystem(ActionSystem.class);
-        setLongProperty(aas.PROP_TIME_REQUIRED, timeRequired.toMilliseconds());
+        ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+        aas.updateActionRecord(aas.getActionRecord(this).withTimeRequired(timeRequired));
     }
 }
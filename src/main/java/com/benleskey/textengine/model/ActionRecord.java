@@ -0,0 +1,32 @@
+package com.benleskey.textengine.model;
+
+/**
+ * Immutable snapshot of an action's standard columns, loaded in one query.
+ * createdAt is null until the action has been scheduled.
+ */
+public record ActionRecord(long actionId, UniqueType actionType, long actorId, Long targetId, DTime timeRequired,
+		DTime createdAt) {
+
+	/**
+	 * @return the time the action is ready to execute, or null if not scheduled
+	 */
+	public DTime readyTime() {
+		return createdAt != null ? createdAt.add(timeRequired) : null;
+	}
+
+	public ActionRecord withActorId(long actorId) {
+		return new ActionRecord(actionId, actionType, actorId, targetId, timeRequired, createdAt);
+	}
+
+	public ActionRecord withTargetId(Long targetId) {
+		return new ActionRecord(actionId, actionType, actorId, targetId, timeRequired, createdAt);
+	}
+
+	public ActionRecord withTimeRequired(DTime timeRequired) {
+		return new ActionRecord(actionId, actionType, actorId, targetId, timeRequired, createdAt);
+	}
+
+	public ActionRecord withCreatedAt(DTime createdAt) {
+		return new ActionRecord(actionId, actionType, actorId, targetId, timeRequired, createdAt);
+	}
+}
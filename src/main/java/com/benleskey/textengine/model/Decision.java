@@ -0,0 +1,31 @@
+package com.benleskey.textengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.benleskey.textengine.commands.CommandOutput;
+
+/**
+ * What a deliberating actor chose to do: broadcasts to send, then at most one
+ * action to queue. Built without touching game state and applied later by
+ * ActionSystem.commitDecision().
+ */
+public record Decision(List<CommandOutput> broadcasts, UniqueType actionType, Entity target, DTime timeRequired) {
+
+	public static Decision idle() {
+		return new Decision(List.of(), null, null, null);
+	}
+
+	public static Decision act(UniqueType actionType, Entity target, DTime timeRequired) {
+		return new Decision(List.of(), actionType, target, timeRequired);
+	}
+
+	/**
+	 * @return a copy that also sends {@code output} before any action is queued
+	 */
+	public Decision withBroadcast(CommandOutput output) {
+		List<CommandOutput> combined = new ArrayList<>(broadcasts);
+		combined.add(output);
+		return new Decision(List.copyOf(combined), actionType, target, timeRequired);
+	}
+}
@@ -0,0 +1,46 @@
+package com.benleskey.textengine.model;
+
+/**
+ * A repeating schedule of beats: every {@code period}, starting at
+ * {@code offset}, {@code count} beats fire {@code spacing} apart.
+ * Occurrences are computed arithmetically, so nothing is stored per beat.
+ */
+public record PeriodicSchedule(DTime period, DTime offset, int count, DTime spacing) {
+
+	public PeriodicSchedule {
+		if (period.raw() <= 0 || count < 1 || spacing.raw() < 0 || (count > 1 && spacing.raw() == 0)
+				|| (count - 1) * spacing.raw() >= period.raw()) {
+			throw new IllegalArgumentException("Beats must fit inside a positive period");
+		}
+	}
+
+	/**
+	 * A single beat every period.
+	 */
+	public static PeriodicSchedule every(DTime period, DTime offset) {
+		return new PeriodicSchedule(period, offset, 1, DTime.ZERO);
+	}
+
+	/**
+	 * @return the time of the first beat strictly after {@code time}
+	 */
+	public long nextBeatAfter(long time) {
+		long cycle = Math.floorDiv(time - offset.raw(), period.raw());
+		for (long k = cycle; ; k++) {
+			long start = k * period.raw() + offset.raw();
+			long beat = time < start ? 0
+					: spacing.raw() == 0 ? count : Math.floorDiv(time - start, spacing.raw()) + 1;
+			if (beat < count) {
+				return start + beat * spacing.raw();
+			}
+		}
+	}
+
+	/**
+	 * @return which beat (1 to count) falls at {@code time}, assuming it is a beat time
+	 */
+	public int beatAt(long time) {
+		long intoCycle = Math.floorMod(time - offset.raw(), period.raw());
+		return spacing.raw() == 0 ? 1 : (int) (intoCycle / spacing.raw()) + 1;
+	}
+}
@@ -88,7 +88,7 @@ public class DicePlugin extends Plugin implements OnPluginInitialize {
 
     private void handleRoll(com.benleskey.textengine.Client client, CommandInput input) {
         // Check which variant was used by checking if pool size is present
-        if (input.values.containsKey(M_POOL_SIZE)) {
+        if (input.has(M_POOL_SIZE)) {
             handlePoolRoll(client, input);
         } else {
             handleGenericRoll(client, input);
@@ -33,5 +33,9 @@ public class EntityPlugin extends Plugin implements OnPluginInitialize {
 		game.registerSystem(new EntityDescriptionSystem(game));
 		game.registerSystem(new AvatarBroadcastSystem(game));
 		game.registerSystem(new ActionSystem(game));
+		game.registerSystem(new PeriodicSystem(game));
+		game.registerSystem(new SimulationLodSystem(game));
+		game.registerSystem(new PerceptionSystem(game));
+		game.registerSystem(new BehaviorSystem(game));
 	}
 }
@@ -51,7 +51,7 @@ public class HelpCommandPlugin extends Plugin implements OnPluginInitialize {
     }
 
     private void handleHelp(Client client, CommandInput input) {
-        if (input.values.containsKey(M_TOPIC)) {
+        if (input.has(M_TOPIC)) {
             handleHelpTopic(client, input.get(M_TOPIC));
         } else {
             handleHelpList(client);
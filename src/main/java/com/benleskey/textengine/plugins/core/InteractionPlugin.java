@@ -310,33 +310,37 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 		List<ConnectionDescriptor> exits = connectionSystem.getConnections(currentLocation,
 				worldSystem.getCurrentTime());
 
-		// Convert environment data to the format expected by buildEnhancedLookOutput
+		// Fetch looks for everything shown in one query, then split by section
+		List<Entity> shown = new java.util.ArrayList<>();
+		shown.addAll(env.actorsHere);
+		shown.addAll(env.itemsHere);
+		shown.addAll(env.distantLandmarks);
+		shown.addAll(exits.stream().map(ConnectionDescriptor::getTo).toList());
+		Map<Entity, List<LookDescriptor>> allLooks = lookSystem.getLooksFromEntities(shown,
+				worldSystem.getCurrentTime());
+
 		// nearbyLooks: non-item entities (actors, etc.)
-		Map<Entity, List<LookDescriptor>> nearbyLooks = env.actorsHere.stream()
-				.collect(Collectors.toMap(
-						e -> e,
-						e -> lookSystem.getLooksFromEntity(e, worldSystem.getCurrentTime())));
+		Map<Entity, List<LookDescriptor>> nearbyLooks = new java.util.LinkedHashMap<>();
+		env.actorsHere.forEach(e -> nearbyLooks.put(e, allLooks.get(e)));
 
 		// itemLooks: items at location (already excludes containers in some contexts)
-		Map<Entity, List<LookDescriptor>> itemLooks = env.itemsHere.stream()
-				.collect(Collectors.toMap(
-						e -> e,
-						e -> lookSystem.getLooksFromEntity(e, worldSystem.getCurrentTime())));
+		Map<Entity, List<LookDescriptor>> itemLooks = new java.util.LinkedHashMap<>();
+		env.itemsHere.forEach(e -> itemLooks.put(e, allLooks.get(e)));
 
 		// distantLooks: landmarks visible from distance
-		Map<Entity, List<LookDescriptor>> distantLooks = env.distantLandmarks.stream()
-				.collect(Collectors.toMap(
-						e -> e,
-						e -> lookSystem.getLooksFromEntity(e, worldSystem.getCurrentTime())));
+		Map<Entity, List<LookDescriptor>> distantLooks = new java.util.LinkedHashMap<>();
+		env.distantLandmarks.forEach(e -> distantLooks.put(e, allLooks.get(e)));
 
 		client.sendOutput(
-				buildEnhancedLookOutput(client, env.locationLooks, exits, nearbyLooks, itemLooks, distantLooks));
+				buildEnhancedLookOutput(client, env.locationLooks, exits, allLooks, nearbyLooks, itemLooks,
+						distantLooks));
 	}
 
 	private CommandOutput buildEnhancedLookOutput(
 			Client client,
 			List<LookDescriptor> locationLooks,
 			List<ConnectionDescriptor> exits,
+			Map<Entity, List<LookDescriptor>> exitLooks,
 			Map<Entity, List<LookDescriptor>> nearbyLooks,
 			Map<Entity, List<LookDescriptor>> itemLooks,
 			Map<Entity, List<LookDescriptor>> distantLooks) {
@@ -362,8 +366,8 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 
 			// Build machine-readable exit data
 			for (ConnectionDescriptor exit : exits) {
-				String description = entityDescriptionSystem.getSimpleDescription(exit.getTo(),
-						worldSystem.getCurrentTime(), "unknown");
+				List<LookDescriptor> looks = exitLooks.get(exit.getTo());
+				String description = !looks.isEmpty() ? looks.get(0).getDescription() : "unknown";
 				exitMessage.put(description, exit.getTo().getKeyId());
 			}
 
@@ -378,8 +382,7 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 					}
 				}
 
-				List<LookDescriptor> looks = lookSystem.getLooksFromEntity(exits.get(i).getTo(),
-						worldSystem.getCurrentTime());
+				List<LookDescriptor> looks = exitLooks.get(exits.get(i).getTo());
 				String description = !looks.isEmpty() ? looks.get(0).getDescription() : "unknown";
 				joined.add(Markup.em(description));
 			}
@@ -449,6 +452,18 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 			// Extract items and their descriptions
 			List<Entity> items = new java.util.ArrayList<>(itemLooks.keySet());
 
+			// Contents of every item and their descriptions, one query each
+			Map<Entity, List<com.benleskey.textengine.model.RelationshipDescriptor>> contents = relationshipSystem
+					.getReceivingRelationships(items.stream().filter(e -> e instanceof Item).toList(),
+							relationshipSystem.rvContains, worldSystem.getCurrentTime());
+			Map<Entity, String> contentDescriptions = entityDescriptionSystem.getSimpleDescriptions(
+					contents.values().stream()
+							.flatMap(List::stream)
+							.map(com.benleskey.textengine.model.RelationshipDescriptor::getReceiver)
+							.filter(e -> e instanceof Item)
+							.toList(),
+					worldSystem.getCurrentTime(), "something");
+
 			// Build entity message for machine-readable API
 			for (Entity item : items) {
 				List<LookDescriptor> looks = itemLooks.get(item);
@@ -466,9 +481,7 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 
 				// Add container contents if this item is a container
 				if (item instanceof Item) {
-					List<com.benleskey.textengine.model.RelationshipDescriptor> itemContents = relationshipSystem
-							.getReceivingRelationships(item, relationshipSystem.rvContains,
-									worldSystem.getCurrentTime());
+					List<com.benleskey.textengine.model.RelationshipDescriptor> itemContents = contents.get(item);
 
 					if (!itemContents.isEmpty()) {
 						List<Map<String, Object>> contentsList = new java.util.ArrayList<>();
@@ -476,8 +489,7 @@ public class InteractionPlugin extends Plugin implements OnPluginInitialize {
 						for (com.benleskey.textengine.model.RelationshipDescriptor rd : itemContents) {
 							Entity contentItem = rd.getReceiver();
 							if (contentItem instanceof Item) {
-								String contentDesc = entityDescriptionSystem.getSimpleDescription(contentItem,
-										worldSystem.getCurrentTime(), "something");
+								String contentDesc = contentDescriptions.get(contentItem);
 
 								Map<String, Object> contentData = new java.util.HashMap<>();
 								contentData.put("entity_id", contentItem.getKeyId());
@@ -608,6 +608,9 @@ public class ItemInteractionPlugin extends Plugin implements OnPluginInitialize
 			return;
 		}
 
+		Map<Entity, String> descriptions = entityDescriptionSystem.getSimpleDescriptions(carriedItems,
+				worldSystem.getCurrentTime(), "something");
+
 		// Build simple list without numeric IDs
 		java.util.List<Markup.Safe> parts = new java.util.ArrayList<>();
 		parts.add(Markup.raw("You are carrying: "));
@@ -621,11 +624,7 @@ public class ItemInteractionPlugin extends Plugin implements OnPluginInitialize
 				}
 			}
 
-			// Get item description
-
-			String description = entityDescriptionSystem.getSimpleDescription(carriedItems.get(i),
-					worldSystem.getCurrentTime(), "something");
-			parts.add(Markup.em(description));
+			parts.add(Markup.em(descriptions.get(carriedItems.get(i))));
 		}
 		parts.add(Markup.raw("."));
 
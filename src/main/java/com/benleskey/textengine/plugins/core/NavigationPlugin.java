@@ -11,7 +11,9 @@ import com.benleskey.textengine.hooks.core.OnPluginInitialize;
 import com.benleskey.textengine.model.ActionValidation;
 import com.benleskey.textengine.model.DTime;
 import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.entities.Avatar;
 import com.benleskey.textengine.systems.ActionSystem;
+import com.benleskey.textengine.systems.AvatarBroadcastSystem;
 import com.benleskey.textengine.systems.ConnectionSystem;
 import com.benleskey.textengine.systems.CommandHelpSystem;
 import com.benleskey.textengine.systems.DisambiguationSystem;
@@ -19,10 +21,12 @@ import com.benleskey.textengine.systems.EntityDescriptionSystem;
 import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.RelationshipSystem;
 import com.benleskey.textengine.systems.SpatialSystem;
+import com.benleskey.textengine.systems.TickSystem;
 import com.benleskey.textengine.systems.VisibilitySystem;
 import com.benleskey.textengine.systems.WorldSystem;
 import com.benleskey.textengine.util.Markup;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -39,12 +43,21 @@ public class NavigationPlugin extends Plugin implements OnPluginInitialize {
 	public static final String M_GO_FAIL = "go_fail";
 	public static final String M_GO_DESTINATION = "destination";
 	public static final String M_GO_EXIT = "exit";
+	public static final String TRAVEL = "travel";
+	public static final String TRAVEL_DESTINATION = "travel_destination";
+	public static final String M_TRAVEL_SUCCESS = "travel_success";
+	public static final String M_TRAVEL_FAIL = "travel_fail";
+	public static final String M_TRAVEL_STEPS = "steps";
+	public static final String M_TRAVEL_REACHED = "reached";
+	// Longest journey planned by one travel command
+	private static final int MAX_TRAVEL_STEPS = 200;
 
 	// Error codes
 	public static final String ERR_NO_DIRECTION = "no_direction";
 	public static final String ERR_PLAYER_NOWHERE = "player_nowhere";
 	public static final String ERR_NO_EXIT = "no_exit";
 	public static final String ERR_NO_EXITS = "no_exits";
+	public static final String ERR_NO_ROUTE = "no_route";
 
 	// System fields
 	private ConnectionSystem connectionSystem;
@@ -56,6 +69,8 @@ public class NavigationPlugin extends Plugin implements OnPluginInitialize {
 	private SpatialSystem spatialSystem;
 	private ActionSystem actorActionSystem;
 	private EntitySystem entitySystem;
+	private TickSystem tickSystem;
+	private AvatarBroadcastSystem avatarBroadcastSystem;
 
 	public NavigationPlugin(Game game) {
 		super(game);
@@ -78,16 +93,23 @@ public class NavigationPlugin extends Plugin implements OnPluginInitialize {
 		spatialSystem = game.getSystem(SpatialSystem.class);
 		actorActionSystem = game.getSystem(ActionSystem.class);
 		entitySystem = game.getSystem(EntitySystem.class);
+		tickSystem = game.getSystem(TickSystem.class);
+		avatarBroadcastSystem = game.getSystem(AvatarBroadcastSystem.class);
 
 		// Register help
 		CommandHelpSystem helpSystem = game.getSystem(CommandHelpSystem.class);
 		helpSystem.registerHelp("go <destination>",
 				"Move to a destination.\nExamples: go north, go forest, go #1234");
+		helpSystem.registerHelp("travel to <destination>",
+				"Travel all the way to a destination you can see, one place after another.\nExamples: travel to castle, travel to #1234");
 
 		game.registerCommand(new Command(GO, this::handleGo,
 				// Match: go north, go n, go castle, go #1234 (entity ID), etc.
 				// Accepts both destination names and entity IDs with # prefix
-				new CommandVariant(GO_DIRECTION, "^(?:go|move|travel)\\s+(.+?)\\s*$", this::parseGo)));
+				new CommandVariant(GO_DIRECTION, "^(?:go|move)\\s+(.+?)\\s*$", this::parseGo)));
+
+		game.registerCommand(new Command(TRAVEL, this::handleTravel,
+				new CommandVariant(TRAVEL_DESTINATION, "^travel\\s+(?:to\\s+)?(.+?)\\s*$", this::parseGo)));
 	}
 
 	private CommandInput parseGo(Matcher matcher) {
@@ -192,12 +214,13 @@ public class NavigationPlugin extends Plugin implements OnPluginInitialize {
 				return;
 			}
 
-			// Use SpatialSystem to find the exit that moves us closest to the landmark at
-			// continent scale
-
-			// Find which exit destination is closest to the landmark
-			Entity closestDestination = spatialSystem.findClosestToTarget(
-					SpatialSystem.SCALE_CONTINENT, exitDestinations, matchedDestination);
+			// Search the connection graph for a route toward the landmark at continent
+			// scale, falling back to the exit spatially closest to it
+			List<Entity> route = connectionSystem.findRoute(currentLocation, matchedDestination,
+					SpatialSystem.SCALE_CONTINENT);
+			Entity closestDestination = !route.isEmpty() ? route.get(0)
+					: spatialSystem.findClosestToTarget(SpatialSystem.SCALE_CONTINENT, exitDestinations,
+							matchedDestination);
 
 			if (closestDestination != null) {
 				// Find the exit descriptor for the closest destination
@@ -272,4 +295,126 @@ public class NavigationPlugin extends Plugin implements OnPluginInitialize {
 							Markup.raw("."))));
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Plan a route to a visible destination once and queue every move as a
+	 * chain. The journey runs with the rest of the world's ticks; only a summary
+	 * and the final look are shown, once it is over. Routes that end at unexplored places are extended from
+	 * there after generating them, up to MAX_TRAVEL_STEPS.
+	 */
+	private void handleTravel(Client client, CommandInput input) {
+		Avatar actor = client.getEntity().orElse(null);
+		if (actor == null) {
+			client.sendOutput(Client.NO_ENTITY);
+			return;
+		}
+
+		String userInput = input.<String>getO(M_GO_EXIT).orElse("");
+		DTime now = worldSystem.getCurrentTime();
+
+		var containers = relationshipSystem.getProvidingRelationships(actor, relationshipSystem.rvContains, now);
+		if (containers.isEmpty()) {
+			client.sendOutput(CommandOutput.make(M_TRAVEL_FAIL)
+					.put(CommandOutput.M_ERROR, ERR_PLAYER_NOWHERE)
+					.text(Markup.escape("You are nowhere. This should not happen.")));
+			return;
+		}
+		Entity currentLocation = containers.get(0).getProvider();
+
+		// Anything go could reach: exits and distant landmarks
+		List<Entity> candidates = new ArrayList<>(connectionSystem.getConnections(currentLocation, now).stream()
+				.map(com.benleskey.textengine.model.ConnectionDescriptor::getTo)
+				.toList());
+		visibilitySystem.getVisibleEntities(actor).stream()
+				.filter(vd -> vd.getDistanceLevel() == VisibilitySystem.VisibilityLevel.DISTANT)
+				.map(vd -> vd.getEntity())
+				.forEach(candidates::add);
+
+		DisambiguationSystem.ResolutionResult<Entity> result = disambiguationSystem.resolveEntityWithAmbiguity(
+				client,
+				userInput,
+				candidates,
+				destination -> entityDescriptionSystem.getSimpleDescription(destination, now));
+		if (result.isNotFound()) {
+			client.sendOutput(CommandOutput.make(M_TRAVEL_FAIL)
+					.put(CommandOutput.M_ERROR, ERR_NO_EXIT)
+					.text(Markup.escape("You don't see any such place.")));
+			return;
+		}
+		if (result.isAmbiguous()) {
+			disambiguationSystem.sendDisambiguationPrompt(
+					client,
+					M_TRAVEL_FAIL,
+					userInput,
+					result.getAmbiguousMatches(),
+					destination -> entityDescriptionSystem.getSimpleDescription(destination, now));
+			return;
+		}
+		Entity target = result.getUniqueMatch();
+
+		// Plan the whole route up front, generating unexplored places as they are reached
+		List<Entity> route = new ArrayList<>();
+		Entity from = currentLocation;
+		while (!from.equals(target) && route.size() < MAX_TRAVEL_STEPS) {
+			List<Entity> leg = connectionSystem.findRoute(from, target, SpatialSystem.SCALE_CONTINENT);
+			if (leg.isEmpty()) {
+				break;
+			}
+			for (Entity place : leg) {
+				if (route.size() >= MAX_TRAVEL_STEPS) {
+					break;
+				}
+				entitySystem.ensurePopulated(place);
+				route.add(place);
+			}
+			from = route.get(route.size() - 1);
+		}
+
+		if (route.isEmpty()) {
+			client.sendOutput(CommandOutput.make(M_TRAVEL_FAIL)
+					.put(CommandOutput.M_ERROR, ERR_NO_ROUTE)
+					.text(Markup.escape("You can't find a way there.")));
+			return;
+		}
+
+		DTime moveTime = DTime.fromSeconds(60);
+		avatarBroadcastSystem.setTravelling(actor, true);
+		ActionValidation validation = actorActionSystem.queueActions(actor, actorActionSystem.ACTION_MOVE, route,
+				moveTime);
+		if (!validation.isValid()) {
+			avatarBroadcastSystem.setTravelling(actor, false);
+			client.sendOutput(validation.getErrorOutput());
+			return;
+		}
+		// Queuing moved the clock to the arrival time; summarize once ticks get there
+		DTime arrived = worldSystem.getCurrentTime();
+		tickSystem.runWhenCaughtUp(arrived, () -> {
+			avatarBroadcastSystem.setTravelling(actor, false);
+			sendTravelSummary(client, route, target, moveTime, arrived);
+		});
+	}
+
+	private void sendTravelSummary(Client client, List<Entity> route, Entity target, DTime moveTime,
+			DTime arrived) {
+		Entity end = route.get(route.size() - 1);
+		boolean reached = end.equals(target);
+		String endDesc = entityDescriptionSystem.getSimpleDescription(end, arrived, "somewhere");
+		String targetDesc = entityDescriptionSystem.getSimpleDescription(target, arrived, "your destination");
+		long minutes = moveTime.toMilliseconds() * route.size() / 60000;
+
+		client.sendOutput(CommandOutput.make(M_TRAVEL_SUCCESS)
+				.put(M_GO_DESTINATION, end.getKeyId())
+				.put(M_TRAVEL_STEPS, route.size())
+				.put(M_TRAVEL_REACHED, reached)
+				.put(WorldSystem.M_DURATION, moveTime.toMilliseconds() * route.size())
+				.text(Markup.concat(
+						Markup.raw(String.format("You travel for %d minute%s through %d place%s and ", minutes,
+								minutes == 1 ? "" : "s", route.size(), route.size() == 1 ? "" : "s")),
+						reached
+								? Markup.concat(Markup.raw("arrive at "), Markup.em(endDesc), Markup.raw("."))
+								: Markup.concat(Markup.raw("stop at "), Markup.em(endDesc),
+										Markup.raw(", as close to "), Markup.em(targetDesc),
+										Markup.raw(" as you can find a way.")))));
+		game.feedCommand(client, CommandInput.make(InteractionPlugin.LOOK));
+	}
+}
@@ -36,9 +36,9 @@ public class WaitCommandPlugin extends Plugin implements OnPluginInitialize {
     // System fields
     private ActionSystem actorActionSystem;
 
-    // Pattern for parsing durations like "1 minute", "2 hours", "30 seconds", "30"
+    // Pattern for parsing durations like "1 minute", "2 hours", "1 day", "30"
     private static final Pattern DURATION_PATTERN = Pattern.compile(
-            "^(\\d+)\\s*(second|seconds|minute|minutes|hour|hours|s|m|h)?$",
+            "^(\\d+)\\s*(second|seconds|minute|minutes|hour|hours|day|days|s|m|h|d)?$",
             Pattern.CASE_INSENSITIVE);
 
     public WaitCommandPlugin(Game game) {
@@ -58,7 +58,7 @@ public class WaitCommandPlugin extends Plugin implements OnPluginInitialize {
         // Register help
         CommandHelpSystem helpSystem = game.getSystem(CommandHelpSystem.class);
         helpSystem.registerHelp("wait [<duration>]",
-                "Wait for a period of time.\nExamples: wait, wait 30, wait 1 minute, wait 2 hours");
+                "Wait for a period of time.\nExamples: wait, wait 30, wait 1 minute, wait 2 hours, wait 1 day");
 
         game.registerCommand(new Command(WAIT, this::handleWait,
                 new CommandVariant(WAIT_DURATION, "^(?:wait)(?:\\s+(.+?))?\\s*$", this::parseWait)));
@@ -108,13 +108,18 @@ public class WaitCommandPlugin extends Plugin implements OnPluginInitialize {
                         case "hours":
                             seconds = amount * 3600L;
                             break;
+                        case "d":
+                        case "day":
+                        case "days":
+                            seconds = amount * 86400L;
+                            break;
                     }
                 }
             } else {
                 client.sendOutput(CommandOutput.make(M_WAIT)
                         .put(CommandOutput.M_ERROR, ERR_INVALID_DURATION)
                         .text(Markup
-                                .escape("Invalid duration format. Use: wait, wait 30, wait 1 minute, wait 2 hours")));
+                                .escape("Invalid duration format. Use: wait, wait 30, wait 1 minute, wait 2 hours, wait 1 day")));
                 return;
             }
         }
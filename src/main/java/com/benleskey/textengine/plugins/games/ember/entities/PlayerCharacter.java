@@ -18,7 +18,7 @@ public class PlayerCharacter extends BaseEntity implements Avatar {
         PlayerCharacter actor = entitySystem.add(PlayerCharacter.class);
         lookSystem.addLook(actor, lookSystem.LOOK_BASIC, actor.toString());
         entitySystem.addTag(actor, entitySystem.TAG_AVATAR);
-        entitySystem.addTag(actor, actorActionSystem.TAG_ACTING);
+        actorActionSystem.addActing(actor);
         return actor;
     }
 
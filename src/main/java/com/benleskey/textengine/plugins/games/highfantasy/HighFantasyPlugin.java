@@ -88,7 +88,7 @@ public class HighFantasyPlugin extends Plugin implements OnCoreSystemsReady {
 		entityDescriptionSystem = game.getSystem(EntityDescriptionSystem.class);
 		nameGenerationSystem = game.getSystem(NameGenerationSystem.class);
 
-		// Register clock types and actions (delegated to GrandfatherClock)
+		// Register clock types (delegated to GrandfatherClock)
 		GrandfatherClock.registerTypes(game);
 
 		// Register content (needs systems initialized)
@@ -1,6 +1,7 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.Item;
 import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.ItemSystem;
@@ -13,6 +14,10 @@ import java.util.Random;
  */
 public class AncientCoin extends Item {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+
 	private static final String[] DESCRIPTIONS = {
 			"an ancient coin",
 			"a tarnished coin",
@@ -31,9 +36,9 @@ public class AncientCoin extends Item {
 	 * @return The created and configured coin entity
 	 */
 	public static AncientCoin create(Game game, Random random) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
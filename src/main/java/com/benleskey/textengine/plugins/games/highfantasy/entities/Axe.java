@@ -1,6 +1,7 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.Item;
 import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.ItemSystem;
@@ -15,6 +16,10 @@ import java.util.Random;
  */
 public class Axe extends Item {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+
 	private static final String[] DESCRIPTIONS = {
 			"a rusty axe",
 			"a weathered hatchet",
@@ -33,9 +38,9 @@ public class Axe extends Item {
 	 * @return The created and configured axe entity
 	 */
 	public static Axe create(Game game, Random random) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
@@ -4,35 +4,54 @@ import java.util.List;
 import java.util.Random;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.actions.DropItemAction;
+import com.benleskey.textengine.actions.MoveAction;
+import com.benleskey.textengine.behaviors.Behavior;
+import com.benleskey.textengine.behaviors.PatrolBehavior;
+import com.benleskey.textengine.behaviors.Perception;
+import com.benleskey.textengine.behaviors.ScavengeBehavior;
 import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.entities.Actor;
-import com.benleskey.textengine.model.ActionValidation;
+import com.benleskey.textengine.entities.Behaving;
+import com.benleskey.textengine.entities.Perceiving;
 import com.benleskey.textengine.model.BaseEntity;
 import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Decision;
 import com.benleskey.textengine.model.Entity;
-import com.benleskey.textengine.model.UniqueType;
 import com.benleskey.textengine.systems.ActionSystem;
-import com.benleskey.textengine.systems.BroadcastSystem;
+import com.benleskey.textengine.systems.BehaviorSystem;
 import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.ItemSystem;
 import com.benleskey.textengine.systems.LookSystem;
 import com.benleskey.textengine.systems.RelationshipSystem;
-import com.benleskey.textengine.systems.UniqueTypeSystem;
-import com.benleskey.textengine.systems.WorldSystem;
 import com.benleskey.textengine.util.Markup;
+import com.benleskey.textengine.util.Message;
 
 /**
  * Goblin NPC - patrols between locations and interacts with items.
  * 
- * Implements Acting interface - ActionSystem calls onActionReady() when:
+ * Deliberates when:
  * - No pending action exists
  * - Enough time has passed since last check (getActionInterval())
+ * - Shortly after noticing someone arrive or drop something nearby
  * 
+ * Chooses between patrolling and scavenging by utility (see Behaving), using
+ * its own seeded Random so goblins can decide in parallel.
  * AI logic only - all execution handled by ActionSystem.
  */
-public class Goblin extends BaseEntity implements Actor {
+public class Goblin extends BaseEntity implements Actor, Behaving, Perceiving {
+
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<RelationshipSystem> RELATIONSHIP_SYSTEM =
+			SystemHandle.of(RelationshipSystem.class);
+	private static final SystemHandle<BehaviorSystem> BEHAVIOR_SYSTEM = SystemHandle.of(BehaviorSystem.class);
+	private static final SystemHandle<ActionSystem> ACTION_SYSTEM = SystemHandle.of(ActionSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
 
 	private final Random random;
+	private List<Behavior> behaviors;
 
 	public Goblin(long id, Game game) {
 		super(id, game);
@@ -40,21 +59,20 @@ public class Goblin extends BaseEntity implements Actor {
 	}
 
 	public static Goblin create(Game game, Entity startLocation, Entity roomA, Entity roomB) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		RelationshipSystem rs = game.getSystem(RelationshipSystem.class);
-		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		RelationshipSystem rs = game.getSystem(RELATIONSHIP_SYSTEM);
+		BehaviorSystem bs = game.getSystem(BEHAVIOR_SYSTEM);
+		ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		Goblin goblin = es.add(Goblin.class);
 
-		UniqueType patrolTarget = uts.getType("patrol_target");
-		rs.add(goblin, roomA, patrolTarget);
-		rs.add(goblin, roomB, patrolTarget);
+		rs.add(goblin, roomA, bs.rvPatrolTarget);
+		rs.add(goblin, roomB, bs.rvPatrolTarget);
 
 		ls.addLook(goblin, ls.LOOK_BASIC, "a goblin");
-		es.addTag(goblin, aas.TAG_ACTING);
+		aas.addActing(goblin);
 		// Goblin can carry up to 5kg
 		es.addTag(goblin, is.TAG_CARRY_WEIGHT, 5000L);
 		rs.add(startLocation, goblin, rs.rvContains);
@@ -64,112 +82,52 @@ public class Goblin extends BaseEntity implements Actor {
 
 	@Override
 	public DTime getActionInterval() {
-		return DTime.fromSeconds(600); // 10 minutes
+		// Only a fallback; arrivals and drops nearby wake the goblin sooner
+		return DTime.fromSeconds(6000);
 	}
 
 	@Override
-	public void onActionReady() {
-		// AI: Decide what to do (no pending action, ready for new action)
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-		BroadcastSystem bs = game.getSystem(BroadcastSystem.class);
-		WorldSystem ws = game.getSystem(WorldSystem.class);
+	public boolean isInterestedIn(CommandOutput broadcast) {
+		if (broadcast.hasId(EntitySystem.M_ACTOR_ID, getId())) {
+			return false;
+		}
+		String id = broadcast.<String>getO(Message.M_OUTPUT_ID).orElse("");
+		return id.equals(MoveAction.BROADCAST_ARRIVES) || id.equals(DropItemAction.BROADCAST_DROPS);
+	}
 
-		DTime currentTime = ws.getCurrentTime();
-		log.log("onActionReady called at time %d", currentTime.toMilliseconds());
+	@Override
+	public List<Behavior> getBehaviors() {
+		if (behaviors == null) {
+			ActionSystem aas = game.getSystem(ACTION_SYSTEM);
+			ItemSystem is = game.getSystem(ITEM_SYSTEM);
+			behaviors = List.of(
+					new PatrolBehavior(aas.ACTION_MOVE, DTime.fromSeconds(60)),
+					new ScavengeBehavior(aas.ACTION_ITEM_TAKE, aas.ACTION_ITEM_DROP, is.TAG_CONTAINER,
+							DTime.fromSeconds(30)));
+		}
+		return behaviors;
+	}
 
-		LookSystem.LookEnvironment env = ls.getLookEnvironment(this);
+	@Override
+	public Random getRandom() {
+		return random;
+	}
 
-		if (env == null) {
-			log.log("has no location");
-			return;
+	@Override
+	public Decision decide(Perception perception) {
+		if (perception.here() == null) {
+			return Decision.idle();
 		}
 
 		// Announce the time (instant action)
-		long hours = (currentTime.toMilliseconds() / (1000 * 60 * 60)) % 24;
-		long minutes = (currentTime.toMilliseconds() / (1000 * 60)) % 60;
+		long currentMs = perception.currentTime().toMilliseconds();
+		long hours = (currentMs / (1000 * 60 * 60)) % 24;
+		long minutes = (currentMs / (1000 * 60)) % 60;
 		String timeStr = String.format("%02d:%02d", hours, minutes);
 
 		CommandOutput announcement = new CommandOutput();
 		announcement.text(Markup.raw(String.format("The goblin mutters '%s'.", timeStr)));
-		bs.broadcast(this, announcement);
 
-		log.log("announced time: %s", timeStr);
-
-		// Randomly choose between moving and item actions
-		if (random.nextBoolean()) {
-			decideMove(env, aas);
-		} else {
-			decideItemAction(env, aas);
-		}
-	}
-
-	/**
-	 * AI: Decide where to move.
-	 * Prefers patrol targets, falls back to random exits.
-	 */
-	private void decideMove(LookSystem.LookEnvironment env, ActionSystem aas) {
-		RelationshipSystem rs = game.getSystem(RelationshipSystem.class);
-		WorldSystem ws = game.getSystem(WorldSystem.class);
-		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
-
-		UniqueType patrolTarget = uts.getType("patrol_target");
-		List<Entity> patrolTargets = rs.getReceivingRelationships(this, patrolTarget, ws.getCurrentTime())
-				.stream()
-				.map(rd -> rd.getReceiver())
-				.filter(t -> t.getId() != env.currentLocation.getId()) // Don't go to current location
-				.toList();
-
-		Entity destination;
-		if (!patrolTargets.isEmpty()) {
-			destination = patrolTargets.get(random.nextInt(patrolTargets.size()));
-			log.log("queueing patrol move to %d", destination.getId());
-		} else if (!env.exits.isEmpty()) {
-			destination = env.exits.get(random.nextInt(env.exits.size()));
-			log.log("queueing random move to %d", destination.getId());
-		} else {
-			log.log("no exits available");
-			return;
-		}
-
-		// Queue move via ActionSystem
-		aas.queueAction(this, aas.ACTION_MOVE, destination, DTime.fromSeconds(60));
-	}
-
-	/**
-	 * AI: Decide what to do with items.
-	 * Randomly takes or drops items.
-	 */
-	private void decideItemAction(LookSystem.LookEnvironment env, ActionSystem aas) {
-		ItemSystem is = game.getSystem(ItemSystem.class);
-		WorldSystem ws = game.getSystem(WorldSystem.class);
-
-		// Filter out containers from items we can pick up
-		List<Entity> pickupableItems = env.itemsHere.stream()
-				.filter(e -> !is.hasTag(e, is.TAG_CONTAINER, ws.getCurrentTime()))
-				.toList();
-
-		// Decide: drop if carrying items, otherwise take
-		if (!env.itemsCarried.isEmpty() && (pickupableItems.isEmpty() || random.nextBoolean())) {
-			Entity itemToDrop = env.itemsCarried.get(random.nextInt(env.itemsCarried.size()));
-			log.log("attempting drop of item %d", itemToDrop.getId());
-			ActionValidation dropResult = aas.queueAction(this, aas.ACTION_ITEM_DROP, itemToDrop,
-					DTime.fromSeconds(30));
-			if (!dropResult.isValid()) {
-				log.log("failed to drop item %d - %s", itemToDrop.getId(),
-						dropResult.getErrorCode());
-			}
-		} else if (!pickupableItems.isEmpty()) {
-			Entity itemToTake = pickupableItems.get(random.nextInt(pickupableItems.size()));
-			log.log("attempting take of item %d", itemToTake.getId());
-			ActionValidation takeResult = aas.queueAction(this, aas.ACTION_ITEM_TAKE, itemToTake,
-					DTime.fromSeconds(30));
-			if (!takeResult.isValid()) {
-				log.log("failed to take item %d - %s", itemToTake.getId(),
-						takeResult.getErrorCode());
-			}
-		} else {
-			log.log("nothing to do with items");
-		}
+		return Behaving.super.decide(perception).withBroadcast(announcement);
 	}
 }
@@ -1,6 +1,7 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.Item;
 import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.ItemSystem;
@@ -14,6 +15,10 @@ import java.util.Random;
  */
 public class Plant extends Item {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+
 	private static final String[] DESCRIPTIONS = {
 			"some grass",
 			"a wildflower",
@@ -36,9 +41,9 @@ public class Plant extends Item {
 	 * @return The created and configured plant entity
 	 */
 	public static Plant create(Game game, Random random) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
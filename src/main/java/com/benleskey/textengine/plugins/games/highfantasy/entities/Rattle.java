@@ -1,6 +1,7 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Client;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.entities.Item;
@@ -21,6 +22,14 @@ import java.util.Random;
  */
 public class Rattle extends Item implements UsableItem {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+	private static final SystemHandle<BroadcastSystem> BROADCAST_SYSTEM = SystemHandle.of(BroadcastSystem.class);
+	private static final SystemHandle<EntityDescriptionSystem> ENTITY_DESCRIPTION_SYSTEM =
+			SystemHandle.of(EntityDescriptionSystem.class);
+	private static final SystemHandle<WorldSystem> WORLD_SYSTEM = SystemHandle.of(WorldSystem.class);
+
 	// Command constants
 	public static final String CMD_USE_RATTLE = "use_rattle";
 	public static final String BROADCAST_USE_RATTLE = "use_rattle";
@@ -48,9 +57,9 @@ public class Rattle extends Item implements UsableItem {
 	 * @return The created and configured rattle entity
 	 */
 	public static Rattle create(Game game, Random random) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
@@ -65,9 +74,9 @@ public class Rattle extends Item implements UsableItem {
 
 	@Override
 	public CommandOutput useSolo(Client client, Entity actor) {
-		BroadcastSystem bs = game.getSystem(BroadcastSystem.class);
-		EntityDescriptionSystem eds = game.getSystem(EntityDescriptionSystem.class);
-		WorldSystem ws = game.getSystem(WorldSystem.class);
+		BroadcastSystem bs = game.getSystem(BROADCAST_SYSTEM);
+		EntityDescriptionSystem eds = game.getSystem(ENTITY_DESCRIPTION_SYSTEM);
+		WorldSystem ws = game.getSystem(WORLD_SYSTEM);
 
 		String actorDesc = eds.getDescriptionWithArticle(actor,
 				ws.getCurrentTime(), "someone");
@@ -1,23 +1,32 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.Avatar;
 import com.benleskey.textengine.model.BaseEntity;
+import com.benleskey.textengine.systems.ActionSystem;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.LookSystem;
 
 public class SimpleAvatar extends BaseEntity implements Avatar {
+
+    private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+    private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+    private static final SystemHandle<ActionSystem> ACTION_SYSTEM = SystemHandle.of(ActionSystem.class);
+
     public SimpleAvatar(long id, Game game) {
         super(id, game);
     }
 
     public static SimpleAvatar create(Game game) {
-        var entitySystem = game.getSystem(com.benleskey.textengine.systems.EntitySystem.class);
-        var lookSystem = game.getSystem(com.benleskey.textengine.systems.LookSystem.class);
-        var actorActionSystem = game.getSystem(com.benleskey.textengine.systems.ActionSystem.class);
+        var entitySystem = game.getSystem(ENTITY_SYSTEM);
+        var lookSystem = game.getSystem(LOOK_SYSTEM);
+        var actorActionSystem = game.getSystem(ACTION_SYSTEM);
 
         SimpleAvatar actor = entitySystem.add(SimpleAvatar.class);
         lookSystem.addLook(actor, lookSystem.LOOK_BASIC, actor.toString());
         entitySystem.addTag(actor, entitySystem.TAG_AVATAR);
-        entitySystem.addTag(actor, actorActionSystem.TAG_ACTING);
+        actorActionSystem.addActing(actor);
         return actor;
     }
 }
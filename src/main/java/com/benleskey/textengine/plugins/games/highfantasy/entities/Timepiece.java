@@ -1,11 +1,14 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.entities.DynamicDescription;
 import com.benleskey.textengine.entities.Item;
 import com.benleskey.textengine.plugins.games.highfantasy.GameCalendar;
+import com.benleskey.textengine.systems.EntitySystem;
 import com.benleskey.textengine.systems.ItemSystem;
 import com.benleskey.textengine.systems.LookSystem;
+import com.benleskey.textengine.systems.WorldSystem;
 
 import java.util.Random;
 
@@ -15,6 +18,11 @@ import java.util.Random;
  */
 public class Timepiece extends Item implements DynamicDescription {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+	private static final SystemHandle<WorldSystem> WORLD_SYSTEM = SystemHandle.of(WorldSystem.class);
+
 	public Timepiece(long id, Game game) {
 		super(id, game);
 	}
@@ -23,9 +31,9 @@ public class Timepiece extends Item implements DynamicDescription {
 	 * Create a timepiece with proper tags and weight.
 	 */
 	public static Timepiece create(Game game, Random random) {
-		var es = game.getSystem(com.benleskey.textengine.systems.EntitySystem.class);
-		var ls = game.getSystem(LookSystem.class);
-		var is = game.getSystem(ItemSystem.class);
+		var es = game.getSystem(ENTITY_SYSTEM);
+		var ls = game.getSystem(LOOK_SYSTEM);
+		var is = game.getSystem(ITEM_SYSTEM);
 
 		Timepiece timepiece = es.add(Timepiece.class);
 		ls.addLook(timepiece, ls.LOOK_BASIC, "a pocket timepiece");
@@ -41,7 +49,7 @@ public class Timepiece extends Item implements DynamicDescription {
 	 * Get the current time displayed on this timepiece.
 	 */
 	public String getTimeDisplay() {
-		var ws = game.getSystem(com.benleskey.textengine.systems.WorldSystem.class);
+		var ws = game.getSystem(WORLD_SYSTEM);
 		return GameCalendar.formatFull(ws.getCurrentTime());
 	}
 
@@ -1,6 +1,7 @@
 package com.benleskey.textengine.plugins.games.highfantasy.entities;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SystemHandle;
 import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.entities.Item;
 import com.benleskey.textengine.exceptions.InternalException;
@@ -25,6 +26,17 @@ import java.util.Random;
  */
 public class Tree extends Item implements Cuttable {
 
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+	private static final SystemHandle<RelationshipSystem> RELATIONSHIP_SYSTEM =
+			SystemHandle.of(RelationshipSystem.class);
+	private static final SystemHandle<WorldSystem> WORLD_SYSTEM = SystemHandle.of(WorldSystem.class);
+	private static final SystemHandle<EventSystem> EVENT_SYSTEM = SystemHandle.of(EventSystem.class);
+	private static final SystemHandle<BroadcastSystem> BROADCAST_SYSTEM = SystemHandle.of(BroadcastSystem.class);
+	private static final SystemHandle<EntityDescriptionSystem> ENTITY_DESCRIPTION_SYSTEM =
+			SystemHandle.of(EntityDescriptionSystem.class);
+
 	// Command and broadcast constants
 	public static final String CMD_CUT_TREE = "cut_tree";
 	public static final String BROADCAST_CUTS_TREE = "actor_cuts_tree";
@@ -48,9 +60,9 @@ public class Tree extends Item implements Cuttable {
 	 * @return The created and configured tree entity
 	 */
 	public static Tree create(Game game, Random random) {
-		EntitySystem es = game.getSystem(EntitySystem.class);
-		LookSystem ls = game.getSystem(LookSystem.class);
-		ItemSystem is = game.getSystem(ItemSystem.class);
+		EntitySystem es = game.getSystem(ENTITY_SYSTEM);
+		LookSystem ls = game.getSystem(LOOK_SYSTEM);
+		ItemSystem is = game.getSystem(ITEM_SYSTEM);
 
 		String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
@@ -65,11 +77,11 @@ public class Tree extends Item implements Cuttable {
 
 	@Override
 	public boolean onCut(Entity actor, Entity tool) {
-		RelationshipSystem rs = game.getSystem(RelationshipSystem.class);
-		WorldSystem ws = game.getSystem(WorldSystem.class);
-		EventSystem evs = game.getSystem(EventSystem.class);
-		BroadcastSystem bs = game.getSystem(BroadcastSystem.class);
-		EntityDescriptionSystem eds = game.getSystem(EntityDescriptionSystem.class);
+		RelationshipSystem rs = game.getSystem(RELATIONSHIP_SYSTEM);
+		WorldSystem ws = game.getSystem(WORLD_SYSTEM);
+		EventSystem evs = game.getSystem(EVENT_SYSTEM);
+		BroadcastSystem bs = game.getSystem(BROADCAST_SYSTEM);
+		EntityDescriptionSystem eds = game.getSystem(ENTITY_DESCRIPTION_SYSTEM);
 
 		// Find current location
 		var containers = rs.getProvidingRelationships(actor, rs.rvContains, ws.getCurrentTime());
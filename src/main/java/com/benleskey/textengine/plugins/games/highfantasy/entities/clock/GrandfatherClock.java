@@ -3,79 +3,67 @@ package com.benleskey.textengine.plugins.games.highfantasy.entities.clock;
 import java.util.Random;
 
 import com.benleskey.textengine.Game;
-import com.benleskey.textengine.entities.Acting;
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.entities.DynamicDescription;
 import com.benleskey.textengine.entities.Item;
+import com.benleskey.textengine.entities.Periodic;
 import com.benleskey.textengine.model.DTime;
-import com.benleskey.textengine.model.UniqueType;
+import com.benleskey.textengine.model.PeriodicSchedule;
 import com.benleskey.textengine.plugins.games.highfantasy.GameCalendar;
-import com.benleskey.textengine.systems.ActionSystem;
 import com.benleskey.textengine.systems.EntitySystem;
-import com.benleskey.textengine.systems.EventSystem;
 import com.benleskey.textengine.systems.ItemSystem;
 import com.benleskey.textengine.systems.LookSystem;
-import com.benleskey.textengine.systems.UniqueTypeSystem;
+import com.benleskey.textengine.systems.PeriodicSystem;
 import com.benleskey.textengine.systems.WorldSystem;
+import com.benleskey.textengine.util.Markup;
 
 /**
  * A grandfather clock that chimes on the hour.
  * Too heavy to move (100kg).
  * 
- * Uses action-based timing instead of onActionReady():
- * 1. On creation, queues a ClockWaitAction until the next chime time
- * 2. When wait completes, queues N ChimeActions (one per BONG)
- * 3. After last chime, queues the next ClockWaitAction
- * 
- * This allows precise timing: chimes start N seconds before the hour
- * so the last BONG occurs right as the hour strikes.
+ * Chimes are a periodic schedule rather than queued actions: every hour has
+ * {@link #MAX_CHIMES} one-second beats ending on the hour, and the last N of
+ * them BONG, where N is the hour on a 12-hour dial. So the last BONG occurs
+ * right as the hour strikes.
  */
-public class GrandfatherClock extends Item implements Acting, DynamicDescription {
+public class GrandfatherClock extends Item implements Periodic, DynamicDescription {
+
+	private static final SystemHandle<EntitySystem> ENTITY_SYSTEM = SystemHandle.of(EntitySystem.class);
+	private static final SystemHandle<LookSystem> LOOK_SYSTEM = SystemHandle.of(LookSystem.class);
+	private static final SystemHandle<ItemSystem> ITEM_SYSTEM = SystemHandle.of(ItemSystem.class);
+	private static final SystemHandle<PeriodicSystem> PERIODIC_SYSTEM = SystemHandle.of(PeriodicSystem.class);
+	private static final SystemHandle<WorldSystem> WORLD_SYSTEM = SystemHandle.of(WorldSystem.class);
 
-	// Clock action types
-	public static UniqueType ACTION_CHIME;
-	public static UniqueType ACTION_CLOCK_WAIT;
+	public static final String BROADCAST_CHIME = "clock_chime";
 
-	// Chime action properties
-	public static UniqueType PROP_CHIME_NUMBER;
-	public static UniqueType PROP_TOTAL_CHIMES;
+	private static final int MAX_CHIMES = 12;
+	private static final PeriodicSchedule CHIME_SCHEDULE = new PeriodicSchedule(
+			DTime.fromSeconds(60 * 60),
+			DTime.fromSeconds(60 * 60 - (MAX_CHIMES - 1)),
+			MAX_CHIMES,
+			DTime.fromSeconds(1));
 
 	public GrandfatherClock(long id, Game game) {
 		super(id, game);
 	}
 
 	/**
-	 * Register all clock-related types and actions.
+	 * Register clock types.
 	 * Called from HighFantasyPlugin.onCoreSystemsReady().
 	 */
 	public static void registerTypes(Game game) {
-		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-		EntitySystem es = game.getSystem(EntitySystem.class);
-
-		// Initialize action types
-		ACTION_CHIME = uts.getType("action_clock_chime");
-		ACTION_CLOCK_WAIT = uts.getType("action_clock_wait");
-
-		// Initialize chime properties
-		PROP_CHIME_NUMBER = uts.getType("clock_chime_prop_number");
-		PROP_TOTAL_CHIMES = uts.getType("clock_chime_prop_total");
-
-		// Register action types
-		aas.registerActionType(ACTION_CHIME, ChimeAction.class);
-		aas.registerActionType(ACTION_CLOCK_WAIT, ClockWaitAction.class);
-
-		// Register entity type
-		es.registerEntityType(GrandfatherClock.class);
+		game.getSystem(ENTITY_SYSTEM).registerEntityType(GrandfatherClock.class);
 	}
 
 	/**
 	 * Create a grandfather clock with proper tags and weight.
 	 */
 	public static GrandfatherClock create(Game game, Random random) {
-		var es = game.getSystem(EntitySystem.class);
-		var ls = game.getSystem(LookSystem.class);
-		var is = game.getSystem(ItemSystem.class);
-		var aas = game.getSystem(ActionSystem.class);
+		var es = game.getSystem(ENTITY_SYSTEM);
+		var ls = game.getSystem(LOOK_SYSTEM);
+		var is = game.getSystem(ITEM_SYSTEM);
+		var ps = game.getSystem(PERIODIC_SYSTEM);
 
 		GrandfatherClock clock = es.add(GrandfatherClock.class);
 		ls.addLook(clock, ls.LOOK_BASIC, "a grandfather clock");
@@ -83,114 +71,42 @@ public class GrandfatherClock extends Item implements Acting, DynamicDescription
 		// Clock is NOT takeable (too heavy to move)
 		// Don't add TAG_TAKEABLE - this makes it immovable
 		is.addTag(clock, is.TAG_WEIGHT, 100000L); // 100kg for reference
-		es.addTag(clock, aas.TAG_ACTING); // Can perform actions (chiming)
-
-		// Queue the first wait action
-		clock.queueNextWait();
+		ps.addPeriodic(clock); // Chimes on the hour
 
 		return clock;
 	}
 
 	@Override
-	public DTime getActionInterval() {
-		return DTime.fromSeconds(60);
+	public PeriodicSchedule getPeriodicSchedule() {
+		return CHIME_SCHEDULE;
 	}
 
 	@Override
-	public void onActionReady() {
-	}
-
-	/**
-	 * Called when a ClockWaitAction completes.
-	 * Queues the chime sequence for the current hour.
-	 */
-	public void onWaitComplete() {
-		WorldSystem ws = game.getSystem(WorldSystem.class);
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-		EventSystem evs = game.getSystem(EventSystem.class);
-
-		DTime currentTime = ws.getCurrentTime();
-		GameCalendar.CalendarDate date = GameCalendar.fromDTime(currentTime);
-
-		// We're now at the start of the chiming sequence (N seconds before the hour)
-		// The upcoming hour is the one we're chiming for
-		int upcomingHour = (date.hour() + (date.minute() == 59 ? 1 : 0)) % 24;
-		int chimeCount = upcomingHour % 12;
-		if (chimeCount == 0)
-			chimeCount = 12;
-
-		log.log("Wait complete at %s, queueing %d chimes for hour %d",
-				GameCalendar.formatTime(currentTime), chimeCount, upcomingHour);
-
-		// Queue N chime actions, each taking 1 second, staggered 1 second apart
-		for (int i = 1; i <= chimeCount; i++) {
-			ChimeAction action = aas.add(ChimeAction.class, this, this, DTime.fromSeconds(1));
-			action.setChimeNumber(i);
-			action.setTotalChimes(chimeCount);
-			// Stagger each chime: first at currentTime, second at currentTime+1s, etc.
-			DTime chimeEventTime = currentTime.add(DTime.fromSeconds(i - 1));
-			evs.addEvent(aas.ACTION, chimeEventTime, action);
-		}
-	}
-
-	/**
-	 * Queue a wait action until the next chime time.
-	 * Called after the last chime or on clock creation.
-	 */
-	public void queueNextWait() {
-		WorldSystem ws = game.getSystem(WorldSystem.class);
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-		EventSystem evs = game.getSystem(EventSystem.class);
-
-		DTime currentTime = ws.getCurrentTime();
-		DTime waitDuration = calculateTimeUntilNextChime(currentTime);
-
-		log.log("Queueing wait for %s (until next chime)", waitDuration);
-
-		ClockWaitAction action = aas.add(ClockWaitAction.class, this, this, waitDuration);
-		evs.addEvent(aas.ACTION, currentTime, action);
-	}
-
-	/**
-	 * Calculate the time until the next chime sequence should start.
-	 * Chimes start N seconds before the hour, where N is the hour number (1-12).
-	 */
-	private DTime calculateTimeUntilNextChime(DTime currentTime) {
-		GameCalendar.CalendarDate date = GameCalendar.fromDTime(currentTime);
-
-		// Calculate the next hour
-		int nextHour = (date.hour() + 1) % 24;
-		int chimeCount = nextHour % 12;
-		if (chimeCount == 0)
-			chimeCount = 12;
-
-		// Calculate time until the next hour
-		int secondsUntilNextHour = (59 - date.minute()) * 60 + (60 - date.second());
-		if (date.millisecond() > 0) {
-			// Partial second already passed
-			secondsUntilNextHour--;
-		}
-
-		// Start chiming N seconds before the hour
-		int secondsUntilChimeStart = secondsUntilNextHour - chimeCount;
-
-		// If we're already past the chime start time for this hour, wait for the next
-		// one
-		if (secondsUntilChimeStart < 0) {
-			// Wait until the next hour's chime
-			nextHour = (nextHour + 1) % 24;
-			chimeCount = nextHour % 12;
-			if (chimeCount == 0)
-				chimeCount = 12;
-			secondsUntilChimeStart = secondsUntilNextHour + 3600 - chimeCount;
+	public CommandOutput renderPeriodic(DTime when, int beat) {
+		// The final beat of every period lands exactly on the hour
+		DTime hourTime = when.add(DTime.fromSeconds(MAX_CHIMES - beat));
+		int hour = GameCalendar.fromDTime(hourTime).hour();
+		int totalChimes = hour % 12;
+		if (totalChimes == 0)
+			totalChimes = 12;
+
+		int chimeNumber = beat - (MAX_CHIMES - totalChimes);
+		if (chimeNumber < 1) {
+			return null; // Fewer chimes this hour; stay silent
 		}
 
-		return DTime.fromSeconds(secondsUntilChimeStart);
+		return CommandOutput.make(BROADCAST_CHIME)
+				.put("entity_id", getKeyId())
+				.put("chime_number", chimeNumber)
+				.put("total_chimes", totalChimes)
+				.coalesceBy(getKeyId())
+				.text(Markup.escape(String.format("The grandfather clock chimes %d/%d. BONG",
+						chimeNumber, totalChimes)));
 	}
 
 	@Override
 	public String getDynamicDescription() {
-		var ws = game.getSystem(WorldSystem.class);
+		var ws = game.getSystem(WORLD_SYSTEM);
 		return "The clock shows: " + GameCalendar.formatFull(ws.getCurrentTime());
 	}
 }
@@ -2,9 +2,7 @@ package com.benleskey.textengine.plugins.worldgen.procgen1;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
@@ -56,13 +54,8 @@ public class ProceduralWorldPlugin extends Plugin
 	private Random random;
 	private long seed;
 
-	// Track generated places by biome for spatial coherence
-	private Map<String, List<Entity>> placesByBiome = new HashMap<>();
-
-	// Track all generated places for connection opportunities
-	private List<Entity> allPlaces = new ArrayList<>();
-
-	// Track landmarks for distant visibility
+	// Track landmarks for distant visibility (a handful near the origin; places
+	// themselves are only kept in the database and SpatialSystem's paged index)
 	private List<Entity> landmarks = new ArrayList<>();
 
 	// Track starting location for new clients
@@ -173,19 +166,12 @@ public class ProceduralWorldPlugin extends Plugin
 	 */
 	private Entity generateInitialWorld() {
 
-		// Initialize biome tracking
-		for (String biomeName : biomeSystem.getAllBiomeNames()) {
-			placesByBiome.put(biomeName, new ArrayList<>());
-		}
-
 		// Load existing landmarks from database (if any)
 		loadExistingLandmarks();
 
 		// Generate only the starting place at origin (0, 0)
 		String startingBiome = biomeSystem.selectRandomBiome(random);
 		Entity starting = generatePlaceAtPosition(startingBiome, new int[] { 0, 0 });
-		placesByBiome.get(startingBiome).add(starting);
-		allPlaces.add(starting);
 
 		// Generate neighbors for the starting place so player has choices
 		generateNeighborsForPlace(starting);
@@ -198,20 +184,23 @@ public class ProceduralWorldPlugin extends Plugin
 			log.log("Loaded %d existing landmarks from database", landmarks.size());
 		}
 
+		List<Entity> neighbors = connectionSystem.getConnections(starting, worldSystem.getCurrentTime()).stream()
+				.map(ConnectionDescriptor::getTo)
+				.toList();
+
 		// Update visibility for all existing places now that landmarks exist
-		for (Entity place : allPlaces) {
+		updateDistantVisibility(starting);
+		for (Entity place : neighbors) {
+			updateDistantVisibility(place);
+		}
+		for (Entity place : landmarks) {
 			updateDistantVisibility(place);
 		}
 
 		// Spawn a goblin NPC that patrols between starting and a neighbor
-		if (!allPlaces.isEmpty()) {
-			List<Entity> neighbors = connectionSystem.getConnections(starting, worldSystem.getCurrentTime()).stream()
-					.map(ConnectionDescriptor::getTo)
-					.toList();
-			if (!neighbors.isEmpty()) {
-				Entity neighbor = neighbors.get(0); // Pick first neighbor
-				spawnGoblinNPC(starting, starting, neighbor);
-			}
+		if (!neighbors.isEmpty()) {
+			Entity neighbor = neighbors.get(0); // Pick first neighbor
+			spawnGoblinNPC(starting, starting, neighbor);
 		}
 
 		return starting;
@@ -408,8 +397,6 @@ public class ProceduralWorldPlugin extends Plugin
 				// visited)
 				String neighborBiome = biomeSystem.selectRandomBiome(random);
 				neighbor = generatePlaceAtPosition(neighborBiome, adjacentPos);
-				placesByBiome.get(neighborBiome).add(neighbor);
-				allPlaces.add(neighbor);
 				isNewPlace = true;
 
 				// Mark as skeleton - will be populated when player navigates to it
@@ -554,7 +541,6 @@ public class ProceduralWorldPlugin extends Plugin
 				while (relationshipSystem.next()) {
 					Entity landmark = entitySystem.get(relationshipSystem.getLong(1));
 					landmarks.add(landmark);
-					allPlaces.add(landmark);
 				}
 			}
 		} catch (Exception e) {
@@ -591,7 +577,6 @@ public class ProceduralWorldPlugin extends Plugin
 			// Track spatial position at continent scale
 			spatialSystem.setPosition(landmark, SpatialSystem.SCALE_CONTINENT, landmarkPos);
 			landmarks.add(landmark);
-			allPlaces.add(landmark);
 
 			log.log("Generated %s landmark '%s' at position (%d, %d)",
 					landmarkTypeName, description, x, y);
@@ -4,9 +4,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jspecify.annotations.NonNull;
 
@@ -18,25 +25,38 @@ import com.benleskey.textengine.actions.TakeItemAction;
 import com.benleskey.textengine.actions.WaitAction;
 import com.benleskey.textengine.commands.CommandOutput;
 import com.benleskey.textengine.entities.Acting;
+import com.benleskey.textengine.entities.Behaving;
+import com.benleskey.textengine.entities.Deliberating;
+import com.benleskey.textengine.entities.Place;
 import com.benleskey.textengine.exceptions.DatabaseException;
 import com.benleskey.textengine.exceptions.InternalException;
 import com.benleskey.textengine.hooks.core.OnSystemInitialize;
 import com.benleskey.textengine.model.Action;
+import com.benleskey.textengine.model.ActionRecord;
 import com.benleskey.textengine.model.ActionResult;
 import com.benleskey.textengine.model.ActionValidation;
+import com.benleskey.textengine.model.BaseReference;
 import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Decision;
 import com.benleskey.textengine.model.Entity;
 import com.benleskey.textengine.model.UniqueType;
 import com.benleskey.textengine.util.Markup;
 
+import lombok.Setter;
+
 /**
  * ActionSystem manages actions for all Acting entities (players, NPCs,
  * objects).
  * 
- * Actions extend Reference and are stored in the database with flexible
- * properties.
+ * Actions extend Reference and are stored in the database. The standard
+ * properties (type, actor, target, time required, scheduled time) are typed
+ * columns loaded together as an {@link ActionRecord}; other properties live in
+ * a flexible key-value table.
  * Action types are registered like entity types.
  * 
+ * Each actor's scheduled, not yet completed actions are kept in an in-memory
+ * queue, loaded on first use and written through on every change.
+ * 
  * For Acting-tagged entities:
  * - System calls onActionReady() when no pending action
  * - Entity queues action via queueAction()
@@ -72,15 +92,31 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	private WorldSystem worldSystem;
 	private EntitySystem entitySystem;
 	private EntityTagSystem entityTagSystem;
+	private TickSystem tickSystem;
+	private BroadcastSystem broadcastSystem;
+	private BehaviorSystem behaviorSystem;
+	private ConnectionSystem connectionSystem;
+	private SimulationLodSystem lodSystem;
+
+	// Off for a strictly serial reference run
+	@Setter
+	private boolean parallelDecisions = true;
 
 	// Prepared statements
 	private PreparedStatement insertActionStatement;
-	private PreparedStatement getActionTypeStatement;
+	private PreparedStatement getActionStatement;
+	private PreparedStatement updateActionStatement;
+	private PreparedStatement setCreatedStatement;
+	private PreparedStatement setCompletedStatement;
 	private PreparedStatement insertPropertyStatement;
 	private PreparedStatement getPropertyStatement;
-	private PreparedStatement getPendingActionStatement;
-	private PreparedStatement getAllPendingActionsStatement;
-	private PreparedStatement getActionCreationTimeStatement;
+	private PreparedStatement getPendingActionsStatement;
+
+	// Records of actions in use; dropped once an action completes
+	private final Map<Long, ActionRecord> records = new HashMap<>();
+	// Scheduled, uncompleted actions per actor, ordered by scheduled time
+	private final Map<Long, List<Action>> pendingByActor = new HashMap<>();
+	private Comparator<Action> pendingOrder;
 
 	public ActionSystem(Game game) {
 		super(game);
@@ -88,6 +124,39 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 
 	@Override
 	public void onSystemInitialize() throws DatabaseException {
+		pendingOrder = Comparator
+				.comparingLong((Action a) -> getActionRecord(a).createdAt().raw())
+				.thenComparingLong(Action::getId);
+		eventSystem = game.getSystem(EventSystem.class);
+		worldSystem = game.getSystem(WorldSystem.class);
+		entitySystem = game.getSystem(EntitySystem.class);
+		entityTagSystem = game.getSystem(EntityTagSystem.class);
+		tickSystem = game.getSystem(TickSystem.class);
+		broadcastSystem = game.getSystem(BroadcastSystem.class);
+		behaviorSystem = game.getSystem(BehaviorSystem.class);
+		connectionSystem = game.getSystem(ConnectionSystem.class);
+		lodSystem = game.getSystem(SimulationLodSystem.class);
+
+		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
+
+		// Define event types
+		ACTION = uts.getType("action");
+
+		// Define action types
+		ACTION_MOVE = uts.getType("action_move");
+		ACTION_ITEM_TAKE = uts.getType("action_item_take");
+		ACTION_ITEM_DROP = uts.getType("action_item_drop");
+		ACTION_WAIT = uts.getType("action_wait");
+
+		// Define property keys
+		PROP_ACTOR = uts.getType("action_prop_actor");
+		PROP_TARGET = uts.getType("action_prop_target");
+		PROP_TIME_REQUIRED = uts.getType("action_prop_time_required");
+
+		// Define tags
+		TAG_ACTING = uts.getType("entity_tag_acting");
+		TAG_LAST_ACTION_CHECK = uts.getType("entity_tag_last_action_check");
+
 		int v = getSchema().getVersionNumber();
 
 		// No backwards compatibility - just recreate schema
@@ -111,40 +180,72 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 				throw new DatabaseException("Unable to create action tables", e);
 			}
 			getSchema().setVersionNumber(1);
+			v = 1;
 		}
 
-		eventSystem = game.getSystem(EventSystem.class);
-		worldSystem = game.getSystem(WorldSystem.class);
-		entitySystem = game.getSystem(EntitySystem.class);
-		entityTagSystem = game.getSystem(EntityTagSystem.class);
-
-		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
-
-		// Define event types
-		ACTION = uts.getType("action");
-
-		// Define action types
-		ACTION_MOVE = uts.getType("action_move");
-		ACTION_ITEM_TAKE = uts.getType("action_item_take");
-		ACTION_ITEM_DROP = uts.getType("action_item_drop");
-		ACTION_WAIT = uts.getType("action_wait");
-
-		// Define property keys
-		PROP_ACTOR = uts.getType("action_prop_actor");
-		PROP_TARGET = uts.getType("action_prop_target");
-		PROP_TIME_REQUIRED = uts.getType("action_prop_time_required");
+		if (v == 1) {
+			// Standard properties move from action_property to typed columns
+			try (Statement s = game.db().createStatement()) {
+				s.executeUpdate("ALTER TABLE action ADD COLUMN actor_id INTEGER");
+				s.executeUpdate("ALTER TABLE action ADD COLUMN target_id INTEGER");
+				s.executeUpdate("ALTER TABLE action ADD COLUMN time_required INTEGER NOT NULL DEFAULT 0");
+				s.executeUpdate("ALTER TABLE action ADD COLUMN created_at INTEGER");
+				s.executeUpdate("ALTER TABLE action ADD COLUMN completed_at INTEGER");
+				s.executeUpdate("CREATE INDEX action_actor_pending ON action(actor_id, completed_at)");
+
+				try (PreparedStatement migrate = game.db().prepareStatement(
+						"UPDATE action SET " +
+								"actor_id = (SELECT property_value FROM action_property AS p " +
+								"    WHERE p.action_id = action.action_id AND p.property_key = ?), " +
+								"target_id = (SELECT property_value FROM action_property AS p " +
+								"    WHERE p.action_id = action.action_id AND p.property_key = ?), " +
+								"time_required = COALESCE((SELECT property_value FROM action_property AS p " +
+								"    WHERE p.action_id = action.action_id AND p.property_key = ?), 0), " +
+								"created_at = (SELECT MAX(event.time) FROM event " +
+								"    WHERE event.type = ? AND event.reference = action.action_id), " +
+								"completed_at = (SELECT MAX(event_cancel.time) FROM event AS event_cancel " +
+								"    JOIN event ON event_cancel.reference = event.event_id " +
+								"    WHERE event_cancel.type = ? AND event.type = ? AND event.reference = action.action_id)")) {
+					migrate.setLong(1, PROP_ACTOR.type());
+					migrate.setLong(2, PROP_TARGET.type());
+					migrate.setLong(3, PROP_TIME_REQUIRED.type());
+					migrate.setLong(4, ACTION.type());
+					migrate.setLong(5, uts.getType("event_cancel").type());
+					migrate.setLong(6, ACTION.type());
+					migrate.executeUpdate();
+				}
 
-		// Define tags
-		TAG_ACTING = uts.getType("entity_tag_acting");
-		TAG_LAST_ACTION_CHECK = uts.getType("entity_tag_last_action_check");
+				try (PreparedStatement cleanup = game.db().prepareStatement(
+						"DELETE FROM action_property WHERE property_key IN (?, ?, ?)")) {
+					cleanup.setLong(1, PROP_ACTOR.type());
+					cleanup.setLong(2, PROP_TARGET.type());
+					cleanup.setLong(3, PROP_TIME_REQUIRED.type());
+					cleanup.executeUpdate();
+				}
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to migrate action properties to columns", e);
+			}
+			getSchema().setVersionNumber(2);
+		}
 
 		// Prepare SQL statements
 		try {
 			insertActionStatement = game.db().prepareStatement(
-					"INSERT INTO action (action_id, action_type) VALUES (?, ?)");
+					"INSERT INTO action (action_id, action_type, actor_id, target_id, time_required) " +
+							"VALUES (?, ?, ?, ?, ?)");
+
+			getActionStatement = game.db().prepareStatement(
+					"SELECT action_id, action_type, actor_id, target_id, time_required, created_at " +
+							"FROM action WHERE action_id = ?");
 
-			getActionTypeStatement = game.db().prepareStatement(
-					"SELECT action_type FROM action WHERE action_id = ?");
+			updateActionStatement = game.db().prepareStatement(
+					"UPDATE action SET actor_id = ?, target_id = ?, time_required = ? WHERE action_id = ?");
+
+			setCreatedStatement = game.db().prepareStatement(
+					"UPDATE action SET created_at = ? WHERE action_id = ?");
+
+			setCompletedStatement = game.db().prepareStatement(
+					"UPDATE action SET completed_at = ? WHERE action_id = ?");
 
 			insertPropertyStatement = game.db().prepareStatement(
 					"INSERT OR REPLACE INTO action_property (action_id, property_key, property_value) VALUES (?, ?, ?)");
@@ -152,38 +253,12 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 			getPropertyStatement = game.db().prepareStatement(
 					"SELECT property_value FROM action_property WHERE action_id = ? AND property_key = ?");
 
-			// Get pending action for an actor (using PROP_ACTOR property)
-			getPendingActionStatement = game.db().prepareStatement(
-					"SELECT action.action_id " +
-							"FROM action " +
-							"JOIN action_property AS actor_prop ON action.action_id = actor_prop.action_id " +
-							"    AND actor_prop.property_key = ? " +
-							"JOIN event ON event.reference = action.action_id " +
-							"WHERE actor_prop.property_value = ? " +
-							"AND event.time <= ? " +
-							"AND action.action_id IN " + eventSystem.getValidEventsSubquery("action.action_id") + " " +
-							"ORDER BY event.time ASC LIMIT 1");
-
-			// Get ALL pending actions for an actor (for entities with action queues)
-			getAllPendingActionsStatement = game.db().prepareStatement(
-					"SELECT action.action_id, event.time as event_time " +
+			// All scheduled, uncompleted actions for an actor
+			getPendingActionsStatement = game.db().prepareStatement(
+					"SELECT action_id, action_type, actor_id, target_id, time_required, created_at " +
 							"FROM action " +
-							"JOIN action_property AS actor_prop ON action.action_id = actor_prop.action_id " +
-							"    AND actor_prop.property_key = ? " +
-							"JOIN event ON event.reference = action.action_id " +
-							"WHERE actor_prop.property_value = ? " +
-							"AND event.time <= ? " +
-							"AND action.action_id IN " + eventSystem.getValidEventsSubquery("action.action_id") + " " +
-							"ORDER BY event.time ASC");
-
-			getActionCreationTimeStatement = game.db().prepareStatement(
-					"SELECT event.time " +
-							"FROM event " +
-							"WHERE event.reference = ? " +
-							"AND event.type = ? " +
-							"AND event.event_id NOT IN (SELECT event_cancel.reference FROM event AS event_cancel WHERE event_cancel.type = ? AND event_cancel.time <= ?) "
-							+
-							"ORDER BY event.event_order DESC LIMIT 1");
+							"WHERE actor_id = ? AND completed_at IS NULL AND created_at IS NOT NULL " +
+							"ORDER BY created_at ASC, action_id ASC");
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to prepare action statements", e);
 		}
@@ -227,17 +302,34 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	 * Get an action by its ID, looking up the type.
 	 */
 	public synchronized Action get(long id) throws DatabaseException {
+		ActionRecord record = getActionRecord(id);
+		Class<? extends Action> actionClass = getActionClass(record.actionType());
+		if (actionClass == null) {
+			throw new InternalException("Unknown action type: " + record.actionType());
+		}
+		return get(id, actionClass);
+	}
+
+	/**
+	 * Get the standard properties of an action, loading them in one query on
+	 * first use.
+	 */
+	public synchronized ActionRecord getActionRecord(Action action) throws DatabaseException {
+		return getActionRecord(action.getId());
+	}
+
+	private ActionRecord getActionRecord(long id) throws DatabaseException {
+		ActionRecord record = records.get(id);
+		if (record != null) {
+			return record;
+		}
 		try {
-			getActionTypeStatement.setLong(1, id);
-			try (ResultSet rs = getActionTypeStatement.executeQuery()) {
+			getActionStatement.setLong(1, id);
+			try (ResultSet rs = getActionStatement.executeQuery()) {
 				if (rs.next()) {
-					UniqueType actionType = new UniqueType(rs.getLong("action_type"),
-							game.getSystem(UniqueTypeSystem.class));
-					Class<? extends Action> actionClass = getActionClass(actionType);
-					if (actionClass == null) {
-						throw new InternalException("Unknown action type: " + actionType);
-					}
-					return get(id, actionClass);
+					record = readRecord(rs);
+					records.put(id, record);
+					return record;
 				}
 			}
 			throw new InternalException("Action not found: " + id);
@@ -246,6 +338,40 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 		}
 	}
 
+	private ActionRecord readRecord(ResultSet rs) throws SQLException {
+		long targetId = rs.getLong("target_id");
+		Long target = rs.wasNull() ? null : targetId;
+		long createdAt = rs.getLong("created_at");
+		DTime created = rs.wasNull() ? null : DTime.fromMilliseconds(createdAt);
+		return new ActionRecord(
+				rs.getLong("action_id"),
+				new UniqueType(rs.getLong("action_type"), game.getSystem(UniqueTypeSystem.class)),
+				rs.getLong("actor_id"),
+				target,
+				DTime.fromMilliseconds(rs.getLong("time_required")),
+				created);
+	}
+
+	/**
+	 * Write the actor, target and time required of an action.
+	 */
+	public synchronized void updateActionRecord(ActionRecord record) throws DatabaseException {
+		try {
+			updateActionStatement.setLong(1, record.actorId());
+			if (record.targetId() == null) {
+				updateActionStatement.setNull(2, Types.INTEGER);
+			} else {
+				updateActionStatement.setLong(2, record.targetId());
+			}
+			updateActionStatement.setLong(3, record.timeRequired().toMilliseconds());
+			updateActionStatement.setLong(4, record.actionId());
+			updateActionStatement.executeUpdate();
+			records.put(record.actionId(), record);
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to update action " + record.actionId(), e);
+		}
+	}
+
 	/**
 	 * Create a new action in the database.
 	 */
@@ -260,16 +386,19 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 
 			insertActionStatement.setLong(1, actionId);
 			insertActionStatement.setLong(2, actionType.type());
+			insertActionStatement.setLong(3, actor.getId());
+			if (target == null) {
+				insertActionStatement.setNull(4, Types.INTEGER);
+			} else {
+				insertActionStatement.setLong(4, target.getId());
+			}
+			insertActionStatement.setLong(5, timeRequired.toMilliseconds());
 			insertActionStatement.executeUpdate();
 
-			T action = get(actionId, clazz);
+			records.put(actionId, new ActionRecord(actionId, actionType, actor.getId(),
+					target == null ? null : target.getId(), timeRequired, null));
 
-			// Set standard properties
-			action.setActor(actor);
-			action.setTarget(target);
-			action.setTimeRequired(timeRequired);
-
-			return action;
+			return get(actionId, clazz);
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to create action", e);
 		}
@@ -309,6 +438,41 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 		}
 	}
 
+	/**
+	 * Tag an entity as acting and schedule its first wake.
+	 */
+	public void addActing(Acting acting) {
+		entitySystem.addTag(acting, TAG_ACTING);
+		tickSystem.addActing(acting);
+	}
+
+	/**
+	 * Create the ACTION event for an action starting at the given time, add it
+	 * to its actor's pending queue and wake the actor when it becomes ready.
+	 */
+	public synchronized void scheduleAction(Action action, DTime startTime) throws DatabaseException {
+		eventSystem.addEvent(ACTION, startTime, action);
+		try {
+			setCreatedStatement.setLong(1, startTime.toMilliseconds());
+			setCreatedStatement.setLong(2, action.getId());
+			setCreatedStatement.executeUpdate();
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to schedule action " + action.getId(), e);
+		}
+
+		ActionRecord record = getActionRecord(action).withCreatedAt(startTime);
+		records.put(action.getId(), record);
+
+		List<Action> pending = pendingByActor.get(record.actorId());
+		if (pending != null) {
+			pending.add(action);
+			pending.sort(pendingOrder);
+		}
+		// An unloaded queue will pick the action up from the database
+
+		action.getActor().ifPresent(actor -> tickSystem.wakeBy(actor, record.readyTime().toMilliseconds()));
+	}
+
 	/**
 	 * Queue an action for an actor.
 	 * Validates the action first. If invalid, returns the validation result with
@@ -335,6 +499,7 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 		// Validate the action
 		ActionValidation validation = action.canExecute();
 		if (!validation.isValid()) {
+			records.remove(action.getId());
 			return validation;
 		}
 
@@ -346,8 +511,50 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 			worldSystem.incrementCurrentTime(timeRequired);
 		}
 
-		// Create ACTION event with reference to action
-		eventSystem.addEvent(ACTION, currentTime, action);
+		scheduleAction(action, currentTime);
+
+		return ActionValidation.success();
+	}
+
+	/**
+	 * Queue a chain of actions of one type, one per target, each starting when
+	 * the previous one is ready. All are validated before any is scheduled.
+	 * Players advance time by the whole chain at once, so the chain runs in a
+	 * single tick pass.
+	 * 
+	 * @return the first failed validation, or success
+	 */
+	public ActionValidation queueActions(Acting actor, UniqueType actionType, List<Entity> targets,
+			DTime timeEach) throws DatabaseException {
+		Class<? extends Action> actionClass = getActionClass(actionType);
+		if (actionClass == null) {
+			return ActionValidation.failure(
+					CommandOutput.make("action")
+							.error("invalid_action_type")
+							.text(Markup.escape("That action doesn't exist.")));
+		}
+
+		List<Action> chain = new ArrayList<>();
+		for (Entity target : targets) {
+			Action action = add(actionClass, actor, target, timeEach);
+			chain.add(action);
+			ActionValidation validation = action.canExecute();
+			if (!validation.isValid()) {
+				chain.forEach(a -> records.remove(a.getId()));
+				return validation;
+			}
+		}
+
+		DTime currentTime = worldSystem.getCurrentTime();
+		if (entityTagSystem.hasTag(actor, entitySystem.TAG_AVATAR, currentTime)) {
+			worldSystem.incrementCurrentTime(DTime.fromMilliseconds(timeEach.toMilliseconds() * chain.size()));
+		}
+
+		DTime startTime = currentTime;
+		for (Action action : chain) {
+			scheduleAction(action, startTime);
+			startTime = startTime.add(timeEach);
+		}
 
 		return ActionValidation.success();
 	}
@@ -364,38 +571,56 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 
 		Action action = add(actionClass, actor, target, timeRequired);
 
-		// Check if action can be executed
-		ActionValidation validation = action.canExecute();
-		if (!validation.isValid()) {
-			return false;
-		}
+		try {
+			// Check if action can be executed
+			ActionValidation validation = action.canExecute();
+			if (!validation.isValid()) {
+				return false;
+			}
 
-		ActionResult result = action.execute();
-		return result.isSuccess();
+			ActionResult result = action.execute();
+			return result.isSuccess();
+		} finally {
+			records.remove(action.getId());
+		}
 	}
 
 	/**
-	 * Get pending action for an actor.
+	 * Get an actor's scheduled, uncompleted actions, loading them on first use.
 	 */
-	public synchronized Action getPendingAction(Acting actor) throws DatabaseException {
-		DTime currentTime = worldSystem.getCurrentTime();
+	private List<Action> getPendingQueue(Acting actor) throws DatabaseException {
+		List<Action> pending = pendingByActor.get(actor.getId());
+		if (pending != null) {
+			return pending;
+		}
 
+		pending = new ArrayList<>();
 		try {
-			getPendingActionStatement.setLong(1, PROP_ACTOR.type());
-			getPendingActionStatement.setLong(2, actor.getId());
-			getPendingActionStatement.setLong(3, currentTime.raw());
-			eventSystem.setValidEventsSubqueryParameters(getPendingActionStatement, 4, ACTION, currentTime);
-
-			try (ResultSet rs = getPendingActionStatement.executeQuery()) {
-				if (rs.next()) {
-					long actionId = rs.getLong("action_id");
-					return get(actionId);
+			getPendingActionsStatement.setLong(1, actor.getId());
+			try (ResultSet rs = getPendingActionsStatement.executeQuery()) {
+				while (rs.next()) {
+					ActionRecord record = readRecord(rs);
+					records.put(record.actionId(), record);
+					pending.add(get(record.actionId()));
 				}
 			}
 		} catch (SQLException e) {
-			throw new DatabaseException("Unable to query pending action", e);
+			throw new DatabaseException("Unable to load pending actions for " + actor, e);
 		}
+		pendingByActor.put(actor.getId(), pending);
+		return pending;
+	}
 
+	/**
+	 * Get pending action for an actor: the earliest scheduled action whose
+	 * start time has been reached.
+	 */
+	public synchronized Action getPendingAction(Acting actor) throws DatabaseException {
+		DTime currentTime = worldSystem.getCurrentTime();
+		List<Action> pending = getPendingQueue(actor);
+		if (!pending.isEmpty() && getActionRecord(pending.get(0)).createdAt().raw() <= currentTime.raw()) {
+			return pending.get(0);
+		}
 		return null;
 	}
 
@@ -403,26 +628,15 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	 * Get all pending actions for an actor, ordered by creation time.
 	 * Used for entities that can have multiple queued actions.
 	 */
-	public synchronized java.util.List<Action> getAllPendingActions(Acting actor) throws DatabaseException {
+	public synchronized List<Action> getAllPendingActions(Acting actor) throws DatabaseException {
 		DTime currentTime = worldSystem.getCurrentTime();
-		java.util.List<Action> actions = new java.util.ArrayList<>();
-
-		try {
-			getAllPendingActionsStatement.setLong(1, PROP_ACTOR.type());
-			getAllPendingActionsStatement.setLong(2, actor.getId());
-			getAllPendingActionsStatement.setLong(3, currentTime.raw());
-			eventSystem.setValidEventsSubqueryParameters(getAllPendingActionsStatement, 4, ACTION, currentTime);
-
-			try (ResultSet rs = getAllPendingActionsStatement.executeQuery()) {
-				while (rs.next()) {
-					long actionId = rs.getLong("action_id");
-					actions.add(get(actionId));
-				}
+		List<Action> actions = new ArrayList<>();
+		for (Action action : getPendingQueue(actor)) {
+			if (getActionRecord(action).createdAt().raw() > currentTime.raw()) {
+				break;
 			}
-		} catch (SQLException e) {
-			throw new DatabaseException("Unable to query pending actions", e);
+			actions.add(action);
 		}
-
 		return actions;
 	}
 
@@ -430,34 +644,27 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	 * Get the time when an action was created (from its event).
 	 */
 	public synchronized DTime getActionCreationTime(Action action) throws DatabaseException {
-		DTime currentTime = worldSystem.getCurrentTime();
-		try {
-			getActionCreationTimeStatement.setLong(1, action.getId());
-			getActionCreationTimeStatement.setLong(2, ACTION.type());
-			getActionCreationTimeStatement.setLong(3, eventSystem.etCancel.type());
-			getActionCreationTimeStatement.setLong(4, currentTime.raw());
-
-			try (ResultSet rs = getActionCreationTimeStatement.executeQuery()) {
-				if (rs.next()) {
-					return DTime.fromMilliseconds(rs.getLong("time"));
-				}
-			}
-		} catch (SQLException e) {
-			throw new DatabaseException("Unable to get action creation time", e);
-		}
-		return null;
+		return getActionRecord(action).createdAt();
 	}
 
 	/**
 	 * Get the time when an action will be ready to execute.
 	 */
 	public synchronized long getActionReadyTime(Action action) throws DatabaseException {
-		DTime creationTime = getActionCreationTime(action);
-		if (creationTime == null) {
-			return Long.MAX_VALUE;
+		DTime readyTime = getActionRecord(action).readyTime();
+		return readyTime != null ? readyTime.toMilliseconds() : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Get the earliest time any of an actor's queued actions will be ready,
+	 * or Long.MAX_VALUE if it has none.
+	 */
+	public synchronized long getNextActionReadyTime(Acting actor) throws DatabaseException {
+		long next = Long.MAX_VALUE;
+		for (Action action : getPendingQueue(actor)) {
+			next = Math.min(next, getActionReadyTime(action));
 		}
-		DTime timeRequired = action.getTimeRequired();
-		return creationTime.toMilliseconds() + timeRequired.toMilliseconds();
+		return next;
 	}
 
 	/**
@@ -471,13 +678,52 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	/**
 	 * Execute and clear a pending action.
 	 */
-	public boolean executePendingAction(Acting actor, Action action, DTime currentTime) throws DatabaseException {
+	public synchronized boolean executePendingAction(Acting actor, Action action, DTime currentTime)
+			throws DatabaseException {
 		ActionResult result = action.execute();
 		eventSystem.cancelEventsByTypeAndReference(ACTION, action, currentTime);
 
+		try {
+			setCompletedStatement.setLong(1, currentTime.toMilliseconds());
+			setCompletedStatement.setLong(2, action.getId());
+			setCompletedStatement.executeUpdate();
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to complete action " + action.getId(), e);
+		}
+
+		getPendingQueue(actor).removeIf(pending -> pending.getId() == action.getId());
+		records.remove(action.getId());
+
 		return result.isSuccess();
 	}
 
+	/**
+	 * Complete every uncompleted action of an actor without executing it, such
+	 * as actions of types that are no longer registered.
+	 */
+	public synchronized void cancelPendingActions(Entity actor, DTime when) throws DatabaseException {
+		try (PreparedStatement s = game.db().prepareStatement(
+				"SELECT action_id FROM action WHERE actor_id = ? AND completed_at IS NULL")) {
+			s.setLong(1, actor.getId());
+			List<Long> ids = new ArrayList<>();
+			try (ResultSet rs = s.executeQuery()) {
+				while (rs.next()) {
+					ids.add(rs.getLong(1));
+				}
+			}
+			for (long id : ids) {
+				eventSystem.cancelEventsByTypeAndReference(ACTION, new BaseReference(id, game), when);
+				setCompletedStatement.setLong(1, when.toMilliseconds());
+				setCompletedStatement.setLong(2, id);
+				setCompletedStatement.executeUpdate();
+				records.remove(id);
+			}
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to cancel actions of " + actor, e);
+		}
+		pendingByActor.remove(actor.getId());
+	}
+
 	/**
 	 * Get description of pending action for observers.
 	 */
@@ -495,32 +741,220 @@ public class ActionSystem extends SingletonGameSystem implements OnSystemInitial
 	 * Returns true if processed successfully.
 	 */
 	public boolean processActingEntitySingleTick(Acting acting, DTime interval) throws DatabaseException {
+		processActingEntitiesTick(List.of(acting));
+		return true;
+	}
+
+	/**
+	 * Process one tick for every actor due at the current time, with the same
+	 * result as giving each actor its whole turn in order (execute a ready
+	 * pending action, perceive, decide, commit the decision), except that
+	 * Behaving actors in the same place perceive together.
+	 * 
+	 * Behaving actors with the same footprint (their place, where a pending
+	 * action leads, and the places next to those) form a group, unless an
+	 * overlapping actor that is not Behaving takes its turn between them. A
+	 * group takes its turn where its first member would: its pending actions
+	 * run, then every member perceives one snapshot of the place from
+	 * BehaviorSystem before any of them commits, so they react to the place as
+	 * it was at that turn rather than to each other. Commits keep turn order.
+	 * 
+	 * With parallel decisions, Deliberating turns are gathered into waves whose
+	 * footprints do not overlap, so nothing one turn does can be seen by
+	 * another. A wave perceives one turn after another, decides in parallel and
+	 * commits in order. A turn that overlaps the wave, or that is not
+	 * Deliberating, first has the wave committed.
+	 */
+	public void processActingEntitiesTick(List<? extends Acting> actors) throws DatabaseException {
 		DTime currentTime = worldSystem.getCurrentTime();
 
-		// Check if entity has pending action
-		Action pendingAction = getPendingAction(acting);
+		List<Turn> turns = new ArrayList<>();
+		Map<Set<Long>, Turn> openGroups = new HashMap<>();
+		Map<Long, List<Long>> neighbours = new HashMap<>();
+		for (Acting acting : actors) {
+			// Check if entity has pending action
+			Action pendingAction = getPendingAction(acting);
+			if (pendingAction != null && !isActionReady(pendingAction, currentTime)) {
+				// Action not ready yet, wait
+				continue;
+			}
 
-		if (pendingAction != null) {
-			// Has pending action - check if ready to execute
-			if (isActionReady(pendingAction, currentTime)) {
+			Set<Long> footprint = acting instanceof Deliberating<?>
+					? footprint(acting, pendingAction, currentTime, neighbours)
+					: null;
+			if (footprint == null) {
+				openGroups.clear();
+				turns.add(new Turn(new ArrayList<>(List.of(acting)), null));
+				continue;
+			}
+
+			if (!(acting instanceof Behaving)) {
+				openGroups.keySet().removeIf(other -> !Collections.disjoint(other, footprint));
+				turns.add(new Turn(new ArrayList<>(List.of(acting)), footprint));
+				continue;
+			}
+			Turn group = openGroups.get(footprint);
+			if (group != null) {
+				group.actors().add(acting);
+				continue;
+			}
+			Turn turn = new Turn(new ArrayList<>(List.of(acting)), footprint);
+			turns.add(turn);
+			openGroups.put(footprint, turn);
+		}
+
+		List<Acting> wave = new ArrayList<>();
+		Set<Long> claimed = new HashSet<>();
+		for (Turn turn : turns) {
+			boolean joinsWave = parallelDecisions && turn.footprint() != null
+					&& Collections.disjoint(claimed, turn.footprint());
+			if (!joinsWave) {
+				commitWave(wave, currentTime);
+				claimed.clear();
+			}
+
+			for (Acting acting : turn.actors()) {
+				Action pendingAction = getPendingAction(acting);
+				if (pendingAction != null) {
+					executePendingAction(acting, pendingAction, currentTime);
+				}
+			}
+			// No pending action (or action just completed) - entities decide next
+			wave.addAll(turn.actors());
+			if (parallelDecisions && turn.footprint() != null) {
+				claimed.addAll(turn.footprint());
+			} else {
+				commitWave(wave, currentTime);
+			}
+		}
+		commitWave(wave, currentTime);
+	}
+
+	/**
+	 * Stand in for turns an actor was not simulated for: each turn runs its
+	 * pending action whether or not it is ready yet, then has it decide again,
+	 * all at the current time.
+	 */
+	public void catchUp(Acting acting, int turns) throws DatabaseException {
+		DTime currentTime = worldSystem.getCurrentTime();
+		List<Acting> wave = new ArrayList<>();
+		for (int i = 0; i < turns; i++) {
+			Action pendingAction = getPendingAction(acting);
+			if (pendingAction != null) {
 				executePendingAction(acting, pendingAction, currentTime);
-				// Action completed - continue to potentially queue new action
+			}
+			wave.add(acting);
+			commitWave(wave, currentTime);
+		}
+	}
+
+	/**
+	 * Perceive, decide and commit for a wave of actors whose pending actions
+	 * have already run, then clear it.
+	 */
+	private void commitWave(List<Acting> wave, DTime currentTime) {
+		if (wave.isEmpty()) {
+			return;
+		}
+
+		// Behaving actors are prepared as one batch, so a group shares its place's snapshot
+		List<Behaving> behaving = new ArrayList<>();
+		for (Acting acting : wave) {
+			if (acting instanceof Behaving b) {
+				behaving.add(b);
+			}
+		}
+		if (!behaving.isEmpty()) {
+			behaviorSystem.prepare(behaving);
+		}
+
+		List<Deliberation<?>> deliberations = new ArrayList<>();
+		for (Acting acting : wave) {
+			if (acting instanceof Deliberating<?> deliberating) {
+				deliberations.add(Deliberation.of(deliberating));
+			}
+		}
+		List<Decision> decisions = (parallelDecisions && deliberations.size() > 1 ? deliberations.parallelStream()
+				: deliberations.stream())
+				.map(Deliberation::decide)
+				.toList();
+
+		int next = 0;
+		for (Acting acting : wave) {
+			if (acting instanceof Deliberating<?>) {
+				commitDecision(acting, decisions.get(next++));
 			} else {
-				// Action not ready yet, wait
-				return true;
+				acting.onActionReady();
+			}
+
+			// Check if entity just queued an instant action (timeRequired == 0)
+			// If so, execute it immediately
+			Action newAction = getPendingAction(acting);
+			if (newAction != null && isActionReady(newAction, currentTime)) {
+				executePendingAction(acting, newAction, currentTime);
 			}
 		}
+		wave.clear();
+	}
 
-		// No pending action (or action just completed) - call entity to decide
-		acting.onActionReady();
+	/**
+	 * Places whose state an actor's turn may read or change, or null if it
+	 * cannot be bounded.
+	 */
+	private Set<Long> footprint(Acting acting, Action pendingAction, DTime when, Map<Long, List<Long>> neighbours) {
+		Entity place = lodSystem.getPlace(acting);
+		if (place == null) {
+			return null;
+		}
+		Set<Long> places = new HashSet<>();
+		addWithNeighbours(places, place, when, neighbours);
+		if (pendingAction != null) {
+			Entity target = pendingAction.getTarget().orElse(null);
+			if (target instanceof Place) {
+				addWithNeighbours(places, target, when, neighbours);
+			}
+		}
+		return places;
+	}
 
-		// Check if entity just queued an instant action (timeRequired == 0)
-		// If so, execute it immediately
-		Action newAction = getPendingAction(acting);
-		if (newAction != null && isActionReady(newAction, currentTime)) {
-			executePendingAction(acting, newAction, currentTime);
+	private void addWithNeighbours(Set<Long> places, Entity place, DTime when, Map<Long, List<Long>> neighbours) {
+		places.add(place.getId());
+		places.addAll(neighbours.computeIfAbsent(place.getId(), id -> connectionSystem.getConnections(place, when)
+				.stream()
+				.map(connection -> connection.getTo().getId())
+				.toList()));
+	}
+
+	/**
+	 * Apply a decision: send its broadcasts, then queue its action if any.
+	 */
+	public void commitDecision(Acting actor, Decision decision) throws DatabaseException {
+		for (CommandOutput output : decision.broadcasts()) {
+			broadcastSystem.broadcast(actor, output);
 		}
+		if (decision.actionType() != null) {
+			ActionValidation validation = queueAction(actor, decision.actionType(), decision.target(),
+					decision.timeRequired());
+			if (!validation.isValid()) {
+				log.log("%s could not queue %s: %s", actor, decision.actionType(), validation.getErrorCode());
+			}
+		}
+	}
 
-		return true;
+	/**
+	 * Actors taking their turn together, with the footprint they share, or null
+	 * for a lone actor that cannot be bounded.
+	 */
+	private record Turn(List<Acting> actors, Set<Long> footprint) {
+	}
+
+	private record Deliberation<P>(Deliberating<P> actor, P perception) {
+		static <P> Deliberation<P> of(Deliberating<P> actor) {
+			return new Deliberation<>(actor, actor.perceive());
+		}
+
+		Decision decide() {
+			return actor.decide(perception);
+		}
 	}
 }
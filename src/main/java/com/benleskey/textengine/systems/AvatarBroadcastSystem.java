@@ -1,7 +1,9 @@
 package com.benleskey.textengine.systems;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.SingletonGameSystem;
@@ -23,6 +25,8 @@ import com.benleskey.textengine.util.Markup;
  * This system filters certain broadcasts for avatars to provide better UX:
  * - Hides "You leave" messages (redundant with command feedback)
  * - Converts "You arrive from X" to "You arrive at Y" (more natural)
+ * - Hides an avatar's own broadcasts while it travels, so a multi-step journey
+ * reports only its summary
  * 
  * The client's Markup.toTerminal() method handles converting entity references
  * to "you"
@@ -35,20 +39,19 @@ public class AvatarBroadcastSystem extends SingletonGameSystem {
 	}
 
 	private final Map<String, BroadcastFilter> filters = new HashMap<>();
+	private final Set<Long> travelling = new HashSet<>();
 
 	public AvatarBroadcastSystem(Game game) {
 		super(game);
 		// Register default filters
 		registerFilter(MoveAction.BROADCAST_LEAVES, (avatar, broadcast) -> {
-			String actorId = broadcast.<String>getO(EntitySystem.M_ACTOR_ID).orElse(null);
-			if (actorId != null && actorId.equals(avatar.getKeyId())) {
+			if (broadcast.hasId(EntitySystem.M_ACTOR_ID, avatar.getId())) {
 				return null;
 			}
 			return broadcast;
 		});
 		registerFilter(MoveAction.BROADCAST_ARRIVES, (avatar, broadcast) -> {
-			String actorId = broadcast.<String>getO(EntitySystem.M_ACTOR_ID).orElse(null);
-			if (actorId != null && actorId.equals(avatar.getKeyId())) {
+			if (broadcast.hasId(EntitySystem.M_ACTOR_ID, avatar.getId())) {
 				return createArrivalBroadcastForAvatar(avatar, broadcast);
 			}
 			return broadcast;
@@ -59,6 +62,18 @@ public class AvatarBroadcastSystem extends SingletonGameSystem {
 		filters.put(outputId, filter);
 	}
 
+	/**
+	 * Mark an avatar as travelling or not. While travelling, broadcasts about
+	 * its own actions are not delivered to it.
+	 */
+	public void setTravelling(Avatar avatar, boolean isTravelling) {
+		if (isTravelling) {
+			travelling.add(avatar.getId());
+		} else {
+			travelling.remove(avatar.getId());
+		}
+	}
+
 	/**
 	 * Deliver a broadcast to a player avatar.
 	 * Filters certain broadcasts to improve player experience.
@@ -67,6 +82,11 @@ public class AvatarBroadcastSystem extends SingletonGameSystem {
 		// Get command ID safely
 		String commandId = broadcast.<String>getO(CommandOutput.M_OUTPUT_ID).orElse(null);
 
+		if (travelling.contains(avatar.getId())
+				&& broadcast.hasId(EntitySystem.M_ACTOR_ID, avatar.getId())) {
+			return;
+		}
+
 		// Apply registered filters
 		final CommandOutput outputToSend;
 		if (commandId != null && filters.containsKey(commandId)) {
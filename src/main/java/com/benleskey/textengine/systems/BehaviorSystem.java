@@ -0,0 +1,184 @@
+package com.benleskey.textengine.systems;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SingletonGameSystem;
+import com.benleskey.textengine.behaviors.Behavior;
+import com.benleskey.textengine.behaviors.Perception;
+import com.benleskey.textengine.behaviors.PlaceSnapshot;
+import com.benleskey.textengine.behaviors.Sense;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.entities.Actor;
+import com.benleskey.textengine.entities.Behaving;
+import com.benleskey.textengine.entities.Item;
+import com.benleskey.textengine.entities.Perceiving;
+import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.hooks.core.OnSystemInitialize;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.RelationshipDescriptor;
+import com.benleskey.textengine.model.UniqueType;
+
+/**
+ * Builds perceptions for Behaving actors. prepare() takes every actor due at
+ * the same time, builds one PlaceSnapshot per place holding the senses their
+ * behaviors declared, and reads contents, carried items, patrol targets and
+ * item tags with one bulk query each instead of per actor.
+ */
+public class BehaviorSystem extends SingletonGameSystem implements OnSystemInitialize {
+
+	public UniqueType rvPatrolTarget;
+
+	private WorldSystem worldSystem;
+	private RelationshipSystem relationshipSystem;
+	private ConnectionSystem connectionSystem;
+	private EntityTagSystem entityTagSystem;
+	private PerceptionSystem perceptionSystem;
+
+	private final Map<Long, Perception> prepared = new HashMap<>();
+	private long snapshotsBuilt = 0;
+	private long perceptionsBuilt = 0;
+
+	public BehaviorSystem(Game game) {
+		super(game);
+	}
+
+	@Override
+	public void onSystemInitialize() throws DatabaseException {
+		worldSystem = game.getSystem(WorldSystem.class);
+		relationshipSystem = game.getSystem(RelationshipSystem.class);
+		connectionSystem = game.getSystem(ConnectionSystem.class);
+		entityTagSystem = game.getSystem(EntityTagSystem.class);
+		perceptionSystem = game.getSystem(PerceptionSystem.class);
+
+		UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
+		rvPatrolTarget = uts.getType("patrol_target");
+
+		int v = getSchema().getVersionNumber();
+		if (v == 0) {
+			// No database tables needed - perceptions live for one tick
+			getSchema().setVersionNumber(1);
+		}
+	}
+
+	/**
+	 * Build perceptions for a batch of actors about to decide at the current
+	 * time. Each is handed out once by perceive().
+	 */
+	public synchronized void prepare(List<? extends Behaving> actors) {
+		DTime now = worldSystem.getCurrentTime();
+
+		Map<Behaving, Set<Sense>> actorSenses = new LinkedHashMap<>();
+		Map<Behaving, Entity> actorPlaces = new HashMap<>();
+		Map<Entity, Set<Sense>> placeSenses = new LinkedHashMap<>();
+		for (Behaving actor : actors) {
+			Set<Sense> senses = EnumSet.noneOf(Sense.class);
+			for (Behavior behavior : actor.getBehaviors()) {
+				senses.addAll(behavior.getSenses());
+			}
+			actorSenses.put(actor, senses);
+
+			var containers = relationshipSystem.getProvidingRelationships(actor, relationshipSystem.rvContains, now);
+			if (!containers.isEmpty()) {
+				Entity place = containers.get(0).getProvider();
+				actorPlaces.put(actor, place);
+				placeSenses.computeIfAbsent(place, k -> EnumSet.noneOf(Sense.class)).addAll(senses);
+			}
+		}
+
+		// Contents of every place and carried items of every actor in one query
+		List<Entity> containers = new ArrayList<>();
+		placeSenses.forEach((place, senses) -> {
+			if (senses.contains(Sense.ITEMS) || senses.contains(Sense.ACTORS)) {
+				containers.add(place);
+			}
+		});
+		List<Entity> patrollers = new ArrayList<>();
+		actorSenses.forEach((actor, senses) -> {
+			if (senses.contains(Sense.CARRIED)) {
+				containers.add(actor);
+			}
+			if (senses.contains(Sense.PATROL_TARGETS)) {
+				patrollers.add(actor);
+			}
+		});
+		Map<Entity, List<RelationshipDescriptor>> contents = relationshipSystem.getReceivingRelationships(containers,
+				relationshipSystem.rvContains, now);
+		Map<Entity, List<RelationshipDescriptor>> patrolTargets = relationshipSystem
+				.getReceivingRelationships(patrollers, rvPatrolTarget, now);
+
+		Map<Entity, PlaceSnapshot> snapshots = new HashMap<>();
+		List<Entity> placeItems = new ArrayList<>();
+		placeSenses.forEach((place, senses) -> {
+			List<Entity> here = receivers(contents.get(place));
+			if (senses.contains(Sense.ITEMS)) {
+				here.stream().filter(e -> e instanceof Item).forEach(placeItems::add);
+			}
+		});
+		Map<Entity, Set<UniqueType>> itemTags = entityTagSystem.getTags(placeItems, now);
+
+		placeSenses.forEach((place, senses) -> {
+			List<Entity> here = receivers(contents.get(place));
+			List<Entity> exits = senses.contains(Sense.EXITS)
+					? connectionSystem.getConnections(place, now).stream().map(cd -> cd.getTo()).toList()
+					: List.of();
+			List<Entity> items = senses.contains(Sense.ITEMS)
+					? here.stream().filter(e -> e instanceof Item).toList()
+					: List.of();
+			List<Entity> actorsHere = senses.contains(Sense.ACTORS)
+					? here.stream().filter(e -> e instanceof Actor).toList()
+					: List.of();
+			snapshots.put(place, new PlaceSnapshot(place, exits, items, actorsHere, itemTags));
+			snapshotsBuilt++;
+		});
+
+		for (Behaving actor : actors) {
+			Entity place = actorPlaces.get(actor);
+			List<CommandOutput> noticed = actor instanceof Perceiving perceiving
+					? perceptionSystem.drainInbox(perceiving)
+					: List.of();
+			List<Entity> carried = receivers(contents.get(actor)).stream()
+					.filter(e -> e instanceof Item)
+					.toList();
+			prepared.put(actor.getId(), new Perception(now, actor, place != null ? snapshots.get(place) : null,
+					carried, receivers(patrolTargets.get(actor)), noticed));
+			perceptionsBuilt++;
+		}
+	}
+
+	/**
+	 * @return the perception prepared for this actor, building it alone if it
+	 *         was not part of a prepared batch
+	 */
+	public synchronized Perception perceive(Behaving actor) {
+		Perception perception = prepared.remove(actor.getId());
+		if (perception == null) {
+			prepare(List.of(actor));
+			perception = prepared.remove(actor.getId());
+		}
+		return perception;
+	}
+
+	/**
+	 * @return snapshots built so far; compare with getPerceptionsBuilt() to see
+	 *         how much perception was shared
+	 */
+	public synchronized long getSnapshotsBuilt() {
+		return snapshotsBuilt;
+	}
+
+	public synchronized long getPerceptionsBuilt() {
+		return perceptionsBuilt;
+	}
+
+	private static List<Entity> receivers(List<RelationshipDescriptor> rds) {
+		return rds == null ? List.of() : rds.stream().map(rd -> rd.getReceiver()).toList();
+	}
+}
@@ -3,6 +3,7 @@ package com.benleskey.textengine.systems;
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.SingletonGameSystem;
 import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.entities.Acting;
 import com.benleskey.textengine.exceptions.DatabaseException;
 import com.benleskey.textengine.hooks.core.OnSystemInitialize;
 import com.benleskey.textengine.model.DTime;
@@ -10,6 +11,7 @@ import com.benleskey.textengine.model.Entity;
 import com.benleskey.textengine.model.RelationshipDescriptor;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * System for broadcasting messages from one entity to nearby entities.
@@ -47,27 +49,52 @@ public class BroadcastSystem extends SingletonGameSystem implements OnSystemInit
 	 * @param output The output to broadcast
 	 */
 	public void broadcast(Entity source, CommandOutput output) {
+		// Broadcast to all entities including source (so players see their own actions)
+		for (Entity entity : getEntitiesNear(source)) {
+			entity.receiveBroadcast(output);
+		}
+	}
+
+	/**
+	 * Broadcast a lazily rendered message, skipping the render entirely unless
+	 * an Acting entity other than the source is nearby to observe it.
+	 * The supplier may return null to broadcast nothing.
+	 */
+	public void broadcastIfObserved(Entity source, Supplier<CommandOutput> render) {
+		List<Entity> entitiesInLocation = getEntitiesNear(source);
+		boolean observed = entitiesInLocation.stream()
+				.anyMatch(entity -> entity instanceof Acting && entity.getId() != source.getId());
+		if (!observed) {
+			return;
+		}
+
+		CommandOutput output = render.get();
+		if (output != null) {
+			for (Entity entity : entitiesInLocation) {
+				entity.receiveBroadcast(output);
+			}
+		}
+	}
+
+	/**
+	 * All entities in the same location as the source, including the source.
+	 */
+	private List<Entity> getEntitiesNear(Entity source) {
 		DTime currentTime = worldSystem.getCurrentTime();
 
 		// Find source's location
 		var sourceContainers = relationshipSystem.getProvidingRelationships(source, relationshipSystem.rvContains,
 				currentTime);
 		if (sourceContainers.isEmpty()) {
-			return; // Source is nowhere
+			return List.of(); // Source is nowhere
 		}
 
 		Entity sourceLocation = sourceContainers.get(0).getProvider();
 
-		// Get all entities in the same location
-		List<Entity> entitiesInLocation = relationshipSystem
+		return relationshipSystem
 				.getReceivingRelationships(sourceLocation, relationshipSystem.rvContains, currentTime)
 				.stream()
 				.map(RelationshipDescriptor::getReceiver)
 				.toList();
-
-		// Broadcast to all entities including source (so players see their own actions)
-		for (Entity entity : entitiesInLocation) {
-			entity.receiveBroadcast(output);
-		}
 	}
 }
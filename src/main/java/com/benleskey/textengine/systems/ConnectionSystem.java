@@ -3,24 +3,39 @@ package com.benleskey.textengine.systems;
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.SingletonGameSystem;
 import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.hooks.core.OnSkeletonInteraction;
 import com.benleskey.textengine.hooks.core.OnSystemInitialize;
 import com.benleskey.textengine.model.*;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * ConnectionSystem manages directional connections between places.
  * Connections are stored as relationship events, allowing dynamic
  * exit creation and temporal tracking of connections.
  */
-public class ConnectionSystem extends SingletonGameSystem implements OnSystemInitialize {
+public class ConnectionSystem extends SingletonGameSystem implements OnSystemInitialize, OnSkeletonInteraction {
+	// Maximum places expanded by a single route search
+	private static final int ROUTE_SEARCH_BUDGET = 2000;
+
 	public UniqueType rvConnectsTo;
 	private EventSystem eventSystem;
 	private RelationshipSystem relationshipSystem;
+	private EntitySystem entitySystem;
+	private SpatialSystem spatialSystem;
+	private WorldSystem worldSystem;
+
+	private record RouteKey(Entity from, Entity target, UniqueType scale) {
+	}
+
+	private record RouteStep(Entity place, double estimate) {
+	}
+
+	// Routes found since the connection graph last changed
+	private final Map<RouteKey, List<Entity>> routeCache = new HashMap<>();
 
 	private PreparedStatement getConnectionsStatement;
 
@@ -32,6 +47,9 @@ public class ConnectionSystem extends SingletonGameSystem implements OnSystemIni
 	public void onSystemInitialize() {
 		eventSystem = game.getSystem(EventSystem.class);
 		relationshipSystem = game.getSystem(RelationshipSystem.class);
+		entitySystem = game.getSystem(EntitySystem.class);
+		spatialSystem = game.getSystem(SpatialSystem.class);
+		worldSystem = game.getSystem(WorldSystem.class);
 
 		UniqueTypeSystem uniqueTypeSystem = game.getSystem(UniqueTypeSystem.class);
 		rvConnectsTo = uniqueTypeSystem.getType("relationship_connects_to");
@@ -62,9 +80,35 @@ public class ConnectionSystem extends SingletonGameSystem implements OnSystemIni
 	 * @return The relationship event representing this connection
 	 */
 	public synchronized FullEvent<Relationship> connect(Entity from, Entity to) {
+		routeCache.clear();
 		return relationshipSystem.add(from, to, rvConnectsTo);
 	}
 
+	/**
+	 * Remove every connection from one place to another.
+	 *
+	 * @param from The place the connection starts from
+	 * @param to   The place the connection leads to
+	 */
+	public synchronized void disconnect(Entity from, Entity to) {
+		routeCache.clear();
+		DTime when = worldSystem.getCurrentTime();
+		for (ConnectionDescriptor connection : getConnections(from, when)) {
+			if (connection.getTo().equals(to)) {
+				eventSystem.cancelEventsByTypeAndReference(relationshipSystem.etEntityRelationship,
+						connection.getRelationship(), when);
+			}
+		}
+	}
+
+	/**
+	 * Routes may end at a skeleton place, which stops being a goal once populated.
+	 */
+	@Override
+	public synchronized void onSkeletonInteraction(Entity entity) {
+		routeCache.clear();
+	}
+
 	/**
 	 * Create a bidirectional connection between two places.
 	 * 
@@ -92,7 +136,6 @@ public class ConnectionSystem extends SingletonGameSystem implements OnSystemIni
 					relationshipSystem.etEntityRelationship, when);
 
 			try (ResultSet rs = getConnectionsStatement.executeQuery()) {
-				EntitySystem entitySystem = game.getSystem(EntitySystem.class);
 				while (rs.next()) {
 					Relationship rel = new Relationship(rs.getLong(1), game);
 					Entity to = entitySystem.get(rs.getLong(2));
@@ -109,4 +152,88 @@ public class ConnectionSystem extends SingletonGameSystem implements OnSystemIni
 			throw new DatabaseException("Unable to get connections from " + from, e);
 		}
 	}
+
+	/**
+	 * Find a route toward a target with an A* search over connections, using
+	 * straight-line distance between positions at the given scale as the
+	 * heuristic. Skeleton places have no known exits yet, so reaching one counts
+	 * as reaching the target with the straight-line distance still to go. If the
+	 * search budget runs out, the route leads to the expanded place nearest the
+	 * target. Routes are cached until a connection is added or removed, or a
+	 * skeleton place is populated.
+	 *
+	 * @param from   The place to start from
+	 * @param target The place to head for
+	 * @param scale  The spatial scale for the heuristic
+	 * @return Places to move through after from, in order; empty if no move brings
+	 *         the target closer
+	 */
+	public synchronized List<Entity> findRoute(Entity from, Entity target, UniqueType scale) {
+		RouteKey key = new RouteKey(from, target, scale);
+		List<Entity> cached = routeCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		DTime when = worldSystem.getCurrentTime();
+		int[] targetPos = spatialSystem.getPosition(target, scale);
+		Map<Entity, Integer> costs = new HashMap<>(Map.of(from, 0));
+		Map<Entity, Entity> cameFrom = new HashMap<>();
+		Set<Entity> expanded = new HashSet<>();
+		PriorityQueue<RouteStep> open = new PriorityQueue<>(Comparator.comparingDouble(RouteStep::estimate));
+		open.add(new RouteStep(from, remainingDistance(from, targetPos, scale)));
+
+		Entity nearest = from;
+		double nearestRemaining = Double.MAX_VALUE;
+
+		while (!open.isEmpty() && expanded.size() < ROUTE_SEARCH_BUDGET) {
+			Entity place = open.poll().place();
+			if (!expanded.add(place)) {
+				continue; // Already reached more cheaply
+			}
+
+			if (place.equals(target) || (!place.equals(from) && entitySystem.isSkeleton(place))) {
+				List<Entity> route = reconstructRoute(cameFrom, place);
+				// Every step of an optimal route is an optimal route from there on
+				for (int i = 0; i < route.size(); i++) {
+					Entity start = i == 0 ? from : route.get(i - 1);
+					routeCache.put(new RouteKey(start, target, scale), route.subList(i, route.size()));
+				}
+				return route;
+			}
+
+			double remaining = remainingDistance(place, targetPos, scale);
+			if (remaining < nearestRemaining) {
+				nearest = place;
+				nearestRemaining = remaining;
+			}
+
+			int nextCost = costs.get(place) + 1;
+			for (ConnectionDescriptor connection : getConnections(place, when)) {
+				Entity next = connection.getTo();
+				if (nextCost < costs.getOrDefault(next, Integer.MAX_VALUE)) {
+					costs.put(next, nextCost);
+					cameFrom.put(next, place);
+					open.add(new RouteStep(next, nextCost + remainingDistance(next, targetPos, scale)));
+				}
+			}
+		}
+
+		List<Entity> route = reconstructRoute(cameFrom, nearest);
+		routeCache.put(key, route);
+		return route;
+	}
+
+	private double remainingDistance(Entity place, int[] targetPos, UniqueType scale) {
+		int[] placePos = targetPos != null ? spatialSystem.getPosition(place, scale) : null;
+		return placePos != null ? spatialSystem.distance(placePos, targetPos) : 0;
+	}
+
+	private List<Entity> reconstructRoute(Map<Entity, Entity> cameFrom, Entity end) {
+		LinkedList<Entity> route = new LinkedList<>();
+		for (Entity place = end; cameFrom.containsKey(place); place = cameFrom.get(place)) {
+			route.addFirst(place);
+		}
+		return Collections.unmodifiableList(new ArrayList<>(route));
+	}
 }
@@ -119,6 +119,18 @@ public class EntityDescriptionSystem extends SingletonGameSystem implements OnSy
 		return !looks.isEmpty() ? looks.get(0).getDescription() : fallback;
 	}
 
+	/**
+	 * Bulk form of {@link #getSimpleDescription(Entity, DTime, String)} using a
+	 * single look query. Every entity has an entry, in iteration order.
+	 */
+	public Map<Entity, String> getSimpleDescriptions(Collection<? extends Entity> entities, DTime currentTime,
+			String fallback) {
+		Map<Entity, String> descriptions = new LinkedHashMap<>();
+		lookSystem.getLooksFromEntities(entities, currentTime).forEach((entity, looks) -> descriptions.put(entity,
+				!looks.isEmpty() ? looks.get(0).getDescription() : fallback));
+		return descriptions;
+	}
+
 	/**
 	 * Get a description with article prepended if not already present.
 	 * Useful for NPCs and items in narrative text.
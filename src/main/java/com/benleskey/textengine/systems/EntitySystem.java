@@ -15,8 +15,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -166,6 +168,31 @@ public class EntitySystem extends SingletonGameSystem implements OnSystemInitial
 		}
 	}
 
+	/**
+	 * Registered entity types and their classes.
+	 */
+	public synchronized Map<UniqueType, Class<? extends Entity>> getEntityTypes() {
+		return Map.copyOf(entityTypes);
+	}
+
+	/**
+	 * All entities of the given type.
+	 */
+	public synchronized List<Entity> getEntitiesOfType(UniqueType entityType) throws DatabaseException {
+		try (PreparedStatement stmt = game.db().prepareStatement("SELECT entity_id FROM entity WHERE type = ?")) {
+			stmt.setLong(1, entityType.type());
+			List<Entity> entities = new ArrayList<>();
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next()) {
+					entities.add(get(rs.getLong(1), getEntityClass(entityType)));
+				}
+			}
+			return entities;
+		} catch (SQLException e) {
+			throw new DatabaseException("Could not get entities of type " + entityType, e);
+		}
+	}
+
 	/**
 	 * Check if any entities of the given type exist.
 	 * 
@@ -249,6 +276,8 @@ public class EntitySystem extends SingletonGameSystem implements OnSystemInitial
 		tagSystem.removeTag(entity, TAG_SKELETON, worldSystem.getCurrentTime());
 
 		// Fire the hook to let plugins populate the entity
-		game.doHookEvent(OnSkeletonInteraction.class, handler -> handler.onSkeletonInteraction(entity));
+		for (OnSkeletonInteraction handler : game.getHookHandlers(OnSkeletonInteraction.class)) {
+			handler.onSkeletonInteraction(entity);
+		}
 	}
 }
@@ -14,13 +14,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 public class EntityTagSystem extends SingletonGameSystem implements OnSystemInitialize {
 	private PreparedStatement addStatement;
 	private PreparedStatement findByTagStatement;
 	private PreparedStatement findTagsByEntityStatement;
+	private PreparedStatement findTagsByEntitiesStatement;
 	private EntitySystem entitySystem;
 	private EventSystem eventSystem;
 	public UniqueType etEntityTag;
@@ -66,6 +66,10 @@ public class EntityTagSystem extends SingletonGameSystem implements OnSystemInit
 			findTagsByEntityStatement = game.db().prepareStatement(
 					"SELECT entity_tag_id, entity_tag_type, tag_value FROM entity_tag WHERE entity_id = ? AND entity_tag_id IN "
 							+ eventSystem.getValidEventsSubquery("entity_tag_id"));
+			findTagsByEntitiesStatement = game.db().prepareStatement(
+					"SELECT entity_id, entity_tag_type FROM entity_tag WHERE entity_id IN "
+							+ eventSystem.getIdListSubquery()
+							+ " AND entity_tag_id IN " + eventSystem.getValidEventsSubquery("entity_tag_id"));
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to prepare entity tag statements", e);
 		}
@@ -230,6 +234,37 @@ public class EntityTagSystem extends SingletonGameSystem implements OnSystemInit
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #getTags(Entity, DTime)} using a single query.
+	 * Every entity has an entry, in iteration order.
+	 */
+	public synchronized Map<Entity, Set<UniqueType>> getTags(Collection<? extends Entity> entities, DTime when) {
+		Map<Long, Entity> entitiesById = new HashMap<>();
+		Map<Entity, Set<UniqueType>> result = new LinkedHashMap<>();
+		for (Entity entity : entities) {
+			entitiesById.put(entity.getId(), entity);
+			result.put(entity, new HashSet<>());
+		}
+		if (result.isEmpty()) {
+			return result;
+		}
+
+		try {
+			findTagsByEntitiesStatement.setString(1, eventSystem.getIdListParameter(entities));
+			eventSystem.setValidEventsSubqueryParameters(findTagsByEntitiesStatement, 2, etEntityTag, when);
+
+			UniqueTypeSystem uts = game.getSystem(UniqueTypeSystem.class);
+			try (ResultSet rs = findTagsByEntitiesStatement.executeQuery()) {
+				while (rs.next()) {
+					result.get(entitiesById.get(rs.getLong(1))).add(new UniqueType(rs.getLong(2), uts));
+				}
+			}
+			return result;
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to get tags for " + entities.size() + " entities", e);
+		}
+	}
+
 	/**
 	 * Update a tag value by canceling the old tag and adding a new one.
 	 * This maintains temporal history of value changes.
@@ -13,6 +13,8 @@ import com.benleskey.textengine.model.UniqueType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.StringJoiner;
 
 public class EventSystem extends SingletonGameSystem implements OnSystemInitialize {
 	public UniqueType etCancel;
@@ -111,7 +113,7 @@ public class EventSystem extends SingletonGameSystem implements OnSystemInitiali
 			// We need to select event_id, not reference, so we use a custom query
 			PreparedStatement findEventsStatement = game.db().prepareStatement(
 					"SELECT event.event_id FROM event WHERE event.type = ? AND event.reference = ? AND event.time <= ? "
-							+ "AND event.event_id NOT IN (SELECT event_cancel.reference FROM event AS event_cancel WHERE event_cancel.type = ? AND event_cancel.time <= ?)");
+							+ "AND NOT EXISTS (SELECT 1 FROM event AS event_cancel WHERE event_cancel.type = ? AND event_cancel.reference = event.event_id AND event_cancel.time <= ?)");
 			findEventsStatement.setLong(1, eventType.type());
 			findEventsStatement.setLong(2, reference.getId());
 			findEventsStatement.setLong(3, when.raw());
@@ -133,10 +135,11 @@ public class EventSystem extends SingletonGameSystem implements OnSystemInitiali
 		// Returns a subquery that finds the most recent non-canceled event for a given
 		// reference
 		// An event is canceled if there exists a cancel-event whose event_id matches
-		// this event's event_id (the cancel-event's reference points to the event_id)
+		// this event's event_id (the cancel-event's reference points to the event_id).
+		// Correlated, so each candidate is an index lookup rather than a pass over every cancel ever made
 		return "(SELECT event.reference FROM event WHERE event.type = ? AND event.time <= ? AND event.reference = "
 				+ reference
-				+ " AND event.event_id NOT IN (SELECT event_cancel.reference FROM event AS event_cancel WHERE event_cancel.type = ? AND event_cancel.time <= ?) ORDER BY event.event_order DESC LIMIT 1)";
+				+ " AND NOT EXISTS (SELECT 1 FROM event AS event_cancel WHERE event_cancel.type = ? AND event_cancel.reference = event.event_id AND event_cancel.time <= ?) ORDER BY event.event_order DESC LIMIT 1)";
 	}
 
 	/**
@@ -157,4 +160,24 @@ public class EventSystem extends SingletonGameSystem implements OnSystemInitiali
 		}
 		return offset;
 	}
+
+	/**
+	 * Subquery yielding the IDs bound with {@link #getIdListParameter(Collection)},
+	 * so one prepared statement can filter on any number of references with
+	 * {@code column IN <subquery>}.
+	 */
+	public String getIdListSubquery() {
+		return "(SELECT value FROM json_each(?))";
+	}
+
+	/**
+	 * @return the parameter value for {@link #getIdListSubquery()}
+	 */
+	public String getIdListParameter(Collection<? extends Reference> references) {
+		StringJoiner ids = new StringJoiner(",", "[", "]");
+		for (Reference reference : references) {
+			ids.add(Long.toString(reference.getId()));
+		}
+		return ids.toString();
+	}
 }
@@ -10,8 +10,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public class LookSystem extends SingletonGameSystem implements OnSystemInitialize {
 	public UniqueType etEntityLook;
@@ -21,6 +20,7 @@ public class LookSystem extends SingletonGameSystem implements OnSystemInitializ
 
 	private PreparedStatement addLookStatement;
 	private PreparedStatement getCurrentLookStatement;
+	private PreparedStatement getCurrentLooksStatement;
 	private EntitySystem entitySystem;
 	private EventSystem eventSystem;
 	private WorldSystem worldSystem;
@@ -64,6 +64,12 @@ public class LookSystem extends SingletonGameSystem implements OnSystemInitializ
 			getCurrentLookStatement = game.db().prepareStatement(
 					"SELECT entity_look.look_id, entity_look.entity_id, entity_look.type, entity_look.description FROM entity_look WHERE entity_look.entity_id = ? AND entity_look.look_id IN "
 							+ eventSystem.getValidEventsSubquery("entity_look.look_id"));
+			getCurrentLooksStatement = game.db().prepareStatement(
+					"SELECT entity_look.look_id, entity_look.entity_id, entity_look.type, entity_look.description FROM entity_look WHERE entity_look.entity_id IN "
+							+ eventSystem.getIdListSubquery()
+							+ " AND entity_look.look_id IN "
+							+ eventSystem.getValidEventsSubquery("entity_look.look_id")
+							+ " ORDER BY entity_look.look_id");
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to prepare look statements", e);
 		}
@@ -112,6 +118,43 @@ public class LookSystem extends SingletonGameSystem implements OnSystemInitializ
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #getLooksFromEntity(Entity, DTime)} using a single
+	 * query. Every entity has an entry, in iteration order.
+	 */
+	public synchronized Map<Entity, List<LookDescriptor>> getLooksFromEntities(Collection<? extends Entity> lookers,
+			DTime when) {
+		Map<Long, Entity> lookersById = new HashMap<>();
+		Map<Entity, List<LookDescriptor>> result = new LinkedHashMap<>();
+		for (Entity looker : lookers) {
+			lookersById.put(looker.getId(), looker);
+			result.put(looker, new ArrayList<>());
+		}
+		if (result.isEmpty()) {
+			return result;
+		}
+
+		try {
+			getCurrentLooksStatement.setString(1, eventSystem.getIdListParameter(lookers));
+			eventSystem.setValidEventsSubqueryParameters(getCurrentLooksStatement, 2, etEntityLook, when);
+			try (ResultSet rs = getCurrentLooksStatement.executeQuery()) {
+				while (rs.next()) {
+					Entity looker = lookersById.get(rs.getLong(2));
+					result.get(looker).add(LookDescriptor.builder()
+							.look(new Look(rs.getLong(1), game))
+							.entity(looker)
+							.type(new UniqueType(rs.getLong(3), uniqueTypeSystem))
+							.description(rs.getString(4))
+							.build());
+				}
+			}
+			return result;
+		} catch (SQLException e) {
+			throw new DatabaseException(
+					String.format("Unable to get looks from %d entities at %s", lookers.size(), when), e);
+		}
+	}
+
 	/**
 	 * Get comprehensive environment observation for an entity.
 	 * Used by both player look commands and NPC AI decision-making.
@@ -169,26 +212,24 @@ public class LookSystem extends SingletonGameSystem implements OnSystemInitializ
 				.map(cd -> cd.getTo())
 				.toList();
 
+		// Contents of the location and of the observer in one query
+		Map<Entity, List<RelationshipDescriptor>> contents = relationshipSystem
+				.getReceivingRelationships(List.of(currentLocation, observer), relationshipSystem.rvContains, when);
+
 		// Get items at current location (all items - filtering happens in calling code)
-		List<Entity> itemsHere = relationshipSystem
-				.getReceivingRelationships(currentLocation, relationshipSystem.rvContains, when)
-				.stream()
+		List<Entity> itemsHere = contents.get(currentLocation).stream()
 				.map(rd -> rd.getReceiver())
 				.filter(e -> e instanceof com.benleskey.textengine.entities.Item)
 				.toList();
 
 		// Get items carried by observer
-		List<Entity> itemsCarried = relationshipSystem
-				.getReceivingRelationships(observer, relationshipSystem.rvContains, when)
-				.stream()
+		List<Entity> itemsCarried = contents.get(observer).stream()
 				.map(rd -> rd.getReceiver())
 				.filter(e -> e instanceof com.benleskey.textengine.entities.Item)
 				.toList();
 
 		// Get other actors at current location
-		List<Entity> actorsHere = relationshipSystem
-				.getReceivingRelationships(currentLocation, relationshipSystem.rvContains, when)
-				.stream()
+		List<Entity> actorsHere = contents.get(currentLocation).stream()
 				.map(rd -> rd.getReceiver())
 				.filter(e -> e instanceof com.benleskey.textengine.entities.Actor)
 				.filter(e -> !e.equals(observer)) // Don't include self
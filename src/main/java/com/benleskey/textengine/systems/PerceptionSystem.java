@@ -0,0 +1,71 @@
+package com.benleskey.textengine.systems;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SingletonGameSystem;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.entities.Perceiving;
+import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.hooks.core.OnSystemInitialize;
+
+/**
+ * Perception inboxes for Perceiving actors. Interesting broadcasts are queued
+ * per actor and schedule an early, debounced wake through the TickSystem.
+ */
+public class PerceptionSystem extends SingletonGameSystem implements OnSystemInitialize {
+
+	// Oldest entries are dropped beyond this many per actor
+	private static final int MAX_INBOX = 16;
+
+	private WorldSystem worldSystem;
+	private TickSystem tickSystem;
+
+	private final Map<Long, List<CommandOutput>> inboxes = new HashMap<>();
+
+	public PerceptionSystem(Game game) {
+		super(game);
+	}
+
+	@Override
+	public void onSystemInitialize() throws DatabaseException {
+		worldSystem = game.getSystem(WorldSystem.class);
+		tickSystem = game.getSystem(TickSystem.class);
+
+		int v = getSchema().getVersionNumber();
+		if (v == 0) {
+			// No database tables needed - inboxes are ephemeral like broadcasts
+			getSchema().setVersionNumber(1);
+		}
+	}
+
+	/**
+	 * Offer a broadcast to an actor. If it is interested, the broadcast is
+	 * queued and the actor will wake within its reaction delay.
+	 */
+	public synchronized void deliver(Perceiving actor, CommandOutput output) {
+		if (!actor.isInterestedIn(output)) {
+			return;
+		}
+
+		List<CommandOutput> inbox = inboxes.computeIfAbsent(actor.getId(), k -> new ArrayList<>());
+		if (inbox.size() >= MAX_INBOX) {
+			inbox.remove(0);
+		}
+		inbox.add(output);
+
+		long wakeTime = worldSystem.getCurrentTime().toMilliseconds() + actor.getReactionDelay().toMilliseconds();
+		tickSystem.wakeBy(actor, wakeTime);
+	}
+
+	/**
+	 * Take everything an actor has noticed since it last looked.
+	 */
+	public synchronized List<CommandOutput> drainInbox(Perceiving actor) {
+		List<CommandOutput> inbox = inboxes.remove(actor.getId());
+		return inbox != null ? inbox : List.of();
+	}
+}
@@ -0,0 +1,161 @@
+package com.benleskey.textengine.systems;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SingletonGameSystem;
+import com.benleskey.textengine.entities.Periodic;
+import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.hooks.core.OnStart;
+import com.benleskey.textengine.hooks.core.OnSystemInitialize;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.model.UniqueType;
+
+/**
+ * Drives Periodic entities. Each entity's next beat is computed from its
+ * schedule and kept in a min-heap; as time passes the due beats are rendered
+ * and broadcast, but only if something nearby can observe them.
+ * Only membership is persisted (a tag), never individual beats.
+ */
+public class PeriodicSystem extends SingletonGameSystem implements OnSystemInitialize, OnStart {
+
+	public UniqueType TAG_PERIODIC;
+
+	private WorldSystem worldSystem;
+	private EntityTagSystem tagSystem;
+	private BroadcastSystem broadcastSystem;
+
+	private final PriorityQueue<Beat> beats = new PriorityQueue<>(
+			Comparator.comparingLong((Beat b) -> b.time).thenComparingLong(b -> b.periodic.getId()));
+	private final Map<Long, Periodic> periodics = new HashMap<>();
+	private long processedUntil;
+	private boolean loaded = false;
+	private boolean adoptUntagged = false;
+
+	public PeriodicSystem(Game game) {
+		super(game);
+	}
+
+	@Override
+	public void onSystemInitialize() throws DatabaseException {
+		worldSystem = game.getSystem(WorldSystem.class);
+		tagSystem = game.getSystem(EntityTagSystem.class);
+		broadcastSystem = game.getSystem(BroadcastSystem.class);
+
+		int v = getSchema().getVersionNumber();
+		if (v == 0) {
+			// No database tables needed - beats are computed from each schedule
+			getSchema().setVersionNumber(1);
+		}
+		if (v < 2) {
+			// Entity types are only registered later, so adopt periodic entities on start
+			adoptUntagged = true;
+			getSchema().setVersionNumber(2);
+		}
+
+		TAG_PERIODIC = game.getSystem(UniqueTypeSystem.class).getType("entity_tag_periodic");
+	}
+
+	/**
+	 * Resume schedules before any command can advance time past a beat.
+	 */
+	@Override
+	public void onStart() {
+		if (adoptUntagged) {
+			adoptUntagged();
+		}
+		ensureLoaded();
+	}
+
+	/**
+	 * Tag an entity as periodic and start its schedule from the current time.
+	 */
+	public synchronized void addPeriodic(Periodic periodic) {
+		ensureLoaded();
+		tagSystem.addTag(periodic, TAG_PERIODIC);
+		track(periodic);
+	}
+
+	/**
+	 * Fire every beat up to and including {@code time}, in time order.
+	 * The current world time is restored afterwards.
+	 */
+	public synchronized void advanceTo(DTime time) {
+		ensureLoaded();
+		if (time.raw() <= processedUntil) {
+			return;
+		}
+
+		DTime restore = worldSystem.getCurrentTime();
+		while (!beats.isEmpty() && beats.peek().time <= time.raw()) {
+			Beat beat = beats.poll();
+			Periodic periodic = beat.periodic;
+			DTime when = DTime.fromMilliseconds(beat.time);
+
+			worldSystem.moveCurrentTime(when);
+			int index = periodic.getPeriodicSchedule().beatAt(beat.time);
+			broadcastSystem.broadcastIfObserved(periodic, () -> periodic.renderPeriodic(when, index));
+
+			beats.offer(new Beat(periodic, periodic.getPeriodicSchedule().nextBeatAfter(beat.time)));
+		}
+		worldSystem.moveCurrentTime(restore);
+		processedUntil = time.raw();
+	}
+
+	/**
+	 * Worlds saved before periodic schedules have periodic entities, such as
+	 * clocks, that were driven by their own queued actions instead. Tag them
+	 * periodic and complete the actions, whose types are no longer registered.
+	 */
+	private void adoptUntagged() {
+		ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+		EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+		DTime now = worldSystem.getCurrentTime();
+		for (Map.Entry<UniqueType, Class<? extends Entity>> type : entitySystem.getEntityTypes().entrySet()) {
+			if (!Periodic.class.isAssignableFrom(type.getValue())) {
+				continue;
+			}
+			for (Entity entity : entitySystem.getEntitiesOfType(type.getKey())) {
+				if (tagSystem.hasTag(entity, TAG_PERIODIC, now)) {
+					continue;
+				}
+				game.log.log("Adopting %s as periodic", entity);
+				actionSystem.cancelPendingActions(entity, now);
+				tagSystem.removeTag(entity, actionSystem.TAG_ACTING, now);
+				tagSystem.addTag(entity, TAG_PERIODIC);
+			}
+		}
+	}
+
+	private void track(Periodic periodic) {
+		if (periodics.putIfAbsent(periodic.getId(), periodic) == null) {
+			beats.offer(new Beat(periodic, periodic.getPeriodicSchedule().nextBeatAfter(processedUntil)));
+		}
+	}
+
+	/**
+	 * Beats before the current time were already handled by the session that
+	 * advanced past them, so schedules resume from now.
+	 */
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+
+		DTime now = worldSystem.getCurrentTime();
+		processedUntil = now.raw();
+		for (Entity entity : tagSystem.findEntitiesByTag(TAG_PERIODIC, now)) {
+			if (entity instanceof Periodic periodic) {
+				track(periodic);
+			}
+		}
+	}
+
+	private record Beat(Periodic periodic, long time) {
+	}
+}
@@ -53,8 +53,10 @@ public class PropertiesSubSystem<TGroup, TProperty, TValue> extends GameSystem i
 		if (v == 0) {
 			try {
 				try (Statement s = game.db().createStatement()) {
-					s.executeUpdate("CREATE TABLE " + tableName + " (pgroup " + groupHandler.sqlType() + ", property "
-							+ propertyHandler.sqlType() + ", value " + valueHandler.sqlType()
+					// A shared catalog database may already hold this table
+					s.executeUpdate("CREATE TABLE IF NOT EXISTS " + game.getSchemaManager().table(tableName)
+							+ " (pgroup " + groupHandler.sqlType() + ", property " + propertyHandler.sqlType()
+							+ ", value " + valueHandler.sqlType()
 							+ ", PRIMARY KEY (pgroup, property))");
 				}
 			} catch (SQLException e) {
@@ -10,10 +10,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 public class RelationshipSystem extends SingletonGameSystem implements OnSystemInitialize {
 	public UniqueType etEntityRelationship;
@@ -23,6 +20,7 @@ public class RelationshipSystem extends SingletonGameSystem implements OnSystemI
 	private PreparedStatement addStatement;
 	private PreparedStatement getProviderStatement;
 	private PreparedStatement getReceiverStatement;
+	private PreparedStatement getReceiversStatement;
 
 	// Common message field constants for relationship-related data
 	public static final String M_CONTAINER = "container";
@@ -72,6 +70,12 @@ public class RelationshipSystem extends SingletonGameSystem implements OnSystemI
 					"SELECT relationship_id, receiver_id FROM entity_relationship WHERE provider_id = ? AND relationship_verb = ? AND relationship_id IN "
 							+ eventSystem.getValidEventsSubquery("entity_relationship.relationship_id")
 							+ " ORDER BY relationship_id");
+			getReceiversStatement = game.db().prepareStatement(
+					"SELECT relationship_id, provider_id, receiver_id FROM entity_relationship WHERE provider_id IN "
+							+ eventSystem.getIdListSubquery()
+							+ " AND relationship_verb = ? AND relationship_id IN "
+							+ eventSystem.getValidEventsSubquery("entity_relationship.relationship_id")
+							+ " ORDER BY relationship_id");
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to prepare relationship statements", e);
 		}
@@ -163,4 +167,44 @@ public class RelationshipSystem extends SingletonGameSystem implements OnSystemI
 					"Could not get receiving entities for " + provider + " " + verb + " up to game time " + when, e);
 		}
 	}
+
+	/**
+	 * Bulk form of {@link #getReceivingRelationships(Entity, UniqueType, DTime)}
+	 * using a single query. Every provider has an entry, in iteration order.
+	 */
+	public synchronized Map<Entity, List<RelationshipDescriptor>> getReceivingRelationships(
+			Collection<? extends Entity> providers, UniqueType verb, DTime when) throws DatabaseException {
+		Map<Long, Entity> providersById = new HashMap<>();
+		Map<Entity, List<RelationshipDescriptor>> result = new LinkedHashMap<>();
+		for (Entity provider : providers) {
+			providersById.put(provider.getId(), provider);
+			result.put(provider, new ArrayList<>());
+		}
+		if (result.isEmpty()) {
+			return result;
+		}
+
+		try {
+			getReceiversStatement.setString(1, eventSystem.getIdListParameter(providers));
+			getReceiversStatement.setLong(2, verb.type());
+			eventSystem.setValidEventsSubqueryParameters(getReceiversStatement, 3, etEntityRelationship, when);
+			try (ResultSet rs = getReceiversStatement.executeQuery()) {
+				while (rs.next()) {
+					Entity provider = providersById.get(rs.getLong(2));
+					result.get(provider).add(RelationshipDescriptor.builder()
+							.relationship(new Relationship(rs.getLong(1), game))
+							.provider(provider)
+							.receiver(entitySystem.get(rs.getLong(3)))
+							.verb(verb)
+							.build());
+				}
+			}
+			return result;
+		} catch (SQLException e) {
+			throw new DatabaseException(
+					"Could not get receiving entities for " + providers.size() + " providers " + verb
+							+ " up to game time " + when,
+					e);
+		}
+	}
 }
@@ -0,0 +1,127 @@
+package com.benleskey.textengine.systems;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.benleskey.textengine.Client;
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SingletonGameSystem;
+import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.hooks.core.OnSystemInitialize;
+import com.benleskey.textengine.model.Entity;
+
+/**
+ * Decides how closely to simulate an actor from its distance to the nearest
+ * player. Distance is measured between the places containing them at
+ * continent scale.
+ * 
+ * - NEAR actors tick normally
+ * - FAR actors tick at a coarser interval
+ * - DORMANT actors are frozen until a player comes within range again, then
+ * caught up with a capped number of coarse turns (see TickSystem)
+ * 
+ * Actors whose place has no position, or worlds with no positioned players,
+ * are always NEAR.
+ */
+public class SimulationLodSystem extends SingletonGameSystem implements OnSystemInitialize {
+
+	public enum Tier {
+		NEAR, FAR, DORMANT
+	}
+
+	private static final double NEAR_DISTANCE = 8;
+	private static final double FAR_DISTANCE = 32;
+	public static final long FAR_INTERVAL_MULTIPLIER = 6;
+
+	private RelationshipSystem relationshipSystem;
+	private SpatialSystem spatialSystem;
+	private WorldSystem worldSystem;
+
+	private List<int[]> observerPositions = List.of();
+	private Set<Long> observerPlaces = Set.of();
+
+	public SimulationLodSystem(Game game) {
+		super(game);
+	}
+
+	@Override
+	public void onSystemInitialize() throws DatabaseException {
+		relationshipSystem = game.getSystem(RelationshipSystem.class);
+		spatialSystem = game.getSystem(SpatialSystem.class);
+		worldSystem = game.getSystem(WorldSystem.class);
+
+		int v = getSchema().getVersionNumber();
+		if (v == 0) {
+			// No database tables needed - tiers are derived from positions
+			getSchema().setVersionNumber(1);
+		}
+	}
+
+	/**
+	 * Recompute where the players are.
+	 * 
+	 * @return true if any player is in a different place than before
+	 */
+	public boolean refreshObservers() {
+		Set<Long> places = new HashSet<>();
+		List<int[]> positions = new ArrayList<>();
+		for (Client client : game.getClients()) {
+			Entity place = client.getEntity().map(this::getPlace).orElse(null);
+			if (place != null && places.add(place.getId())) {
+				int[] position = spatialSystem.getPosition(place, SpatialSystem.SCALE_CONTINENT);
+				if (position != null) {
+					positions.add(position);
+				}
+			}
+		}
+
+		boolean changed = !places.equals(observerPlaces);
+		observerPlaces = places;
+		observerPositions = positions;
+		return changed;
+	}
+
+	/**
+	 * @return places within waking range of a player, i.e. not DORMANT
+	 */
+	public Set<Entity> getPlacesInRange() {
+		Set<Entity> places = new HashSet<>();
+		for (int[] position : observerPositions) {
+			places.addAll(spatialSystem.getEntitiesInRange(SpatialSystem.SCALE_CONTINENT, position, FAR_DISTANCE));
+		}
+		return places;
+	}
+
+	/**
+	 * @return the place directly containing an entity, or null if it is nowhere
+	 */
+	public Entity getPlace(Entity entity) {
+		var containers = relationshipSystem.getProvidingRelationships(entity, relationshipSystem.rvContains,
+				worldSystem.getCurrentTime());
+		return containers.isEmpty() ? null : containers.get(0).getProvider();
+	}
+
+	/**
+	 * Simulation tier for anything in the given place.
+	 */
+	public Tier getTier(Entity place) {
+		if (place == null || observerPositions.isEmpty() || observerPlaces.contains(place.getId())) {
+			return Tier.NEAR;
+		}
+		int[] position = spatialSystem.getPosition(place, SpatialSystem.SCALE_CONTINENT);
+		if (position == null) {
+			return Tier.NEAR;
+		}
+
+		double nearest = Double.MAX_VALUE;
+		for (int[] observer : observerPositions) {
+			nearest = Math.min(nearest, spatialSystem.distance(position, observer));
+		}
+		if (nearest <= NEAR_DISTANCE) {
+			return Tier.NEAR;
+		}
+		return nearest <= FAR_DISTANCE ? Tier.FAR : Tier.DORMANT;
+	}
+}
@@ -1,12 +1,15 @@
 package com.benleskey.textengine.systems;
 
 import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SchemaManager;
 import com.benleskey.textengine.SingletonGameSystem;
 import com.benleskey.textengine.hooks.core.OnSystemInitialize;
 import com.benleskey.textengine.model.Entity;
 import com.benleskey.textengine.model.UniqueType;
 import com.benleskey.textengine.model.FullEvent;
 import com.benleskey.textengine.exceptions.DatabaseException;
+import com.benleskey.textengine.exceptions.InternalException;
+import com.benleskey.textengine.util.SpatialIndex;
 
 import java.util.*;
 import java.sql.PreparedStatement;
@@ -21,6 +24,15 @@ import java.sql.Statement;
  * building, universe, etc.).
  * Supports 2D, 3D, or higher dimensional coordinate systems.
  * Generic and reusable across different world generation strategies.
+ * Current positions are served from an in-memory {@link SpatialIndex} per
+ * scale, kept current by setPosition/removePosition. The index is paged in
+ * square regions: a region is loaded the first time a query touches it and the
+ * least recently used regions are evicted, so memory stays bounded however far
+ * the world is explored.
+ * When the database has shard databases attached (see {@link SchemaManager}),
+ * positions are stored in the shard owning their region and the bare
+ * entity_position name becomes a temporary view over all shards. The shard
+ * count is recorded, and positions are moved when shards are added.
  */
 public class SpatialSystem extends SingletonGameSystem implements OnSystemInitialize {
 
@@ -34,8 +46,36 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 	// Dimensionality of the space (2D, 3D, etc.)
 	private int dimensions = 2;
 
-	private PreparedStatement addPositionStatement;
+	// Positions are paged into memory in square regions of this many tiles
+	private static final int REGION_SIZE = 32;
+	// Least recently used regions beyond this count are evicted, per scale
+	private static final int MAX_LOADED_REGIONS = 64;
+
+	private record Region(int x, int y) {
+	}
+
+	/**
+	 * Loaded regions of one scale and the positions inside them.
+	 */
+	private static class ScaleIndex {
+		final SpatialIndex<Entity> index;
+		final Map<Region, Set<Entity>> regions = new LinkedHashMap<>(16, 0.75f, true);
+
+		ScaleIndex(int dimensions) {
+			index = new SpatialIndex<>(dimensions);
+		}
+	}
+
+	// Per position schema (each shard, or just main), indexed by shard number
+	private final List<PreparedStatement> addPositionStatements = new ArrayList<>();
+	private final List<PreparedStatement> getRegionPositionsStatements = new ArrayList<>();
 	private PreparedStatement getCurrentPositionStatement;
+	private PreparedStatement getBoxPositionsStatement;
+	private PreparedStatement getScaleEntitiesStatement;
+	private final Map<UniqueType, ScaleIndex> indexes = new HashMap<>();
+	private EventSystem eventSystem;
+	private WorldSystem worldSystem;
+	private EntitySystem entitySystem;
 
 	public SpatialSystem(Game game) {
 		super(game);
@@ -52,6 +92,7 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 			throw new IllegalArgumentException("Dimensions must be at least 1");
 		}
 		this.dimensions = dimensions;
+		indexes.clear();
 	}
 
 	public int getDimensions() {
@@ -81,16 +122,83 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 			getSchema().setVersionNumber(1);
 		}
 
+		List<String> shards = game.getSchemaManager().getShards();
+		if (!shards.isEmpty()) {
+			try {
+				try (Statement s = game.db().createStatement()) {
+					// Shard files may be added or replaced between runs, so create on every start
+					for (String shard : shards) {
+						s.executeUpdate("CREATE TABLE IF NOT EXISTS " + shard
+								+ ".entity_position(position_id INTEGER PRIMARY KEY, entity_id INTEGER, scale_id INTEGER, x INTEGER, y INTEGER, z INTEGER DEFAULT 0, w INTEGER DEFAULT 0)");
+						s.executeUpdate("CREATE INDEX IF NOT EXISTS " + shard
+								+ ".idx_entity_position_entity ON entity_position(entity_id)");
+						s.executeUpdate("CREATE INDEX IF NOT EXISTS " + shard
+								+ ".idx_entity_position_coords ON entity_position(scale_id, x, y)");
+					}
+					s.executeUpdate("DROP VIEW IF EXISTS temp.entity_position");
+					s.executeUpdate("CREATE TEMP VIEW entity_position AS " + String.join(" UNION ALL ",
+							shards.stream().map(shard -> "SELECT * FROM " + shard + ".entity_position").toList()));
+				}
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to create spatial position shards", e);
+			}
+		}
+
+		// Record how many shards positions are stored across, so a different --shards can be caught
+		if (v < 2) {
+			try {
+				try (Statement s = game.db().createStatement()) {
+					s.executeUpdate("CREATE TABLE spatial_layout(shard_count INTEGER NOT NULL)");
+					// Worlds from before the layout was recorded: anything in the main table was written unsharded
+					boolean mainPositions;
+					try (ResultSet rs = s.executeQuery("SELECT EXISTS (SELECT 1 FROM main.entity_position)")) {
+						mainPositions = rs.next() && rs.getBoolean(1);
+					}
+					s.executeUpdate("INSERT INTO spatial_layout (shard_count) VALUES ("
+							+ (mainPositions ? 0 : shards.size()) + ")");
+				}
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to create spatial layout table", e);
+			}
+
+			getSchema().setVersionNumber(2);
+		}
+		relayoutPositions(shards);
+
 		var uniqueTypeSystem = game.getSystem(UniqueTypeSystem.class);
+		eventSystem = game.getSystem(EventSystem.class);
+		worldSystem = game.getSystem(WorldSystem.class);
+		entitySystem = game.getSystem(EntitySystem.class);
 
 		// Prepare statements (EventSystem exists due to SpatialPlugin dependency)
+		// A box only holds an entity whose latest position is inside it, not an older one left behind.
+		// The unary + keeps SQLite finding later rows by entity instead of scanning the whole scale.
+		String latestPosition = " AND NOT EXISTS (SELECT 1 FROM entity_position AS later WHERE later.entity_id = entity_position.entity_id AND +later.scale_id = entity_position.scale_id AND later.position_id > entity_position.position_id AND later.position_id IN "
+				+ eventSystem.getValidEventsSubquery("later.position_id") + ")";
 		try {
-			addPositionStatement = game.db().prepareStatement(
-					"INSERT INTO entity_position (position_id, entity_id, scale_id, x, y, z, w) VALUES (?, ?, ?, ?, ?, ?, ?)");
-			var es = game.getSystem(EventSystem.class);
+			for (String schema : shards.isEmpty() ? List.of("main") : shards) {
+				addPositionStatements.add(game.db().prepareStatement("INSERT INTO " + schema
+						+ ".entity_position (position_id, entity_id, scale_id, x, y, z, w) VALUES (?, ?, ?, ?, ?, ?, ?)"));
+				getRegionPositionsStatements.add(game.db().prepareStatement(
+						"SELECT entity_position.entity_id, entity_position.x, entity_position.y, entity_position.z, entity_position.w FROM "
+								+ schema
+								+ ".entity_position WHERE entity_position.scale_id = ? AND entity_position.x BETWEEN ? AND ? AND entity_position.y BETWEEN ? AND ? AND entity_position.position_id IN "
+								+ eventSystem.getValidEventsSubquery("entity_position.position_id")
+								+ latestPosition
+								+ " ORDER BY entity_position.position_id"));
+			}
 			getCurrentPositionStatement = game.db().prepareStatement(
 					"SELECT entity_position.x, entity_position.y, entity_position.z, entity_position.w FROM entity_position WHERE entity_position.entity_id = ? AND entity_position.scale_id = ? AND entity_position.position_id IN "
-							+ es.getValidEventsSubquery("entity_position.position_id"));
+							+ eventSystem.getValidEventsSubquery("entity_position.position_id")
+							+ " ORDER BY entity_position.position_id DESC LIMIT 1");
+			getBoxPositionsStatement = game.db().prepareStatement(
+					"SELECT entity_position.entity_id, entity_position.x, entity_position.y, entity_position.z, entity_position.w FROM entity_position WHERE entity_position.scale_id = ? AND entity_position.x BETWEEN ? AND ? AND entity_position.y BETWEEN ? AND ? AND entity_position.position_id IN "
+							+ eventSystem.getValidEventsSubquery("entity_position.position_id")
+							+ latestPosition
+							+ " ORDER BY entity_position.position_id");
+			getScaleEntitiesStatement = game.db().prepareStatement(
+					"SELECT entity_position.entity_id FROM entity_position WHERE entity_position.scale_id = ? AND entity_position.position_id IN "
+							+ eventSystem.getValidEventsSubquery("entity_position.position_id"));
 		} catch (SQLException e) {
 			throw new DatabaseException("Unable to prepare spatial statements", e);
 		}
@@ -118,6 +226,7 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 		}
 
 		try {
+			PreparedStatement addPositionStatement = addPositionStatements.get(shard(region(coords)));
 			long id = game.getNewGlobalId();
 			addPositionStatement.setLong(1, id);
 			addPositionStatement.setLong(2, entity.getId());
@@ -127,8 +236,13 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 			addPositionStatement.setInt(6, coords.length > 2 ? coords[2] : 0);
 			addPositionStatement.setInt(7, coords.length > 3 ? coords[3] : 0);
 			addPositionStatement.executeUpdate();
-			return game.getSystem(EventSystem.class).addEventNow(etEntityPosition,
+			var event = eventSystem.addEventNow(etEntityPosition,
 					new com.benleskey.textengine.model.BaseReference(id, game));
+			ScaleIndex scaleIndex = indexes.get(scale);
+			if (scaleIndex != null) {
+				place(scaleIndex, entity, coords);
+			}
+			return event;
 		} catch (SQLException e) {
 			throw new DatabaseException("Failed to set position", e);
 		}
@@ -142,25 +256,34 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 	 * @return Coordinates, or null if entity has no position at this scale
 	 */
 	public int[] getPosition(Entity entity, UniqueType scale) {
+		ScaleIndex scaleIndex = indexes.computeIfAbsent(scale, k -> new ScaleIndex(dimensions));
+		int[] coords = scaleIndex.index.get(entity);
+		if (coords != null) {
+			scaleIndex.regions.get(region(coords)); // Mark the region as recently used
+			return coords;
+		}
+
 		try {
 			getCurrentPositionStatement.setLong(1, entity.getId());
 			getCurrentPositionStatement.setLong(2, scale.type());
-			var es = game.getSystem(EventSystem.class);
-			es.setValidEventsSubqueryParameters(getCurrentPositionStatement, 3, etEntityPosition,
-					game.getSystem(WorldSystem.class).getCurrentTime());
+			eventSystem.setValidEventsSubqueryParameters(getCurrentPositionStatement, 3,
+					etEntityPosition, worldSystem.getCurrentTime());
 			try (ResultSet rs = getCurrentPositionStatement.executeQuery()) {
-				if (rs.next()) {
-					int[] coords = new int[dimensions];
-					for (int i = 0; i < dimensions && i < 4; i++) {
-						coords[i] = rs.getInt(i + 1);
-					}
-					return coords;
+				if (!rs.next()) {
+					return null;
+				}
+				coords = new int[dimensions];
+				for (int i = 0; i < dimensions; i++) {
+					coords[i] = rs.getInt(i + 1);
 				}
 			}
 		} catch (SQLException e) {
 			throw new DatabaseException("Failed to get position", e);
 		}
-		return null;
+
+		// Entities are usually looked up near each other, so page in the neighborhood
+		getIndexCovering(scale, coords, coords);
+		return coords;
 	}
 
 	/**
@@ -176,30 +299,8 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 					String.format("Expected %d coordinates, got %d", dimensions, coords.length));
 		}
 
-		try {
-			var es = game.getSystem(EventSystem.class);
-			PreparedStatement stmt = game.db().prepareStatement(
-					"SELECT entity_position.entity_id FROM entity_position WHERE entity_position.scale_id = ? AND entity_position.x = ? AND entity_position.y = ? AND (entity_position.z = ? OR ? >= 3) AND (entity_position.w = ? OR ? >= 4) AND entity_position.position_id IN "
-							+ es.getValidEventsSubquery("entity_position.position_id"));
-			stmt.setLong(1, scale.type());
-			stmt.setInt(2, coords.length > 0 ? coords[0] : 0);
-			stmt.setInt(3, coords.length > 1 ? coords[1] : 0);
-			stmt.setInt(4, coords.length > 2 ? coords[2] : 0);
-			stmt.setInt(5, dimensions);
-			stmt.setInt(6, coords.length > 3 ? coords[3] : 0);
-			stmt.setInt(7, dimensions);
-			// valid events subquery params
-			es.setValidEventsSubqueryParameters(stmt, 8, etEntityPosition,
-					game.getSystem(WorldSystem.class).getCurrentTime());
-			try (ResultSet rs = stmt.executeQuery()) {
-				if (rs.next()) {
-					return game.getSystem(EntitySystem.class).get(rs.getLong(1));
-				}
-			}
-		} catch (SQLException e) {
-			throw new DatabaseException("Failed to get entity at position", e);
-		}
-		return null;
+		Set<Entity> entities = getIndexCovering(scale, coords, coords).getAt(coords);
+		return entities.isEmpty() ? null : entities.iterator().next();
 	}
 
 	/**
@@ -273,37 +374,36 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 	 * @return List of entities within range
 	 */
 	public List<Entity> getEntitiesInRange(UniqueType scale, int[] coords, double maxDistance) {
-		List<Entity> result = new ArrayList<>();
-
-		try {
-			var es = game.getSystem(EventSystem.class);
-			PreparedStatement stmt = game.db().prepareStatement(
-					"SELECT entity_position.entity_id, entity_position.x, entity_position.y, entity_position.z, entity_position.w FROM entity_position WHERE entity_position.scale_id = ? AND entity_position.position_id IN "
-							+ es.getValidEventsSubquery("entity_position.position_id"));
-			stmt.setLong(1, scale.type());
-			es.setValidEventsSubqueryParameters(stmt, 2, etEntityPosition,
-					game.getSystem(WorldSystem.class).getCurrentTime());
-
-			try (ResultSet rs = stmt.executeQuery()) {
-				while (rs.next()) {
-					int[] entityCoords = new int[dimensions];
-					for (int i = 0; i < dimensions && i < 4; i++) {
-						entityCoords[i] = rs.getInt(i + 2); // +2 because column 1 is entity_id
-					}
+		return getIndexAround(scale, coords, maxDistance).getInRadius(coords, maxDistance);
+	}
 
-					if (distance(coords, entityCoords) <= maxDistance) {
-						Entity entity = game.getSystem(EntitySystem.class).get(rs.getLong(1));
-						if (entity != null) {
-							result.add(entity);
-						}
-					}
-				}
-			}
-		} catch (SQLException e) {
-			throw new DatabaseException("Failed to get entities in range", e);
-		}
+	/**
+	 * Get all entities inside an inclusive bounding box at a specific scale.
+	 *
+	 * @param scale The spatial scale
+	 * @param min   Lowest corner of the box
+	 * @param max   Highest corner of the box
+	 * @return List of entities within the box
+	 */
+	public List<Entity> getEntitiesInBox(UniqueType scale, int[] min, int[] max) {
+		return getIndexCovering(scale, min, max).getInBox(min, max);
+	}
 
-		return result;
+	/**
+	 * Get the entities nearest to a position at a specific scale.
+	 *
+	 * @param scale       The spatial scale
+	 * @param coords      Center position
+	 * @param count       Maximum number of entities to return
+	 * @param maxDistance Maximum distance to search
+	 * @return Up to count entities within maxDistance, closest first
+	 */
+	public List<Entity> getNearestEntities(UniqueType scale, int[] coords, int count, double maxDistance) {
+		SpatialIndex<Entity> index = getIndexAround(scale, coords, maxDistance);
+		// Everything within maxDistance is loaded, so the k nearest loaded are the k nearest
+		return index.getNearest(coords, count).stream()
+				.filter(entity -> index.distance(coords, index.get(entity)) <= maxDistance)
+				.toList();
 	}
 
 	/**
@@ -311,27 +411,35 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 	 * Cancels all valid position events (even if typically only one exists).
 	 */
 	public void removePosition(Entity entity, UniqueType scale) {
-		EventSystem es = game.getSystem(EventSystem.class);
 		try {
 			PreparedStatement findStmt = game.db().prepareStatement(
 					"SELECT event.event_id FROM event " +
 							"JOIN entity_position ON entity_position.position_id = event.reference " +
 							"WHERE event.type = ? AND entity_position.entity_id = ? AND entity_position.scale_id = ? " +
 							"AND entity_position.position_id IN "
-							+ es.getValidEventsSubquery("entity_position.position_id"));
+							+ eventSystem.getValidEventsSubquery("entity_position.position_id"));
 			findStmt.setLong(1, etEntityPosition.type());
 			findStmt.setLong(2, entity.getId());
 			findStmt.setLong(3, scale.type());
-			es.setValidEventsSubqueryParameters(findStmt, 4, etEntityPosition,
-					game.getSystem(WorldSystem.class).getCurrentTime());
+			eventSystem.setValidEventsSubqueryParameters(findStmt, 4, etEntityPosition,
+					worldSystem.getCurrentTime());
 			try (ResultSet rs = findStmt.executeQuery()) {
 				while (rs.next()) {
-					es.cancelEvent(rs.getLong(1));
+					eventSystem.cancelEvent(rs.getLong(1));
 				}
 			}
 		} catch (SQLException e) {
 			throw new DatabaseException("Failed to remove position", e);
 		}
+
+		ScaleIndex scaleIndex = indexes.get(scale);
+		if (scaleIndex != null) {
+			int[] coords = scaleIndex.index.get(entity);
+			if (coords != null) {
+				scaleIndex.index.remove(entity);
+				scaleIndex.regions.get(region(coords)).remove(entity);
+			}
+		}
 	}
 
 	/**
@@ -343,17 +451,14 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 	public Set<Entity> getAllPositionedEntities(UniqueType scale) {
 		Set<Entity> result = new HashSet<>();
 
-		try (var stmt = game.db().prepareStatement("""
-				SELECT entity_position.entity_id FROM entity_position
-				WHERE entity_position.scale_id = ? AND entity_position.position_id IN
-				""" + game.getSystem(EventSystem.class).getValidEventsSubquery("entity_position.position_id"))) {
-			stmt.setLong(1, scale.type());
-			game.getSystem(EventSystem.class).setValidEventsSubqueryParameters(stmt, 2, etEntityPosition,
-					game.getSystem(WorldSystem.class).getCurrentTime());
+		try {
+			getScaleEntitiesStatement.setLong(1, scale.type());
+			eventSystem.setValidEventsSubqueryParameters(getScaleEntitiesStatement, 2,
+					etEntityPosition, worldSystem.getCurrentTime());
 
-			try (var rs = stmt.executeQuery()) {
+			try (ResultSet rs = getScaleEntitiesStatement.executeQuery()) {
 				while (rs.next()) {
-					Entity entity = game.getSystem(EntitySystem.class).get(rs.getLong(1));
+					Entity entity = entitySystem.get(rs.getLong(1));
 					if (entity != null) {
 						result.add(entity);
 					}
@@ -399,4 +504,189 @@ public class SpatialSystem extends SingletonGameSystem implements OnSystemInitia
 
 		return closest;
 	}
+
+	/**
+	 * Index holding at least every position within maxDistance of center.
+	 */
+	private SpatialIndex<Entity> getIndexAround(UniqueType scale, int[] center, double maxDistance) {
+		int reach = (int) Math.ceil(maxDistance);
+		int[] min = new int[dimensions];
+		int[] max = new int[dimensions];
+		for (int i = 0; i < dimensions; i++) {
+			min[i] = center[i] - reach;
+			max[i] = center[i] + reach;
+		}
+		return getIndexCovering(scale, min, max);
+	}
+
+	/**
+	 * Index holding at least every position inside the box [min, max]. Covered
+	 * regions are paged in; a box wider than the region budget is answered from a
+	 * one-off index instead so it cannot flush the working set.
+	 */
+	private SpatialIndex<Entity> getIndexCovering(UniqueType scale, int[] min, int[] max) {
+		Region low = region(min);
+		Region high = region(max);
+		long regionCount = (long) (high.x() - low.x() + 1) * (high.y() - low.y() + 1);
+
+		if (regionCount > MAX_LOADED_REGIONS) {
+			SpatialIndex<Entity> oneOff = new SpatialIndex<>(dimensions);
+			loadBox(getBoxPositionsStatement, scale, low.x() * REGION_SIZE, (high.x() + 1) * REGION_SIZE - 1, low.y() * REGION_SIZE,
+					(high.y() + 1) * REGION_SIZE - 1, oneOff::put);
+			return oneOff;
+		}
+
+		ScaleIndex scaleIndex = indexes.computeIfAbsent(scale, k -> new ScaleIndex(dimensions));
+		for (int x = low.x(); x <= high.x(); x++) {
+			for (int y = low.y(); y <= high.y(); y++) {
+				Region region = new Region(x, y);
+				if (scaleIndex.regions.get(region) == null) {
+					scaleIndex.regions.put(region, new HashSet<>());
+					loadBox(getRegionPositionsStatements.get(shard(region)), scale, x * REGION_SIZE, (x + 1) * REGION_SIZE - 1, y * REGION_SIZE,
+							(y + 1) * REGION_SIZE - 1, (entity, coords) -> place(scaleIndex, entity, coords));
+				}
+			}
+		}
+		// The covered regions were just used, so they are the last to go
+		evictColdRegions(scaleIndex);
+		return scaleIndex.index;
+	}
+
+	/**
+	 * Number of regions of a scale currently paged in.
+	 */
+	int getLoadedRegionCount(UniqueType scale) {
+		ScaleIndex scaleIndex = indexes.get(scale);
+		return scaleIndex == null ? 0 : scaleIndex.regions.size();
+	}
+
+	private void evictColdRegions(ScaleIndex scaleIndex) {
+		Iterator<Map.Entry<Region, Set<Entity>>> it = scaleIndex.regions.entrySet().iterator();
+		while (scaleIndex.regions.size() > MAX_LOADED_REGIONS && it.hasNext()) {
+			for (Entity entity : it.next().getValue()) {
+				scaleIndex.index.remove(entity);
+			}
+			it.remove();
+		}
+	}
+
+	/**
+	 * Record an entity's current position if its region is loaded, and forget
+	 * any stale position it had in another loaded region.
+	 */
+	private void place(ScaleIndex scaleIndex, Entity entity, int[] coords) {
+		int[] previous = scaleIndex.index.get(entity);
+		if (previous != null) {
+			scaleIndex.regions.get(region(previous)).remove(entity);
+		}
+
+		Set<Entity> regionEntities = scaleIndex.regions.get(region(coords));
+		if (regionEntities != null) {
+			regionEntities.add(entity);
+			scaleIndex.index.put(entity, coords);
+		} else {
+			scaleIndex.index.remove(entity);
+		}
+	}
+
+	private void loadBox(PreparedStatement statement, UniqueType scale, int minX, int maxX, int minY, int maxY,
+			java.util.function.BiConsumer<Entity, int[]> consumer) {
+		try {
+			statement.setLong(1, scale.type());
+			statement.setInt(2, minX);
+			statement.setInt(3, maxX);
+			statement.setInt(4, dimensions > 1 ? minY : 0);
+			statement.setInt(5, dimensions > 1 ? maxY : 0);
+			int next = eventSystem.setValidEventsSubqueryParameters(statement, 6,
+					etEntityPosition, worldSystem.getCurrentTime());
+			eventSystem.setValidEventsSubqueryParameters(statement, next,
+					etEntityPosition, worldSystem.getCurrentTime());
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) {
+					int[] coords = new int[dimensions];
+					for (int i = 0; i < dimensions; i++) {
+						coords[i] = rs.getInt(i + 2); // +2 because column 1 is entity_id
+					}
+					Entity entity = entitySystem.get(rs.getLong(1));
+					if (entity != null) {
+						consumer.accept(entity, coords);
+					}
+				}
+			}
+		} catch (SQLException e) {
+			throw new DatabaseException("Failed to load positions for " + scale, e);
+		}
+	}
+
+	/**
+	 * Move positions written with fewer shards (or none) into the shards that
+	 * own their regions now. Shards that are no longer attached cannot be read,
+	 * so starting with fewer shards than the world was written with is refused.
+	 */
+	private void relayoutPositions(List<String> shards) {
+		try {
+			int stored;
+			try (Statement s = game.db().createStatement();
+					ResultSet rs = s.executeQuery("SELECT shard_count FROM spatial_layout")) {
+				stored = rs.next() ? rs.getInt(1) : 0;
+			}
+			if (stored == shards.size()) {
+				return;
+			}
+			if (stored > shards.size()) {
+				throw new InternalException(String.format(
+						"Positions are stored across %d shards but %d are attached; start with --shards %d", stored,
+						shards.size(), stored));
+			}
+
+			game.log.log("Moving positions from %d shards to %d", stored, shards.size());
+			for (String source : stored == 0 ? List.of("main") : shards.subList(0, stored)) {
+				// Work out every move before changing the table being read
+				Map<String, List<Long>> moves = new HashMap<>();
+				try (Statement s = game.db().createStatement();
+						ResultSet rs = s.executeQuery("SELECT position_id, x, y FROM " + source + ".entity_position")) {
+					while (rs.next()) {
+						String target = shards.get(shard(region(new int[] { rs.getInt(2), rs.getInt(3) }), shards.size()));
+						if (!target.equals(source)) {
+							moves.computeIfAbsent(target, t -> new ArrayList<>()).add(rs.getLong(1));
+						}
+					}
+				}
+				try (PreparedStatement delete = game.db()
+						.prepareStatement("DELETE FROM " + source + ".entity_position WHERE position_id = ?")) {
+					for (Map.Entry<String, List<Long>> move : moves.entrySet()) {
+						try (PreparedStatement copy = game.db().prepareStatement("INSERT INTO " + move.getKey()
+								+ ".entity_position SELECT * FROM " + source + ".entity_position WHERE position_id = ?")) {
+							for (long id : move.getValue()) {
+								copy.setLong(1, id);
+								copy.executeUpdate();
+								delete.setLong(1, id);
+								delete.executeUpdate();
+							}
+						}
+					}
+				}
+			}
+
+			try (PreparedStatement s = game.db().prepareStatement("UPDATE spatial_layout SET shard_count = ?")) {
+				s.setInt(1, shards.size());
+				s.executeUpdate();
+			}
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to move positions between shards", e);
+		}
+	}
+
+	private int shard(Region region) {
+		return shard(region, addPositionStatements.size());
+	}
+
+	private static int shard(Region region, int shardCount) {
+		return Math.floorMod(31 * region.x() + region.y(), shardCount);
+	}
+
+	private Region region(int[] coords) {
+		return new Region(Math.floorDiv(coords[0], REGION_SIZE),
+				dimensions > 1 ? Math.floorDiv(coords[1], REGION_SIZE) : 0);
+	}
 }
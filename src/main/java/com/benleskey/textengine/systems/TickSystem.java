@@ -1,31 +1,88 @@
 package com.benleskey.textengine.systems;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.TreeMap;
 
 import com.benleskey.textengine.Game;
 import com.benleskey.textengine.SingletonGameSystem;
 import com.benleskey.textengine.entities.Acting;
 import com.benleskey.textengine.exceptions.DatabaseException;
 import com.benleskey.textengine.hooks.core.OnSystemInitialize;
-import com.benleskey.textengine.model.Action;
 import com.benleskey.textengine.model.DTime;
 import com.benleskey.textengine.model.Entity;
-import com.benleskey.textengine.model.UniqueType;
 
 /**
  * System for processing Acting entities over time.
  * Acting entities (players, NPCs, objects like clocks) have their actions
  * processed when world time advances.
+ *
+ * Each actor has a single next wake time, persisted in the tick_wake table and
+ * indexed in memory by a min-heap. Advancing time only pops the actors that are
+ * due, so idle actors cost nothing until their wake time arrives.
+ *
+ * Long waits are fast-forwarded: intermediate tick times are kept in memory
+ * only, and each actor's final wake time is written once per advance.
+ *
+ * Catch-up can be time-sliced: a budgeted call stops between tick slots and
+ * leaves the remaining wakes in the heap, so the next call resumes where it
+ * left off. Until then the world clock stays at the last processed slot, so
+ * commands handled meanwhile never happen before a pending tick, and the time
+ * to reach is kept in memory. getTickLag() reports how far behind it is.
+ *
+ * Actors far from every player tick less often, and actors out of range are
+ * frozen by place until a player comes near (see SimulationLodSystem). Frozen
+ * actors are kept in the tick_dormant table instead of tick_wake, so they stay
+ * frozen across restarts. On its first tick after thawing an actor is caught
+ * up with abstracted turns: one per FAR interval it spent frozen, up to
+ * MAX_CATCH_UP_TURNS, each running its pending action early and deciding again,
+ * all at the thaw time.
  */
 public class TickSystem extends SingletonGameSystem implements OnSystemInitialize {
 
-	private EntityTagSystem tagSystem;
+	public static final int MAX_CATCH_UP_TURNS = 10;
+
 	private WorldSystem worldSystem;
 	private EntitySystem entitySystem;
+	private EntityTagSystem tagSystem;
+	private ActionSystem actionSystem;
+	private PeriodicSystem periodicSystem;
+	private SimulationLodSystem lodSystem;
+
+	private PreparedStatement setWakeStatement;
+	private PreparedStatement removeWakeStatement;
+	private PreparedStatement getWakesStatement;
+	private PreparedStatement setDormantStatement;
+	private PreparedStatement removeDormantStatement;
+	private PreparedStatement getDormantStatement;
+
+	// Heap entries are lazily invalidated: only the entry matching wakeTimes is live
+	private final PriorityQueue<ActingTick> wakeQueue = new PriorityQueue<>(
+			Comparator.comparingLong((ActingTick t) -> t.tickTime).thenComparingLong(t -> t.acting.getId()));
+	private final Map<Long, Long> wakeTimes = new HashMap<>();
+	private final Set<Long> dirtyWakes = new HashSet<>();
+	// Frozen actors by the id of the place they were frozen in, and the reverse
+	private final Map<Long, Map<Long, Acting>> dormantByPlace = new HashMap<>();
+	private final Map<Long, Long> dormantPlaces = new HashMap<>();
+	// When each frozen actor was frozen, moved to thawedFrom until its catch-up runs
+	private final Map<Long, Long> frozenAt = new HashMap<>();
+	private final Map<Long, Long> thawedFrom = new HashMap<>();
+	// Run once ticks are processed up to their time, by that time
+	private final TreeMap<Long, List<Runnable>> caughtUpActions = new TreeMap<>();
+	// The world time catch-up is heading for; ahead of the world clock while lagging
+	private long targetMillis = Long.MIN_VALUE;
+	private boolean loaded = false;
+	private boolean processing = false;
 
 	public TickSystem(Game game) {
 		super(game);
@@ -33,108 +90,439 @@ public class TickSystem extends SingletonGameSystem implements OnSystemInitializ
 
 	@Override
 	public void onSystemInitialize() throws DatabaseException {
-		tagSystem = game.getSystem(EntityTagSystem.class);
 		worldSystem = game.getSystem(WorldSystem.class);
 		entitySystem = game.getSystem(EntitySystem.class);
+		tagSystem = game.getSystem(EntityTagSystem.class);
+		actionSystem = game.getSystem(ActionSystem.class);
+		periodicSystem = game.getSystem(PeriodicSystem.class);
+		lodSystem = game.getSystem(SimulationLodSystem.class);
 
 		int v = getSchema().getVersionNumber();
 		if (v == 0) {
-			// No database tables needed - tick state is kept in memory
 			getSchema().setVersionNumber(1);
+			v = 1;
+		}
+		if (v == 1) {
+			try (Statement s = game.db().createStatement()) {
+				s.executeUpdate(
+						"CREATE TABLE tick_wake (entity_id INTEGER PRIMARY KEY, wake_time INTEGER NOT NULL)");
+				s.executeUpdate("CREATE INDEX tick_wake_time ON tick_wake(wake_time)");
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to create tick wake table", e);
+			}
+			getSchema().setVersionNumber(2);
+			v = 2;
+		}
+		if (v == 2) {
+			try (Statement s = game.db().createStatement()) {
+				s.executeUpdate(
+						"CREATE TABLE tick_dormant (entity_id INTEGER PRIMARY KEY, place_id INTEGER NOT NULL)");
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to create tick dormant table", e);
+			}
+			getSchema().setVersionNumber(3);
+			v = 3;
+		}
+		if (v == 3) {
+			try (Statement s = game.db().createStatement()) {
+				s.executeUpdate("ALTER TABLE tick_dormant ADD COLUMN frozen_at INTEGER NOT NULL DEFAULT 0");
+			} catch (SQLException e) {
+				throw new DatabaseException("Unable to add freeze times to tick dormant table", e);
+			}
+			getSchema().setVersionNumber(4);
+		}
+
+		try {
+			setWakeStatement = game.db().prepareStatement(
+					"INSERT OR REPLACE INTO tick_wake (entity_id, wake_time) VALUES (?, ?)");
+			removeWakeStatement = game.db().prepareStatement("DELETE FROM tick_wake WHERE entity_id = ?");
+			getWakesStatement = game.db().prepareStatement("SELECT entity_id, wake_time FROM tick_wake");
+			setDormantStatement = game.db().prepareStatement(
+					"INSERT OR REPLACE INTO tick_dormant (entity_id, place_id, frozen_at) VALUES (?, ?, ?)");
+			removeDormantStatement = game.db().prepareStatement("DELETE FROM tick_dormant WHERE entity_id = ?");
+			getDormantStatement = game.db().prepareStatement("SELECT entity_id, place_id, frozen_at FROM tick_dormant");
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to prepare tick statements", e);
 		}
 	}
 
 	/**
-	 * Process actions for all Acting entities in the world.
-	 * Entities are processed in time order to ensure fairness.
+	 * Wake an actor no later than the given time.
+	 * An earlier existing wake time is kept. A frozen actor is thawed.
 	 */
-	public void processWorldTicks() {
-		DTime currentTime = worldSystem.getCurrentTime();
-		ActionSystem aas = game.getSystem(ActionSystem.class);
-
-		// Collect all Acting entities
-		List<Acting> allActing = new ArrayList<>();
-
-		UniqueType tagActing = aas.TAG_ACTING;
-		if (tagActing != null) {
-			Set<Entity> actingEntities = tagSystem.findEntitiesByTag(tagActing, currentTime);
-			for (Entity entity : actingEntities) {
-				if (entity instanceof Acting acting) {
-					allActing.add(acting);
-				}
+	public synchronized void wakeBy(Acting acting, long wakeTime) {
+		ensureLoaded();
+		thaw(acting.getId());
+		Long current = wakeTimes.get(acting.getId());
+		if (current == null || wakeTime < current) {
+			setWake(acting, wakeTime);
+			if (!processing) {
+				flushWakes();
 			}
 		}
+	}
 
-		// Process all entities in time-fair order
-		processEntitiesInTimeOrder(allActing, currentTime, aas);
+	/**
+	 * Schedule a newly acting entity for its first interval check.
+	 */
+	public synchronized void addActing(Acting acting) {
+		DTime interval = acting.getActionInterval();
+		if (interval != null) {
+			wakeBy(acting, worldSystem.getCurrentTime().toMilliseconds() + interval.toMilliseconds());
+		}
 	}
 
 	/**
-	 * Process entities one action at a time in chronological order.
-	 * This ensures fair interleaving - no single entity monopolizes time.
+	 * @return the next scheduled wake time for an actor, or null if it is idle
 	 */
-	private void processEntitiesInTimeOrder(List<Acting> entities, DTime targetTime, ActionSystem aas) {
-		PriorityQueue<ActingTick> tickQueue = new PriorityQueue<>(Comparator.comparingLong(t -> t.tickTime));
+	public synchronized Long getWakeTime(Acting acting) {
+		ensureLoaded();
+		return wakeTimes.get(acting.getId());
+	}
 
-		for (Acting acting : entities) {
-			Entity entity = (Entity) acting;
-			Long lastTickMs = entitySystem.getTagValue(entity, aas.TAG_LAST_ACTION_CHECK, targetTime);
-			DTime lastTick;
+	/**
+	 * Process actions for all Acting entities due up to the current world time.
+	 * Entities are processed in time order to ensure fairness.
+	 */
+	public synchronized void processWorldTicks() {
+		processWorldTicks(Long.MAX_VALUE);
+	}
 
-			if (lastTickMs == null) {
-				Long creationMs = entitySystem.getTagValue(entity, entitySystem.TAG_ENTITY_CREATED, targetTime);
-				lastTick = creationMs != null ? DTime.fromMilliseconds(creationMs) : DTime.fromMilliseconds(0);
-			} else {
-				lastTick = DTime.fromMilliseconds(lastTickMs);
+	/**
+	 * Process due actors in time order until caught up or until the budget is
+	 * spent. At least one slot is processed per call so catch-up always
+	 * progresses. When the budget runs out the world clock is left at the last
+	 * processed slot and the rest is remembered for the next call.
+	 *
+	 * @return true if the world is caught up to the current time
+	 */
+	public synchronized boolean processWorldTicks(long budgetNanos) {
+		ensureLoaded();
+		DTime targetTime = getTargetTime();
+		targetMillis = targetTime.toMilliseconds();
+		long started = System.nanoTime();
+		int wakes = 0;
+		Set<Long> woken = new HashSet<>();
+		boolean caughtUp = true;
+
+		processing = true;
+		try {
+			if (lodSystem.refreshObservers()) {
+				wakeDormantInRange(targetTime);
 			}
 
-			DTime interval = acting.getActionInterval();
-			long nextTickTime = lastTick.toMilliseconds() + interval.toMilliseconds();
+			ActingTick next;
+			while ((next = peekLive()) != null && next.tickTime <= targetTime.toMilliseconds()) {
+				if (wakes > 0 && System.nanoTime() - started >= budgetNanos) {
+					caughtUp = false;
+					break;
+				}
+
+				// Every actor due in the same millisecond is processed as one slot, in id order
+				long slotTime = next.tickTime;
+				List<Acting> slot = new ArrayList<>();
+				while ((next = peekLive()) != null && next.tickTime == slotTime) {
+					wakeQueue.poll();
+					wakeTimes.remove(next.acting.getId());
+					slot.add(next.acting);
+				}
+				wakes += slot.size();
+				slot.forEach(acting -> woken.add(acting.getId()));
 
-			if (nextTickTime <= targetTime.toMilliseconds()) {
-				tickQueue.offer(new ActingTick(acting, nextTickTime));
+				DTime tickTime = DTime.fromMilliseconds(slotTime);
+				periodicSystem.advanceTo(tickTime);
+				worldSystem.moveCurrentTime(tickTime);
+				for (Acting acting : slot) {
+					catchUp(acting, slotTime);
+				}
+				actionSystem.processActingEntitiesTick(slot);
+				for (Acting acting : slot) {
+					scheduleNext(acting, slotTime);
+				}
+			}
+			if (caughtUp) {
+				periodicSystem.advanceTo(targetTime);
 			}
+		} finally {
+			processing = false;
+		}
+
+		DTime processedTo = worldSystem.setCurrentTime(caughtUp ? targetTime : worldSystem.getCurrentTime());
+		flushWakes();
+		runCaughtUpActions(processedTo);
+
+		if (wakes > 0) {
+			log.log("Processed %d wakes for %d actors up to time %d in %.1f ms, %d ms behind", wakes, woken.size(),
+					targetTime.toMilliseconds(), (System.nanoTime() - started) / 1e6,
+					getTickLag().toMilliseconds());
+		}
+		return caughtUp;
+	}
+
+	/**
+	 * Run an action once every tick up to the given time has been processed,
+	 * at the end of the processWorldTicks call that gets there.
+	 */
+	public synchronized void runWhenCaughtUp(DTime time, Runnable action) {
+		caughtUpActions.computeIfAbsent(time.toMilliseconds(), k -> new ArrayList<>()).add(action);
+	}
+
+	private void runCaughtUpActions(DTime processedTo) {
+		Map<Long, List<Runnable>> due = caughtUpActions.headMap(processedTo.toMilliseconds(), true);
+		if (due.isEmpty()) {
+			return;
+		}
+		List<Runnable> actions = new ArrayList<>();
+		due.values().forEach(actions::addAll);
+		due.clear();
+		actions.forEach(Runnable::run);
+	}
+
+	/**
+	 * Finish catch-up if anything due at or before the given time is still
+	 * waiting, regardless of budget.
+	 */
+	public synchronized void catchUpTo(DTime time) {
+		ensureLoaded();
+		ActingTick next = peekLive();
+		if (next != null && next.tickTime <= time.toMilliseconds()) {
+			processWorldTicks();
+		}
+	}
+
+	/**
+	 * @return how far the earliest unprocessed wake trails the time catch-up is
+	 *         heading for, or zero when caught up
+	 */
+	public synchronized DTime getTickLag() {
+		ensureLoaded();
+		ActingTick next = peekLive();
+		long target = getTargetTime().toMilliseconds();
+		return DTime.fromMilliseconds(next != null && next.tickTime < target ? target - next.tickTime : 0);
+	}
+
+	/**
+	 * @return the later of the world clock and the time an unfinished catch-up
+	 *         is heading for
+	 */
+	private DTime getTargetTime() {
+		DTime now = worldSystem.getCurrentTime();
+		return now.toMilliseconds() >= targetMillis ? now : DTime.fromMilliseconds(targetMillis);
+	}
+
+	/**
+	 * @return the earliest heap entry that is still live, discarding superseded
+	 *         entries above it
+	 */
+	private ActingTick peekLive() {
+		ActingTick tick;
+		while ((tick = wakeQueue.peek()) != null
+				&& !Long.valueOf(tick.tickTime).equals(wakeTimes.get(tick.acting.getId()))) {
+			wakeQueue.poll();
 		}
+		return tick;
+	}
 
-		while (!tickQueue.isEmpty()) {
-			ActingTick tick = tickQueue.poll();
-			Acting acting = tick.acting;
-			Entity entity = (Entity) acting;
-			DTime tickTime = DTime.fromMilliseconds(tick.tickTime);
+	/**
+	 * After a tick, wake at the next queued action's ready time or the next
+	 * interval check, whichever is first. This replaces any wake requested by
+	 * actions queued during the tick, since those are already counted.
+	 */
+	private void scheduleNext(Acting acting, long tickTime) {
+		Entity place = lodSystem.getPlace(acting);
+		SimulationLodSystem.Tier tier = lodSystem.getTier(place);
+		if (tier == SimulationLodSystem.Tier.DORMANT) {
+			freeze(acting, place.getId(), tickTime);
+			wakeTimes.remove(acting.getId());
+			dirtyWakes.add(acting.getId());
+			return;
+		}
 
-			if (tickTime.toMilliseconds() > targetTime.toMilliseconds()) {
-				break;
+		long next = actionSystem.getNextActionReadyTime(acting);
+		DTime interval = acting.getActionInterval();
+		if (interval != null) {
+			long step = interval.toMilliseconds();
+			if (tier == SimulationLodSystem.Tier.FAR) {
+				step *= SimulationLodSystem.FAR_INTERVAL_MULTIPLIER;
 			}
+			next = Math.min(next, tickTime + step);
+		}
 
-			worldSystem.setCurrentTime(tickTime);
+		if (next == Long.MAX_VALUE) {
+			wakeTimes.remove(acting.getId());
+			dirtyWakes.add(acting.getId());
+			return;
+		}
+		// Anything still due now was not runnable this tick; try again on the next one
+		setWake(acting, Math.max(next, tickTime + 1));
+	}
 
-			DTime interval = acting.getActionInterval();
-			aas.processActingEntitySingleTick(acting, interval);
-			entitySystem.updateTagValue(entity, aas.TAG_LAST_ACTION_CHECK, tickTime.toMilliseconds(), targetTime);
-
-			// Check ALL pending actions and schedule ticks for each ready time
-			boolean scheduledActionTick = false;
-			java.util.List<Action> pendingActions = aas.getAllPendingActions(acting);
-
-			for (Action pendingAction : pendingActions) {
-				long actionReadyTime = aas.getActionReadyTime(pendingAction);
-				if (actionReadyTime > tickTime.toMilliseconds()
-						&& actionReadyTime <= targetTime.toMilliseconds()) {
-					tickQueue.offer(new ActingTick(acting, actionReadyTime));
-					scheduledActionTick = true;
-					break; // Only schedule the next action, not all of them
+	/**
+	 * Wake actors frozen in places a player has come within range of. Their
+	 * first tick catches them up on the time they were frozen.
+	 */
+	private void wakeDormantInRange(DTime now) {
+		if (dormantByPlace.isEmpty()) {
+			return;
+		}
+		for (Entity place : lodSystem.getPlacesInRange()) {
+			Map<Long, Acting> frozen = dormantByPlace.get(place.getId());
+			if (frozen != null) {
+				for (Acting acting : new ArrayList<>(frozen.values())) {
+					wakeBy(acting, now.toMilliseconds());
 				}
 			}
+		}
+	}
+
+	private void freeze(Acting acting, long placeId, long time) {
+		thaw(acting.getId());
+		dormantByPlace.computeIfAbsent(placeId, k -> new HashMap<>()).put(acting.getId(), acting);
+		dormantPlaces.put(acting.getId(), placeId);
+		frozenAt.put(acting.getId(), time);
+	}
+
+	private void thaw(long actingId) {
+		Long placeId = dormantPlaces.remove(actingId);
+		if (placeId == null) {
+			return;
+		}
+		Map<Long, Acting> frozen = dormantByPlace.get(placeId);
+		frozen.remove(actingId);
+		if (frozen.isEmpty()) {
+			dormantByPlace.remove(placeId);
+		}
+		thawedFrom.put(actingId, frozenAt.remove(actingId));
+		dirtyWakes.add(actingId);
+	}
+
+	/**
+	 * Give an actor woken from a freeze its abstracted turns for the time it
+	 * was frozen, before its regular turn at the given time.
+	 */
+	private void catchUp(Acting acting, long time) {
+		Long from = thawedFrom.remove(acting.getId());
+		DTime interval = acting.getActionInterval();
+		if (from == null || interval == null) {
+			return;
+		}
+		long step = interval.toMilliseconds() * SimulationLodSystem.FAR_INTERVAL_MULTIPLIER;
+		long turns = Math.min((time - from) / step, MAX_CATCH_UP_TURNS);
+		if (turns > 0) {
+			actionSystem.catchUp(acting, (int) turns);
+		}
+	}
+
+	private void setWake(Acting acting, long wakeTime) {
+		wakeTimes.put(acting.getId(), wakeTime);
+		wakeQueue.offer(new ActingTick(acting, wakeTime));
+		dirtyWakes.add(acting.getId());
+	}
 
-			if (!scheduledActionTick) {
-				long nextTickTime = tickTime.toMilliseconds() + interval.toMilliseconds();
-				if (nextTickTime <= targetTime.toMilliseconds()) {
-					tickQueue.offer(new ActingTick(acting, nextTickTime));
+	/**
+	 * Write the final wake time or frozen place of every actor changed since the
+	 * last flush.
+	 */
+	private void flushWakes() {
+		if (dirtyWakes.isEmpty()) {
+			return;
+		}
+		try {
+			for (long entityId : dirtyWakes) {
+				Long wakeTime = wakeTimes.get(entityId);
+				if (wakeTime == null) {
+					removeWakeStatement.setLong(1, entityId);
+					removeWakeStatement.addBatch();
+				} else {
+					setWakeStatement.setLong(1, entityId);
+					setWakeStatement.setLong(2, wakeTime);
+					setWakeStatement.addBatch();
+				}
+				Long placeId = dormantPlaces.get(entityId);
+				if (placeId == null) {
+					removeDormantStatement.setLong(1, entityId);
+					removeDormantStatement.addBatch();
+				} else {
+					setDormantStatement.setLong(1, entityId);
+					setDormantStatement.setLong(2, placeId);
+					setDormantStatement.setLong(3, frozenAt.get(entityId));
+					setDormantStatement.addBatch();
 				}
 			}
+			removeWakeStatement.executeBatch();
+			setWakeStatement.executeBatch();
+			removeDormantStatement.executeBatch();
+			setDormantStatement.executeBatch();
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to store " + dirtyWakes.size() + " wake times", e);
 		}
+		dirtyWakes.clear();
+	}
 
-		worldSystem.setCurrentTime(targetTime);
+	/**
+	 * Build the in-memory heap from the stored wake times and the frozen actors
+	 * from tick_dormant. Acting entities from saves with neither fall back to
+	 * their last check plus interval.
+	 */
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+
+		DTime now = worldSystem.getCurrentTime();
+		Map<Long, Long> stored = new HashMap<>();
+		try (ResultSet rs = getWakesStatement.executeQuery()) {
+			while (rs.next()) {
+				stored.put(rs.getLong("entity_id"), rs.getLong("wake_time"));
+			}
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to load wake times", e);
+		}
+		Map<Long, Long> dormant = new HashMap<>();
+		Map<Long, Long> dormantSince = new HashMap<>();
+		try (ResultSet rs = getDormantStatement.executeQuery()) {
+			while (rs.next()) {
+				dormant.put(rs.getLong("entity_id"), rs.getLong("place_id"));
+				dormantSince.put(rs.getLong("entity_id"), rs.getLong("frozen_at"));
+			}
+		} catch (SQLException e) {
+			throw new DatabaseException("Unable to load frozen actors", e);
+		}
+
+		for (Entity entity : tagSystem.findEntitiesByTag(actionSystem.TAG_ACTING, now)) {
+			if (!(entity instanceof Acting acting)) {
+				continue;
+			}
+			Long wakeTime = stored.get(entity.getId());
+			if (wakeTime != null) {
+				wakeTimes.put(entity.getId(), wakeTime);
+				wakeQueue.offer(new ActingTick(acting, wakeTime));
+				continue;
+			}
+			Long placeId = dormant.get(entity.getId());
+			if (placeId != null) {
+				dormantByPlace.computeIfAbsent(placeId, k -> new HashMap<>()).put(entity.getId(), acting);
+				dormantPlaces.put(entity.getId(), placeId);
+				frozenAt.put(entity.getId(), dormantSince.get(entity.getId()));
+				continue;
+			}
+
+			Long lastTickMs = entitySystem.getTagValue(entity, actionSystem.TAG_LAST_ACTION_CHECK, now);
+			if (lastTickMs == null) {
+				lastTickMs = entitySystem.getTagValue(entity, entitySystem.TAG_ENTITY_CREATED, now);
+			}
+			long lastTick = lastTickMs != null ? lastTickMs : 0;
+			DTime interval = acting.getActionInterval();
+			long next = actionSystem.getNextActionReadyTime(acting);
+			if (interval != null) {
+				next = Math.min(next, lastTick + interval.toMilliseconds());
+			}
+			if (next != Long.MAX_VALUE) {
+				setWake(acting, next);
+			}
+		}
+		flushWakes();
 	}
 
 	private static class ActingTick {
@@ -6,7 +6,6 @@ import com.benleskey.textengine.hooks.core.OnSystemInitialize;
 import com.benleskey.textengine.model.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * VisibilitySystem manages what entities can perceive based on spatial
@@ -92,22 +91,43 @@ public class VisibilitySystem extends SingletonGameSystem implements OnSystemIni
 				relationshipSystem.rvContains,
 				when);
 
-		// 2. Get immediate siblings (things in same immediate container)
-		Set<Entity> immediateSiblings = new HashSet<>();
-		for (Entity container : containers) {
-			List<RelationshipDescriptor> siblings = relationshipSystem.getReceivingRelationships(
-					container,
-					relationshipSystem.rvContains,
-					when);
-			immediateSiblings.addAll(siblings.stream()
-					.map(RelationshipDescriptor::getReceiver)
-					.filter(e -> !e.equals(observer)) // Don't see yourself
-					.collect(Collectors.toSet()));
+		// 2. Get immediate siblings and explicitly visible entities of every
+		// container, one query each
+		Map<Entity, List<RelationshipDescriptor>> contained = relationshipSystem.getReceivingRelationships(
+				containers,
+				relationshipSystem.rvContains,
+				when);
+		Map<Entity, List<RelationshipDescriptor>> visibleFrom = relationshipSystem.getReceivingRelationships(
+				containers,
+				rvVisibleFrom,
+				when);
+
+		Set<Entity> immediateSiblings = new LinkedHashSet<>();
+		for (List<RelationshipDescriptor> siblings : contained.values()) {
+			for (RelationshipDescriptor rd : siblings) {
+				if (!rd.getReceiver().equals(observer)) { // Don't see yourself
+					immediateSiblings.add(rd.getReceiver());
+				}
+			}
 		}
 
+		Set<Entity> distantCandidates = new LinkedHashSet<>();
+		for (List<RelationshipDescriptor> distantVisible : visibleFrom.values()) {
+			for (RelationshipDescriptor rd : distantVisible) {
+				Entity entity = rd.getReceiver();
+				if (!immediateSiblings.contains(entity) && !entity.equals(observer)) {
+					distantCandidates.add(entity);
+				}
+			}
+		}
+
+		Set<Entity> tagged = new HashSet<>(immediateSiblings);
+		tagged.addAll(distantCandidates);
+		Map<Entity, Set<UniqueType>> tags = entityTagSystem.getTags(tagged, when);
+
 		// Add immediate siblings as "nearby"
 		for (Entity entity : immediateSiblings) {
-			if (!isHidden(entity, when)) {
+			if (!tags.get(entity).contains(tagHidden)) {
 				visible.add(VisibilityDescriptor.builder()
 						.entity(entity)
 						.observer(observer)
@@ -116,25 +136,15 @@ public class VisibilitySystem extends SingletonGameSystem implements OnSystemIni
 			}
 		}
 
-		// 3. Get explicitly visible entities (distant landmarks)
-		for (Entity container : containers) {
-			List<RelationshipDescriptor> distantVisible = relationshipSystem.getReceivingRelationships(
-					container,
-					rvVisibleFrom,
-					when);
-
-			for (RelationshipDescriptor rd : distantVisible) {
-				Entity entity = rd.getReceiver();
-				if (!immediateSiblings.contains(entity) && !entity.equals(observer)) {
-					// Only show if prominent or not obscured
-					if (isProminent(entity, when) && !isObscured(entity, when)) {
-						visible.add(VisibilityDescriptor.builder()
-								.entity(entity)
-								.observer(observer)
-								.distanceLevel(VisibilityLevel.DISTANT)
-								.build());
-					}
-				}
+		// 3. Distant landmarks: only show if prominent and not obscured
+		for (Entity entity : distantCandidates) {
+			Set<UniqueType> entityTags = tags.get(entity);
+			if (entityTags.contains(tagProminent) && !entityTags.contains(tagObscured)) {
+				visible.add(VisibilityDescriptor.builder()
+						.entity(entity)
+						.observer(observer)
+						.distanceLevel(VisibilityLevel.DISTANT)
+						.build());
 			}
 		}
 
@@ -61,6 +61,16 @@ public class WorldSystem extends SingletonGameSystem implements OnSystemInitiali
 		return getCurrentTime();
 	}
 
+	/**
+	 * Move the current time without persisting it. Used while replaying ticks
+	 * within one time advance; the final time must be stored with
+	 * {@link #setCurrentTime(DTime)}.
+	 */
+	public synchronized DTime moveCurrentTime(DTime newTime) {
+		currentTime = newTime.raw();
+		return getCurrentTime();
+	}
+
 	public synchronized DTime incrementCurrentTime(DTime delta) throws DatabaseException {
 		return setCurrentTime(getCurrentTime().add(delta));
 	}
@@ -0,0 +1,61 @@
+package com.benleskey.textengine.util;
+
+import com.benleskey.textengine.exceptions.InternalException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Event orders over a dependency graph, each node computed once. A node's order
+ * is 1 plus the sum of its dependencies' orders, the same rule as
+ * Plugin.getEventOrder() and GameSystem.getEventOrder(), which recompute
+ * shared dependencies on every call and so grow exponentially with diamond
+ * shaped graphs.
+ */
+public class DependencyOrder<T> {
+	private final Function<T, ? extends Collection<? extends T>> dependencies;
+	private final Map<T, Integer> orders = new HashMap<>();
+	private final LinkedHashSet<T> visiting = new LinkedHashSet<>();
+
+	public DependencyOrder(Function<T, ? extends Collection<? extends T>> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	/**
+	 * @throws InternalException if the node depends on itself
+	 */
+	public int getOrder(T node) {
+		Integer known = orders.get(node);
+		if (known != null) {
+			return known;
+		}
+		if (!visiting.add(node)) {
+			List<String> cycle = new ArrayList<>();
+			boolean inCycle = false;
+			for (T visited : visiting) {
+				inCycle = inCycle || visited.equals(node);
+				if (inCycle) {
+					cycle.add(String.valueOf(visited));
+				}
+			}
+			cycle.add(String.valueOf(node));
+			throw new InternalException("Dependency cycle: " + String.join(" -> ", cycle));
+		}
+		long order = 1;
+		for (T dependency : dependencies.apply(node)) {
+			order += getOrder(dependency);
+		}
+		visiting.remove(node);
+		// Saturate rather than wrap on absurdly deep graphs
+		int result = (int) Math.min(order, Integer.MAX_VALUE);
+		orders.put(node, result);
+		return result;
+	}
+
+	/**
+	 * @return a comparator that sorts nodes by their order
+	 */
+	public Comparator<T> comparator() {
+		return Comparator.comparingInt(this::getOrder);
+	}
+}
@@ -2,24 +2,49 @@ package com.benleskey.textengine.util;
 
 import com.benleskey.textengine.exceptions.InternalException;
 
+import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public class HookManager<THandler extends HookHandler> {
 	private final Map<Class<? extends HookEvent>, List<THandler>> eventHandlers = new LinkedHashMap<>();
+	// Handler arrays typed as their event, rebuilt after handlers are added or reordered
+	private final Map<Class<? extends HookEvent>, Object[]> dispatchTables = new ConcurrentHashMap<>();
 
 	public void calculateOrder() {
+		calculateOrder(Comparator.comparing(THandler::getEventOrder));
+	}
+
+	/**
+	 * Sort each event's handlers, for instance by orders computed once up front.
+	 */
+	public void calculateOrder(Comparator<? super THandler> order) {
 		for (List<THandler> handlers : eventHandlers.values()) {
-			handlers.sort(Comparator.comparing(THandler::getEventOrder));
+			handlers.sort(order);
 		}
+		dispatchTables.clear();
 	}
 
 	public <T extends HookEvent> void doEvent(Class<T> pluginEvent, Consumer<T> runner) throws InternalException {
-		for (THandler handler : eventHandlers.getOrDefault(pluginEvent, Collections.emptyList())) {
-			@SuppressWarnings("unchecked")
-			T castHandler = (T) handler;
-			runner.accept(castHandler);
+		for (T handler : getHandlers(pluginEvent)) {
+			runner.accept(handler);
+		}
+	}
+
+	/**
+	 * The handlers of an event in dispatch order. Looping over the array calls
+	 * handlers without allocating; the array is shared, so do not modify it.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends HookEvent> T[] getHandlers(Class<T> pluginEvent) {
+		Object[] table = dispatchTables.get(pluginEvent);
+		if (table == null) {
+			List<THandler> handlers = eventHandlers.getOrDefault(pluginEvent, Collections.emptyList());
+			table = handlers.toArray((T[]) Array.newInstance(pluginEvent, handlers.size()));
+			dispatchTables.put(pluginEvent, table);
 		}
+		return (T[]) table;
 	}
 
 	@SuppressWarnings("null") // Generic type THandler will never be null
@@ -39,6 +64,7 @@ public class HookManager<THandler extends HookHandler> {
 					handlers.add(handler);
 					return handlers;
 				});
+				dispatchTables.remove(castEvent);
 			}
 		}
 
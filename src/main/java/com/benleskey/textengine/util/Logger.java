@@ -17,10 +17,14 @@ public class Logger {
 		this.stream = new PrintStream(stream);
 	}
 
+	private Logger(PrintStream stream, String prefix) {
+		this.stream = stream;
+		this.prefix = prefix;
+	}
+
 	public Logger withPrefix(String prefix) {
-		Logger l = new Logger(this.stream);
-		l.prefix = prefix;
-		return l;
+		// Share the stream; every entity has a logger, so wrapping it again would cost a buffer each
+		return new Logger(stream, prefix);
 	}
 
 	private String getFullPrefix() {
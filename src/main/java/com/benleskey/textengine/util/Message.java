@@ -2,18 +2,50 @@ package com.benleskey.textengine.util;
 
 import java.util.*;
 
+/**
+ * A message of keyed values. Fields in the message's {@link MessageLayout}
+ * live in an array, and entity ids put with {@link #putId} are kept as
+ * primitives; other keys go in a map made on first use.
+ */
 public class Message<T> {
 	public static final String M_TYPE = "type";
 	public static final String M_RAW_ID = "raw";
 	public static final String M_OUTPUT_ID = "output";
 	public static final String M_INPUT_ID = "input";
 
-	public Map<String, Object> values = new HashMap<>();
+	/**
+	 * Receives a message's entries. Ids put with {@link Message#putId} arrive
+	 * as longs.
+	 */
+	public interface EntryVisitor {
+		void entry(String key, Object value);
+
+		void id(String key, long id);
+	}
+
+	private final MessageLayout layout;
+	private final Object[] slots;
+	private long[] ids;
+	// One bit per slot
+	private long present;
+	private long idSlots;
+	private Map<String, Object> extra;
 
 	protected Message() {
+		this(MessageLayout.DEFAULT);
+	}
+
+	protected Message(MessageLayout layout) {
+		this.layout = layout;
+		this.slots = new Object[layout.size()];
 	}
 
 	public Message(String type) {
+		this(MessageLayout.DEFAULT, type);
+	}
+
+	protected Message(MessageLayout layout, String type) {
+		this(layout);
 		put(M_TYPE, type);
 	}
 
@@ -27,20 +59,146 @@ public class Message<T> {
 
 	@SuppressWarnings("unchecked")
 	public T put(String key, Object value) {
-		values.put(key, value);
+		int slot = layout.indexOf(key);
+		if (slot < 0) {
+			if (extra == null) {
+				extra = new HashMap<>();
+			}
+			extra.put(key, value);
+		} else {
+			slots[slot] = value;
+			present |= 1L << slot;
+			idSlots &= ~(1L << slot);
+		}
 		return (T) this;
 	}
 
+	/**
+	 * Store an entity id without boxing or formatting it. {@link #getO} reads
+	 * it back as its decimal string, the same as Reference.getKeyId().
+	 */
+	@SuppressWarnings("unchecked")
+	public T putId(String key, long id) {
+		int slot = layout.indexOf(key);
+		if (slot < 0) {
+			return put(key, Long.toString(id));
+		}
+		if (ids == null) {
+			ids = new long[slots.length];
+		}
+		ids[slot] = id;
+		slots[slot] = null;
+		present |= 1L << slot;
+		idSlots |= 1L << slot;
+		return (T) this;
+	}
+
+	/**
+	 * Copy every entry of another message into this one.
+	 */
+	@SuppressWarnings("unchecked")
+	public T putAll(Message<?> other) {
+		other.visit(new EntryVisitor() {
+			@Override
+			public void entry(String key, Object value) {
+				put(key, value);
+			}
+
+			@Override
+			public void id(String key, long id) {
+				putId(key, id);
+			}
+		});
+		return (T) this;
+	}
+
+	public boolean has(String key) {
+		int slot = layout.indexOf(key);
+		if (slot >= 0) {
+			return (present & (1L << slot)) != 0;
+		}
+		return extra != null && extra.containsKey(key);
+	}
+
 	@SuppressWarnings("unchecked")
 	public <R> Optional<R> getO(String key) {
-		return values.containsKey(key) ? Optional.of((R) values.get(key)) : Optional.empty();
+		int slot = layout.indexOf(key);
+		if (slot >= 0) {
+			long bit = 1L << slot;
+			if ((present & bit) == 0) {
+				return Optional.empty();
+			}
+			return Optional.of((R) ((idSlots & bit) != 0 ? Long.toString(ids[slot]) : slots[slot]));
+		}
+		return extra != null && extra.containsKey(key) ? Optional.of((R) extra.get(key)) : Optional.empty();
 	}
 
 	public <R> R get(String key) {
 		return this.<R>getO(key).orElseThrow();
 	}
 
+	/**
+	 * @return whether the key holds this entity id, however it was put
+	 */
+	public boolean hasId(String key, long id) {
+		int slot = layout.indexOf(key);
+		if (slot >= 0 && (idSlots & (1L << slot)) != 0) {
+			return ids[slot] == id;
+		}
+		return getO(key).map(value -> value.toString().equals(Long.toString(id))).orElse(false);
+	}
+
+	/**
+	 * Visit every entry: layout fields in layout order, then the rest.
+	 */
+	public void visit(EntryVisitor visitor) {
+		for (int slot = 0; slot < slots.length; slot++) {
+			long bit = 1L << slot;
+			if ((idSlots & bit) != 0) {
+				visitor.id(layout.getKey(slot), ids[slot]);
+			} else if ((present & bit) != 0) {
+				visitor.entry(layout.getKey(slot), slots[slot]);
+			}
+		}
+		if (extra != null) {
+			for (Map.Entry<String, Object> entry : extra.entrySet()) {
+				visitor.entry(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	public int size() {
+		return Long.bitCount(present) + (extra != null ? extra.size() : 0);
+	}
+
+	public void clear() {
+		Arrays.fill(slots, null);
+		present = 0;
+		idSlots = 0;
+		extra = null;
+	}
+
+	/**
+	 * @return a copy of the entries as a map, with ids as strings
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		visit(new EntryVisitor() {
+			@Override
+			public void entry(String key, Object value) {
+				map.put(key, value);
+			}
+
+			@Override
+			public void id(String key, long id) {
+				map.put(key, Long.toString(id));
+			}
+		});
+		return map;
+	}
+
 	public String toPrettyString() {
+		Map<String, Object> values = toMap();
 		StringJoiner s = new StringJoiner(", ");
 		for (String key : values.keySet().stream().sorted().toList()) {
 			Object value = values.get(key);
@@ -0,0 +1,53 @@
+package com.benleskey.textengine.util;
+
+/**
+ * The fixed fields of one kind of message. A message stores its layout's
+ * fields in an array instead of a map, so layouts are made once, usually as
+ * static constants, and shared by every message of that kind. Keys outside the
+ * layout still work but fall back to a map.
+ */
+public final class MessageLayout {
+	public static final int MAX_FIELDS = 64;
+
+	public static final MessageLayout DEFAULT = new MessageLayout(null, Message.M_TYPE);
+
+	private final String id;
+	private final String[] keys;
+
+	/**
+	 * @param id   the message id this layout is for, or null
+	 * @param keys the fields, which should be the constants callers put with
+	 */
+	public MessageLayout(String id, String... keys) {
+		if (keys.length > MAX_FIELDS) {
+			throw new IllegalArgumentException("Message layouts support at most " + MAX_FIELDS + " fields");
+		}
+		this.id = id;
+		this.keys = keys.clone();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public int size() {
+		return keys.length;
+	}
+
+	public String getKey(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * @return the key's slot, or -1 if the layout does not have it
+	 */
+	public int indexOf(String key) {
+		// Layouts are small and equals() short-circuits on the same constant
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,309 @@
+package com.benleskey.textengine.util;
+
+import java.util.*;
+
+/**
+ * In-memory index of items at integer coordinates (up to 4 dimensions).
+ * Exact positions are hashed for point lookups and items are bucketed into a
+ * uniform grid of {@link #CELL_SIZE} cells so box, radius and nearest queries
+ * only visit cells near the query instead of every item.
+ */
+public class SpatialIndex<T> {
+	public static final int MAX_DIMENSIONS = 4;
+	private static final int CELL_SIZE = 16;
+
+	private record Point(int x, int y, int z, int w) {
+	}
+
+	private final int dimensions;
+	private final Map<T, int[]> positions = new HashMap<>();
+	private final Map<Point, Set<T>> points = new HashMap<>();
+	private final Map<Point, Set<T>> cells = new HashMap<>();
+
+	public SpatialIndex(int dimensions) {
+		if (dimensions < 1 || dimensions > MAX_DIMENSIONS) {
+			throw new IllegalArgumentException("Spatial index supports 1 to " + MAX_DIMENSIONS + " dimensions");
+		}
+		this.dimensions = dimensions;
+	}
+
+	/**
+	 * Place an item, replacing any previous position it had.
+	 */
+	public void put(T item, int[] coords) {
+		checkCoords(coords);
+		remove(item);
+		int[] copy = coords.clone();
+		positions.put(item, copy);
+		points.computeIfAbsent(point(copy), k -> new LinkedHashSet<>()).add(item);
+		cells.computeIfAbsent(cell(copy), k -> new LinkedHashSet<>()).add(item);
+	}
+
+	public void remove(T item) {
+		int[] coords = positions.remove(item);
+		if (coords != null) {
+			removeFrom(points, point(coords), item);
+			removeFrom(cells, cell(coords), item);
+		}
+	}
+
+	/**
+	 * @return a copy of the item's coordinates, or null if it is not indexed
+	 */
+	public int[] get(T item) {
+		int[] coords = positions.get(item);
+		return coords != null ? coords.clone() : null;
+	}
+
+	public Set<T> getAt(int[] coords) {
+		checkCoords(coords);
+		return Collections.unmodifiableSet(points.getOrDefault(point(coords), Collections.emptySet()));
+	}
+
+	public Set<T> getAll() {
+		return Collections.unmodifiableSet(positions.keySet());
+	}
+
+	public int size() {
+		return positions.size();
+	}
+
+	/**
+	 * Items whose coordinates lie within the inclusive box [min, max].
+	 */
+	public List<T> getInBox(int[] min, int[] max) {
+		checkCoords(min);
+		checkCoords(max);
+		List<T> result = new ArrayList<>();
+		for (Set<T> cellItems : cellsCovering(cell(min), cell(max))) {
+			for (T item : cellItems) {
+				int[] coords = positions.get(item);
+				boolean inside = true;
+				for (int i = 0; i < dimensions && inside; i++) {
+					inside = coords[i] >= min[i] && coords[i] <= max[i];
+				}
+				if (inside) {
+					result.add(item);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Items within Euclidean distance {@code radius} of {@code center}.
+	 */
+	public List<T> getInRadius(int[] center, double radius) {
+		checkCoords(center);
+		int reach = (int) Math.ceil(radius);
+		int[] min = new int[dimensions];
+		int[] max = new int[dimensions];
+		for (int i = 0; i < dimensions; i++) {
+			min[i] = center[i] - reach;
+			max[i] = center[i] + reach;
+		}
+		List<T> result = new ArrayList<>();
+		for (T item : getInBox(min, max)) {
+			if (distance(center, positions.get(item)) <= radius) {
+				result.add(item);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Up to {@code k} items nearest to {@code center}, closest first.
+	 * Searches outward one ring of cells at a time and stops once no unvisited
+	 * cell can hold anything closer than the current k-th result. Once the rings
+	 * would cover more cells than are occupied, the occupied cells are visited
+	 * nearest first instead, so a sparse index costs one pass over its cells.
+	 */
+	public List<T> getNearest(int[] center, int k) {
+		checkCoords(center);
+		List<T> found = new ArrayList<>();
+		if (k <= 0 || positions.isEmpty()) {
+			return found;
+		}
+
+		Point centerCell = cell(center);
+		int seen = 0;
+		for (int ring = 0; seen < positions.size(); ring++) {
+			if (boxCells(ring) > cells.size()) {
+				return nearestByCell(center, k);
+			}
+			for (Set<T> cellItems : ring(centerCell, ring)) {
+				found.addAll(cellItems);
+				seen += cellItems.size();
+			}
+			// Anything in a later ring is at least ring * CELL_SIZE away
+			if (found.size() >= k) {
+				found.sort(Comparator.comparingDouble(item -> distance(center, positions.get(item))));
+				if (distance(center, positions.get(found.get(k - 1))) <= (double) ring * CELL_SIZE) {
+					break;
+				}
+			}
+		}
+
+		found.sort(Comparator.comparingDouble(item -> distance(center, positions.get(item))));
+		return found.size() > k ? new ArrayList<>(found.subList(0, k)) : found;
+	}
+
+	private List<T> nearestByCell(int[] center, int k) {
+		Map<Point, Double> gaps = new HashMap<>();
+		for (Point c : cells.keySet()) {
+			gaps.put(c, cellDistance(center, c));
+		}
+		List<Point> order = new ArrayList<>(gaps.keySet());
+		order.sort(Comparator.comparingDouble(gaps::get));
+
+		Comparator<T> byDistance = Comparator.comparingDouble(item -> distance(center, positions.get(item)));
+		// The current k nearest, farthest on top
+		PriorityQueue<T> best = new PriorityQueue<>(byDistance.reversed());
+		for (Point c : order) {
+			if (best.size() >= k && distance(center, positions.get(best.peek())) <= gaps.get(c)) {
+				break;
+			}
+			for (T item : cells.get(c)) {
+				best.add(item);
+				if (best.size() > k) {
+					best.poll();
+				}
+			}
+		}
+
+		List<T> found = new ArrayList<>(best);
+		found.sort(byDistance);
+		return found;
+	}
+
+	/**
+	 * @return the number of cells in the box a ring search has covered by the
+	 *         given ring
+	 */
+	private long boxCells(int ring) {
+		long side = 2L * ring + 1;
+		long total = 1;
+		for (int i = 0; i < dimensions; i++) {
+			total *= side;
+		}
+		return total;
+	}
+
+	/**
+	 * @return the shortest distance from a point to any point in a cell
+	 */
+	private double cellDistance(int[] coords, Point c) {
+		int[] cellCoords = { c.x(), c.y(), c.z(), c.w() };
+		double sumSquares = 0;
+		for (int i = 0; i < dimensions; i++) {
+			long low = (long) cellCoords[i] * CELL_SIZE;
+			long high = low + CELL_SIZE - 1;
+			long gap = Math.max(0, Math.max(low - coords[i], coords[i] - high));
+			sumSquares += (double) gap * gap;
+		}
+		return Math.sqrt(sumSquares);
+	}
+
+	public double distance(int[] a, int[] b) {
+		double sumSquares = 0;
+		for (int i = 0; i < dimensions; i++) {
+			double diff = (double) a[i] - b[i];
+			sumSquares += diff * diff;
+		}
+		return Math.sqrt(sumSquares);
+	}
+
+	private List<Set<T>> ring(Point centerCell, int ring) {
+		List<Set<T>> result = new ArrayList<>();
+		Point min = offset(centerCell, -ring);
+		Point max = offset(centerCell, ring);
+		for (Map.Entry<Point, Set<T>> entry : cellEntriesCovering(min, max)) {
+			Point c = entry.getKey();
+			int chebyshev = Math.max(Math.max(Math.abs(c.x() - centerCell.x()), Math.abs(c.y() - centerCell.y())),
+					Math.max(Math.abs(c.z() - centerCell.z()), Math.abs(c.w() - centerCell.w())));
+			if (chebyshev == ring) {
+				result.add(entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	private List<Set<T>> cellsCovering(Point min, Point max) {
+		List<Set<T>> result = new ArrayList<>();
+		for (Map.Entry<Point, Set<T>> entry : cellEntriesCovering(min, max)) {
+			result.add(entry.getValue());
+		}
+		return result;
+	}
+
+	private List<Map.Entry<Point, Set<T>>> cellEntriesCovering(Point min, Point max) {
+		List<Map.Entry<Point, Set<T>>> result = new ArrayList<>();
+		long span = (long) (max.x() - min.x() + 1) * (max.y() - min.y() + 1) * (max.z() - min.z() + 1)
+				* (max.w() - min.w() + 1);
+
+		// Sparse index and huge query: scanning the occupied cells is cheaper
+		if (span > cells.size()) {
+			for (Map.Entry<Point, Set<T>> entry : cells.entrySet()) {
+				Point c = entry.getKey();
+				if (c.x() >= min.x() && c.x() <= max.x() && c.y() >= min.y() && c.y() <= max.y()
+						&& c.z() >= min.z() && c.z() <= max.z() && c.w() >= min.w() && c.w() <= max.w()) {
+					result.add(entry);
+				}
+			}
+			return result;
+		}
+
+		for (int x = min.x(); x <= max.x(); x++) {
+			for (int y = min.y(); y <= max.y(); y++) {
+				for (int z = min.z(); z <= max.z(); z++) {
+					for (int w = min.w(); w <= max.w(); w++) {
+						Point c = new Point(x, y, z, w);
+						Set<T> cellItems = cells.get(c);
+						if (cellItems != null) {
+							result.add(Map.entry(c, cellItems));
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private Point offset(Point p, int by) {
+		return new Point(p.x() + by,
+				dimensions > 1 ? p.y() + by : 0,
+				dimensions > 2 ? p.z() + by : 0,
+				dimensions > 3 ? p.w() + by : 0);
+	}
+
+	private Point point(int[] coords) {
+		return new Point(coords[0],
+				dimensions > 1 ? coords[1] : 0,
+				dimensions > 2 ? coords[2] : 0,
+				dimensions > 3 ? coords[3] : 0);
+	}
+
+	private Point cell(int[] coords) {
+		return new Point(Math.floorDiv(coords[0], CELL_SIZE),
+				dimensions > 1 ? Math.floorDiv(coords[1], CELL_SIZE) : 0,
+				dimensions > 2 ? Math.floorDiv(coords[2], CELL_SIZE) : 0,
+				dimensions > 3 ? Math.floorDiv(coords[3], CELL_SIZE) : 0);
+	}
+
+	private void removeFrom(Map<Point, Set<T>> map, Point key, T item) {
+		Set<T> items = map.get(key);
+		if (items != null) {
+			items.remove(item);
+			if (items.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	private void checkCoords(int[] coords) {
+		if (coords.length != dimensions) {
+			throw new IllegalArgumentException(
+					String.format("Expected %d coordinates, got %d", dimensions, coords.length));
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Durability;
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+/**
+ * Measures command latency in the game loop with many connected clients:
+ * active clients send a fixed script of commands with a short think time,
+ * idle clients send nothing until every active client has finished. Run it
+ * against a database file to see what commits cost with each durability.
+ *
+ * Usage: ClientLoadBenchmark [clients (100)] [idle (50)] [commands per client (50)]
+ * [durability (grouped)] [commit interval ms (0)] [database (in memory)]
+ */
+public class ClientLoadBenchmark {
+	private static final List<String> SCRIPT = List.of("look", "inventory", "wait 10", "look", "wait 1 minute");
+
+	public static void main(String[] args) throws Exception {
+		int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int idleCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		int commandsEach = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+		Durability durability = args.length > 3 ? Durability.valueOf(args[3].toUpperCase()) : Durability.GROUPED;
+		long commitInterval = args.length > 4 ? Long.parseLong(args[4]) : 0;
+		String database = args.length > 5 ? args[5] : ":memory:";
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + database)) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.setDurability(durability);
+			game.setCommitIntervalMillis(commitInterval);
+			game.initialize();
+
+			CountDownLatch activeDone = new CountDownLatch(clientCount - idleCount);
+			for (int i = 0; i < clientCount; i++) {
+				game.registerClient(new SimulatedClient(game, i, i < idleCount ? 0 : commandsEach, activeDone));
+			}
+			connection.commit();
+
+			long started = System.nanoTime();
+			game.loopWithClients();
+			double seconds = (System.nanoTime() - started) / 1e9;
+
+			long handled = game.getCommandsHandled();
+			System.out.printf("%d clients (%d idle): %d commands in %.2f s, %d commits (%s, %d ms)%n", clientCount,
+					idleCount, handled, seconds, game.getCommits(), durability, commitInterval);
+			System.out.printf("latency mean %.2f ms, max %.2f ms%n",
+					handled > 0 ? game.getTotalCommandLatencyNanos() / 1e6 / handled : 0.0,
+					game.getMaxCommandLatencyNanos() / 1e6);
+		}
+	}
+
+	private static class SimulatedClient extends com.benleskey.textengine.Client {
+		private final int number;
+		private final CountDownLatch activeDone;
+		private final Random random;
+		private int remaining;
+
+		SimulatedClient(Game game, int number, int commands, CountDownLatch activeDone) {
+			this.game = game;
+			this.number = number;
+			// Idle clients start past the end of their script
+			this.remaining = commands > 0 ? commands : -1;
+			this.activeDone = activeDone;
+			this.random = new Random(number);
+		}
+
+		@Override
+		public String getAccountIdentifier() {
+			return "simulated-" + number;
+		}
+
+		@Override
+		public CommandInput waitForInput() {
+			if (remaining <= 0) {
+				// Everyone leaves once all active clients are done
+				if (remaining == 0) {
+					remaining = -1;
+					activeDone.countDown();
+				}
+				try {
+					activeDone.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return CommandInput.make(M_QUIT_FROM_CLIENT);
+			}
+
+			try {
+				Thread.sleep(random.nextInt(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			remaining--;
+			return game.inputLineToCommandInput(SCRIPT.get(remaining % SCRIPT.size()));
+		}
+
+		@Override
+		protected void writeOutput(List<CommandOutput> outputs) {
+		}
+
+		@Override
+		protected void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+				CompletableFuture<String> future) {
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.commands.Command;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.commands.CommandVariant;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+/**
+ * Times command parsing with the high fantasy game's commands over a generated
+ * corpus of lines, with the game's dispatcher and with a scan of every variant
+ * regex in order. CommandDispatcherTest checks that both parse alike.
+ *
+ * Usage: CommandDispatchBenchmark [corpus lines (50000)] [seed (1)]
+ */
+public class CommandDispatchBenchmark {
+	private static final String[] VERBS = { "look", "l", "go", "move", "take", "get", "pickup", "grab", "drop",
+			"inventory", "inv", "i", "wait", "help", "quit", "chat", "echo", "open", "close", "put", "use", "travel",
+			"seed", "debug:roll", "debug:embersim", "debug:generatename", "north", "lo", "ta", "Look", "GO", "" };
+	private static final String[] ARGS = { "", " ", "  ", "north", " north", " the rock", " rock from chest",
+			" at tree", " to forest", " 10", " 1 minute", " 3d6+2", " 4 6 3 1", " 1 2 3 4 5 6", " axe on tree",
+			" coin into pouch", " 1", "!", "?", " hello there", "\t", "s", "x" };
+
+	public static void main(String[] args) throws Exception {
+		int lines = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+		Random random = new Random(seed);
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			List<String> corpus = new ArrayList<>();
+			for (int i = 0; i < lines; i++) {
+				corpus.add(randomLine(random));
+			}
+
+			for (int round = 0; round < 2; round++) {
+				// The first round is warm-up
+				long started = System.nanoTime();
+				for (String line : corpus) {
+					scan(game, line);
+				}
+				long scanNanos = System.nanoTime() - started;
+				started = System.nanoTime();
+				for (String line : corpus) {
+					game.inputLineToCommandInput(line);
+				}
+				long dispatchNanos = System.nanoTime() - started;
+				if (round == 1) {
+					System.out.printf("Scan %.0f ns/line, dispatcher %.0f ns/line%n",
+							(double) scanNanos / corpus.size(), (double) dispatchNanos / corpus.size());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Parsing as it was before the dispatcher: every variant of every command,
+	 * in registration order.
+	 */
+	private static CommandInput scan(Game game, String line) {
+		for (Command command : game.getCommands().values()) {
+			for (CommandVariant variant : command.getVariants().values()) {
+				Matcher matcher = variant.getRegex().matcher(line);
+				if (matcher.find()) {
+					CommandInput processedInput = variant.getFunction().run(matcher);
+					processedInput.id(command.getName());
+					processedInput.line(line);
+					return processedInput;
+				}
+			}
+		}
+		return CommandInput.make(CommandOutput.M_UNKNOWN_COMMAND).put(CommandOutput.M_ORIGINAL_UNKNOWN_COMMAND_LINE,
+				line);
+	}
+
+	private static String randomLine(Random random) {
+		StringBuilder line = new StringBuilder();
+		if (random.nextInt(20) == 0) {
+			line.append(' ');
+		}
+		line.append(VERBS[random.nextInt(VERBS.length)]).append(ARGS[random.nextInt(ARGS.length)]);
+		if (random.nextInt(4) == 0) {
+			line.append(ARGS[random.nextInt(ARGS.length)]);
+		}
+		// Sometimes damage it
+		if (random.nextInt(5) == 0 && line.length() > 0) {
+			int at = random.nextInt(line.length());
+			if (random.nextBoolean()) {
+				line.deleteCharAt(at);
+			} else {
+				line.insert(at, (char) (' ' + random.nextInt(95)));
+			}
+		}
+		return line.toString();
+	}
+}
@@ -0,0 +1,96 @@
+package com.benleskey.textengine.cli;
+
+import java.lang.management.ManagementFactory;
+
+import com.benleskey.textengine.util.HookEvent;
+import com.benleskey.textengine.util.HookHandler;
+import com.benleskey.textengine.util.HookManager;
+
+/**
+ * Measures dispatching one hook event to many handlers, both through
+ * HookManager.doEvent with a capturing lambda, as most callers do, and by
+ * looping over getHandlers().
+ *
+ * Usage: HookDispatchBenchmark [handlers (50)] [events (2000000)]
+ */
+public class HookDispatchBenchmark {
+	public interface OnBenchmarkEvent extends HookEvent {
+		void onBenchmarkEvent(long value);
+	}
+
+	private static class Handler implements HookHandler, OnBenchmarkEvent {
+		private final int order;
+		private long total;
+
+		Handler(int order) {
+			this.order = order;
+		}
+
+		@Override
+		public int getEventOrder() {
+			return order;
+		}
+
+		@Override
+		public void onBenchmarkEvent(long value) {
+			total += value;
+		}
+	}
+
+	public static void main(String[] args) {
+		int handlerCount = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+		int events = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+
+		HookManager<Handler> hooks = new HookManager<>();
+		Handler[] handlers = new Handler[handlerCount];
+		for (int i = 0; i < handlerCount; i++) {
+			// Registered out of order so calculateOrder has work to do
+			handlers[i] = new Handler((i * 7) % handlerCount);
+			hooks.registerHookHandler(handlers[i]);
+		}
+		hooks.calculateOrder();
+
+		for (int round = 0; round < 2; round++) {
+			// The first round is warm-up
+			for (int variant = 0; variant < 2; variant++) {
+				long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+				long started = System.nanoTime();
+				if (variant == 0) {
+					runDoEvent(hooks, events);
+				} else {
+					runHandlers(hooks, events);
+				}
+				long nanos = System.nanoTime() - started;
+				long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+				if (round == 1) {
+					System.out.printf("%-9s %6.1f ns/event, %5.1f bytes/event (%d handlers)%n",
+							variant == 0 ? "doEvent" : "handlers", (double) nanos / events, (double) bytes / events,
+							handlerCount);
+				}
+			}
+		}
+
+		long checksum = 0;
+		for (Handler handler : handlers) {
+			checksum += handler.total;
+		}
+		System.out.println("(checksum " + checksum + ")");
+	}
+
+	private static void runDoEvent(HookManager<Handler> hooks, int events) {
+		for (int i = 0; i < events; i++) {
+			long value = i;
+			hooks.doEvent(OnBenchmarkEvent.class, handler -> handler.onBenchmarkEvent(value));
+		}
+	}
+
+	private static void runHandlers(HookManager<Handler> hooks, int events) {
+		for (int i = 0; i < events; i++) {
+			for (OnBenchmarkEvent handler : hooks.getHandlers(OnBenchmarkEvent.class)) {
+				handler.onBenchmarkEvent(i);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.benleskey.textengine.cli;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.benleskey.textengine.actions.MoveAction;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.RelationshipSystem;
+import com.benleskey.textengine.util.Message;
+
+/**
+ * Measures bytes allocated and time taken to build a move broadcast and check
+ * its actor, as each listener does:
+ * - map: a HashMap of boxed values, as messages used to be stored
+ * - untyped: a CommandOutput without a layout, ids put as strings
+ * - typed: a CommandOutput with MoveAction's layout and primitive ids
+ *
+ * The text is a constant so only the message itself is measured.
+ *
+ * Usage: MessageAllocationBenchmark [iterations (5000000)]
+ */
+public class MessageAllocationBenchmark {
+	private static final String TEXT = "<capital><entity id=\"1234\">a goblin</entity></capital> arrives.";
+
+	private static long sink;
+
+	public static void main(String[] args) {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+
+		String[] names = { "map", "untyped", "typed" };
+		for (int round = 0; round < 2; round++) {
+			// The first round is warm-up
+			for (int variant = 0; variant < names.length; variant++) {
+				long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+				long started = System.nanoTime();
+				for (int i = 0; i < iterations; i++) {
+					sink += build(variant, 1000 + (i & 1023), 5000 + (i & 63));
+				}
+				long nanos = System.nanoTime() - started;
+				long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+				if (round == 1) {
+					System.out.printf("%-8s %6.1f bytes/message, %6.1f ns/message%n", names[variant],
+							(double) bytes / iterations, (double) nanos / iterations);
+				}
+			}
+		}
+		System.out.println("(checksum " + sink + ")");
+	}
+
+	private static int build(int variant, long actorId, long placeId) {
+		long listenerId = 1000;
+		switch (variant) {
+			case 0: {
+				Map<String, Object> values = new HashMap<>();
+				values.put(Message.M_TYPE, Message.M_OUTPUT_ID);
+				values.put(Message.M_OUTPUT_ID, MoveAction.BROADCAST_ARRIVES);
+				values.put(EntitySystem.M_ACTOR_ID, Long.toString(actorId));
+				values.put(EntitySystem.M_ACTOR_NAME, "a goblin");
+				values.put(RelationshipSystem.M_TO, Long.toString(placeId));
+				values.put(CommandOutput.M_TEXT, TEXT);
+				return Long.toString(listenerId).equals(values.get(EntitySystem.M_ACTOR_ID)) ? 1 : values.size();
+			}
+			case 1: {
+				CommandOutput output = CommandOutput.make(MoveAction.BROADCAST_ARRIVES)
+						.put(EntitySystem.M_ACTOR_ID, Long.toString(actorId))
+						.put(EntitySystem.M_ACTOR_NAME, "a goblin")
+						.put(RelationshipSystem.M_TO, Long.toString(placeId))
+						.put(CommandOutput.M_TEXT, TEXT);
+				return output.hasId(EntitySystem.M_ACTOR_ID, listenerId) ? 1 : output.size();
+			}
+			default: {
+				CommandOutput output = CommandOutput.make(MoveAction.LAYOUT_ARRIVES)
+						.putId(EntitySystem.M_ACTOR_ID, actorId)
+						.put(EntitySystem.M_ACTOR_NAME, "a goblin")
+						.putId(RelationshipSystem.M_TO, placeId)
+						.put(CommandOutput.M_TEXT, TEXT);
+				return output.hasId(EntitySystem.M_ACTOR_ID, listenerId) ? 1 : output.size();
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.actions.MoveAction;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.commands.MessageCodec;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.RelationshipSystem;
+import com.benleskey.textengine.util.Message;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures MessageCodec:
+ * - compares frame sizes with a plain JSON rendering of the same messages
+ * - measures encoding throughput
+ *
+ * Round trips and malformed frames are covered by MessageCodecTest.
+ *
+ * Usage: MessageCodecBenchmark
+ */
+public class MessageCodecBenchmark {
+	public static void main(String[] args) throws IOException {
+		// Size against JSON, for typical game output
+		List<Message<?>> typical = List.of(
+				CommandOutput.make(MoveAction.LAYOUT_ARRIVES).putId(EntitySystem.M_ACTOR_ID, 1234)
+						.put(EntitySystem.M_ACTOR_NAME, "a goblin").putId(RelationshipSystem.M_TO, 5678)
+						.put("text", "<capital><entity id=\"1234\">a goblin</entity></capital> arrives."),
+				CommandOutput.make("wait").put("duration", 60000L).put("text", "You wait."),
+				CommandInput.make("go").put("exit", "north").put("original_input_line", "go north"));
+		MessageCodec.Encoder sizing = new MessageCodec.Encoder();
+		for (Message<?> message : typical) {
+			int json = toJson(message).getBytes(StandardCharsets.UTF_8).length;
+			int first = sizing.encode(message).length;
+			int repeat = sizing.encode(message).length;
+			System.out.printf("%-14s JSON %4d bytes, binary %4d bytes (%4d once keys are known)%n",
+					message.getO(Message.M_OUTPUT_ID).or(() -> message.getO(Message.M_INPUT_ID)).orElse(null), json,
+					first, repeat);
+		}
+
+		// Throughput
+		OutputStream sink = OutputStream.nullOutputStream();
+		MessageCodec.Encoder timed = new MessageCodec.Encoder();
+		Message<?> sample = typical.get(0);
+		int iterations = 2_000_000;
+		for (int i = 0; i < iterations / 10; i++) {
+			timed.write(sample, sink); // Warm up
+		}
+		long started = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			timed.write(sample, sink);
+		}
+		double seconds = (System.nanoTime() - started) / 1e9;
+		System.out.printf("Encoding: %.0f messages/s (%.0f ns each)%n", iterations / seconds,
+				seconds * 1e9 / iterations);
+	}
+
+	private static String toJson(Object value) {
+		if (value == null || value instanceof Boolean || value instanceof Number) {
+			return String.valueOf(value);
+		}
+		if (value instanceof Message<?> message) {
+			return toJson(message.toMap());
+		}
+		if (value instanceof Map<?, ?> map) {
+			List<String> entries = new ArrayList<>();
+			map.forEach((k, v) -> entries.add(toJson(String.valueOf(k)) + ":" + toJson(v)));
+			return "{" + String.join(",", entries) + "}";
+		}
+		if (value instanceof List<?> list) {
+			return "[" + String.join(",", list.stream().map(MessageCodecBenchmark::toJson).toList()) + "]";
+		}
+		return "\"" + value.toString().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+}
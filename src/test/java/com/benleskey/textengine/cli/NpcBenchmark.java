@@ -0,0 +1,80 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.Goblin;
+import com.benleskey.textengine.systems.BehaviorSystem;
+import com.benleskey.textengine.systems.ConnectionSystem;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.TickSystem;
+import com.benleskey.textengine.systems.WorldSystem;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times NPC simulation with no players connected: goblins spread evenly over a
+ * ring of places, each patrolling to the next place, simulated hour by hour in
+ * an in-memory database.
+ *
+ * Usage: NpcBenchmark [npcs (1000)] [places (100)] [hours (24)]
+ */
+public class NpcBenchmark {
+	public static void main(String[] args) throws Exception {
+		int npcs = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		int placeCount = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+		int hours = args.length > 2 ? Integer.parseInt(args[2]) : 24;
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			ConnectionSystem connectionSystem = game.getSystem(ConnectionSystem.class);
+			WorldSystem worldSystem = game.getSystem(WorldSystem.class);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+			BehaviorSystem behaviorSystem = game.getSystem(BehaviorSystem.class);
+
+			List<Place> places = new ArrayList<>();
+			for (int i = 0; i < placeCount; i++) {
+				places.add(entitySystem.add(Place.class));
+			}
+			for (int i = 0; i < placeCount; i++) {
+				connectionSystem.connectBidirectional(places.get(i), places.get((i + 1) % placeCount));
+			}
+			for (int i = 0; i < npcs; i++) {
+				Place home = places.get(i % placeCount);
+				Goblin.create(game, home, home, places.get((i + 1) % placeCount));
+			}
+			connection.commit();
+
+			long perceptionsBefore = behaviorSystem.getPerceptionsBuilt();
+			long snapshotsBefore = behaviorSystem.getSnapshotsBuilt();
+			long started = System.nanoTime();
+			for (int hour = 0; hour < hours; hour++) {
+				worldSystem.incrementCurrentTime(DTime.fromSeconds(3600));
+				tickSystem.processWorldTicks();
+				connection.commit();
+			}
+			double seconds = (System.nanoTime() - started) / 1e9;
+
+			long perceptions = behaviorSystem.getPerceptionsBuilt() - perceptionsBefore;
+			long snapshots = behaviorSystem.getSnapshotsBuilt() - snapshotsBefore;
+			System.out.printf("%d NPCs in %d places for %d hours: %.2f s (%.1f ms per hour)%n", npcs, placeCount,
+					hours, seconds, seconds * 1000 / hours);
+			System.out.printf("%d perceptions from %d place snapshots (%.1f per snapshot)%n", perceptions, snapshots,
+					snapshots > 0 ? (double) perceptions / snapshots : 0.0);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.SpatialSystem;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Arrays;
+
+/**
+ * Times spatial queries for an explorer walking across a large world: a square
+ * of positioned places is laid out in an in-memory database, then an explorer
+ * walks back and forth over it row by row, looking around at every step.
+ * Reports per-step latency and heap use as regions are paged in and evicted.
+ *
+ * Usage: RegionPagingBenchmark [tiles (100000)] [steps (20000)] [sight (5)]
+ */
+public class RegionPagingBenchmark {
+	public static void main(String[] args) throws Exception {
+		int tiles = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int steps = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+		int sight = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+		int side = (int) Math.ceil(Math.sqrt(tiles));
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			SpatialSystem spatialSystem = game.getSystem(SpatialSystem.class);
+
+			long started = System.nanoTime();
+			for (int i = 0; i < tiles; i++) {
+				Place place = entitySystem.add(Place.class);
+				spatialSystem.setPosition(place, SpatialSystem.SCALE_CONTINENT, i % side, i / side);
+			}
+			connection.commit();
+			System.out.printf("Laid out %d tiles (%dx%d) in %.2f s%n", tiles, side, side,
+					(System.nanoTime() - started) / 1e9);
+
+			long heapBefore = usedHeap();
+			long[] latencies = new long[steps];
+			long seen = 0;
+			long maxHeap = heapBefore;
+			for (int step = 0; step < steps; step++) {
+				// Boustrophedon walk: along a row, then back along the next one
+				int row = step / side % side;
+				int column = row % 2 == 0 ? step % side : side - 1 - step % side;
+				int[] position = { column, row };
+
+				long stepStarted = System.nanoTime();
+				seen += spatialSystem.getEntitiesInRange(SpatialSystem.SCALE_CONTINENT, position, sight).size();
+				seen += spatialSystem.getNearestEntities(SpatialSystem.SCALE_CONTINENT, position, 8, sight * 4).size();
+				latencies[step] = System.nanoTime() - stepStarted;
+
+				if (step % 1000 == 0) {
+					maxHeap = Math.max(maxHeap, usedHeap());
+				}
+			}
+			long heapAfter = usedHeap();
+
+			Arrays.sort(latencies);
+			double total = Arrays.stream(latencies).sum() / 1e9;
+			System.out.printf("%d steps seeing %d entities: %.2f s (%.1f us per step)%n", steps, seen, total,
+					total * 1e6 / steps);
+			System.out.printf("Step latency p50 %.1f us, p99 %.1f us, max %.1f us%n", latencies[steps / 2] / 1e3,
+					latencies[steps * 99 / 100] / 1e3, latencies[steps - 1] / 1e3);
+			System.out.printf("Heap used: %.1f MB before walking, %.1f MB peak, %.1f MB after%n", heapBefore / 1e6,
+					maxHeap / 1e6, heapAfter / 1e6);
+		}
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
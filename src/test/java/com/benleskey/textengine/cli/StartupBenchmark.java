@@ -0,0 +1,113 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.Plugin;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.DependencyOrder;
+import com.benleskey.textengine.util.HookHandler;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times game startup with the high fantasy plugins plus a ladder of extra
+ * plugins, each depending on both plugins of the layer below, and compares
+ * ordering those plugins by recursive Plugin.getEventOrder(), as startup used
+ * to, with the memoized DependencyOrder it uses now.
+ *
+ * Usage: StartupBenchmark [ladder layers (16)] [startups (5)]
+ */
+public class StartupBenchmark {
+	private static class LayerPlugin extends Plugin {
+		private final String id;
+		private final Set<Plugin> dependencies;
+
+		LayerPlugin(Game game, String id, Set<Plugin> dependencies) {
+			super(game);
+			this.id = id;
+			this.dependencies = dependencies;
+		}
+
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public Set<Plugin> getDependencies() {
+			return dependencies;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int layers = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int startups = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		long totalNanos = 0;
+		for (int run = 0; run <= startups; run++) {
+			try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+				long started = System.nanoTime();
+				Game game = Game.builder()
+						.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+						.databaseConnection(connection)
+						.seed(1L)
+						.build();
+				game.registerPlugin(new HighFantasyPlugin(game));
+				List<Plugin> ladder = registerLadder(game, layers);
+				game.initialize();
+				long nanos = System.nanoTime() - started;
+
+				// The first startup is warm-up
+				if (run > 0) {
+					totalNanos += nanos;
+				} else {
+					compareOrdering(ladder);
+				}
+			}
+		}
+		System.out.printf("Startup with %d ladder layers: %.1f ms mean over %d runs%n", layers,
+				totalNanos / 1e6 / startups, startups);
+	}
+
+	private static List<Plugin> registerLadder(Game game, int layers) {
+		List<Plugin> all = new ArrayList<>();
+		Set<Plugin> below = Set.of();
+		for (int layer = 0; layer < layers; layer++) {
+			Plugin left = new LayerPlugin(game, "ladder." + layer + ".left", below);
+			Plugin right = new LayerPlugin(game, "ladder." + layer + ".right", below);
+			game.registerPlugin(left);
+			game.registerPlugin(right);
+			all.add(left);
+			all.add(right);
+			below = Set.of(left, right);
+		}
+		return all;
+	}
+
+	private static void compareOrdering(List<Plugin> ladder) {
+		List<Plugin> recursive = new ArrayList<>(ladder);
+		long started = System.nanoTime();
+		recursive.sort(Comparator.comparing(Plugin::getEventOrder));
+		long recursiveNanos = System.nanoTime() - started;
+
+		List<Plugin> memoized = new ArrayList<>(ladder);
+		started = System.nanoTime();
+		DependencyOrder<HookHandler> order = new DependencyOrder<>(
+				handler -> ((Plugin) handler).getDependencies());
+		memoized.sort(order.comparator());
+		long memoizedNanos = System.nanoTime() - started;
+
+		if (!recursive.equals(memoized)) {
+			System.out.println("Orderings differ");
+			System.exit(1);
+		}
+		System.out.printf("Ordering %d ladder plugins: recursive %.2f ms, memoized %.3f ms%n", ladder.size(),
+				recursiveNanos / 1e6, memoizedNanos / 1e6);
+	}
+}
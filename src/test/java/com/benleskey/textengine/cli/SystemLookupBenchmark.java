@@ -0,0 +1,99 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.SingletonGameSystem;
+import com.benleskey.textengine.SystemHandle;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.systems.ActionSystem;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.EventSystem;
+import com.benleskey.textengine.systems.SpatialSystem;
+import com.benleskey.textengine.systems.UniqueTypeSystem;
+import com.benleskey.textengine.systems.WorldSystem;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+/**
+ * Times looking up the systems an NPC action touches, by id string as
+ * getSystem(Class) used to, by class and by handle. For the effect on NPC tick
+ * throughput, run NpcBenchmark before and after.
+ *
+ * Usage: SystemLookupBenchmark [lookups (10000000)]
+ */
+public class SystemLookupBenchmark {
+	private static final List<Class<? extends SingletonGameSystem>> TYPES = List.of(ActionSystem.class,
+			EntitySystem.class, EventSystem.class, SpatialSystem.class, UniqueTypeSystem.class, WorldSystem.class);
+
+	public static void main(String[] args) throws Exception {
+		int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			@SuppressWarnings("unchecked")
+			Class<? extends SingletonGameSystem>[] types = TYPES.toArray(new Class[0]);
+			SystemHandle<?>[] handles = TYPES.stream().map(SystemHandle::of).toArray(SystemHandle[]::new);
+
+			for (int round = 0; round < 2; round++) {
+				// The first round is warm-up
+				long byId = byId(game, types, lookups);
+				long byClass = byClass(game, types, lookups);
+				long byHandle = byHandle(game, handles, lookups);
+				if (round == 1) {
+					System.out.printf("Id %.1f ns/lookup, class %.1f ns/lookup, handle %.1f ns/lookup%n",
+							(double) byId / lookups, (double) byClass / lookups, (double) byHandle / lookups);
+				}
+			}
+		}
+	}
+
+	private static long byId(Game game, Class<? extends SingletonGameSystem>[] types, int lookups) {
+		int sink = 0;
+		long started = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			Object system = game.getSystem(SingletonGameSystem.getSingletonGameSystemId(types[i % types.length]));
+			sink += system.hashCode();
+		}
+		long nanos = System.nanoTime() - started;
+		consume(sink);
+		return nanos;
+	}
+
+	private static long byClass(Game game, Class<? extends SingletonGameSystem>[] types, int lookups) {
+		int sink = 0;
+		long started = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			sink += game.getSystem(types[i % types.length]).hashCode();
+		}
+		long nanos = System.nanoTime() - started;
+		consume(sink);
+		return nanos;
+	}
+
+	private static long byHandle(Game game, SystemHandle<?>[] handles, int lookups) {
+		int sink = 0;
+		long started = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			sink += game.getSystem(handles[i % handles.length]).hashCode();
+		}
+		long nanos = System.nanoTime() - started;
+		consume(sink);
+		return nanos;
+	}
+
+	private static void consume(int sink) {
+		if (sink == 42) {
+			System.out.println();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.benleskey.textengine.cli;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for a server started with --listen: opens many concurrent
+ * connections, each sending a command and waiting for the next prompt, and
+ * reports round-trip latency.
+ *
+ * Usage: TelnetLoadGenerator [host (localhost)] [port (4000)] [connections (1000)] [commands each (20)]
+ */
+public class TelnetLoadGenerator {
+	private static final byte[] COMMAND = "look\r\n".getBytes(StandardCharsets.UTF_8);
+
+	public static void main(String[] args) throws Exception {
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 4000;
+		int connections = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+		int commandsEach = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		AtomicInteger failures = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(connections);
+
+		long started = System.nanoTime();
+		for (int i = 0; i < connections; i++) {
+			Thread.ofVirtual().start(() -> {
+				try (Socket socket = new Socket(host, port)) {
+					InputStream in = new BufferedInputStream(socket.getInputStream());
+					OutputStream out = socket.getOutputStream();
+					awaitPrompt(in);
+					for (int c = 0; c < commandsEach; c++) {
+						long sent = System.nanoTime();
+						out.write(COMMAND);
+						out.flush();
+						awaitPrompt(in);
+						latencies.add(System.nanoTime() - sent);
+					}
+					out.write("quit\r\n".getBytes(StandardCharsets.UTF_8));
+					out.flush();
+				} catch (IOException e) {
+					failures.incrementAndGet();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		double seconds = (System.nanoTime() - started) / 1e9;
+
+		List<Long> sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		System.out.printf("%d connections, %d failed, %d commands in %.2f s%n", connections, failures.get(),
+				sorted.size(), seconds);
+		if (!sorted.isEmpty()) {
+			double mean = sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1e6;
+			System.out.printf("latency mean %.2f ms, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", mean,
+					sorted.get(sorted.size() / 2) / 1e6, sorted.get((int) (sorted.size() * 0.99)) / 1e6,
+					sorted.get(sorted.size() - 1) / 1e6);
+		}
+	}
+
+	/**
+	 * Read until the server's "> " prompt.
+	 */
+	private static void awaitPrompt(InputStream in) throws IOException {
+		int previous = 0;
+		int b;
+		while ((b = in.read()) >= 0) {
+			if (previous == '>' && b == ' ') {
+				return;
+			}
+			previous = b;
+		}
+		throw new IOException("Connection closed before prompt");
+	}
+}
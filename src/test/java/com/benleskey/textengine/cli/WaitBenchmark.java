@@ -0,0 +1,111 @@
+package com.benleskey.textengine.cli;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.AncientCoin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.Goblin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.SimpleAvatar;
+import com.benleskey.textengine.systems.ActionSystem;
+import com.benleskey.textengine.systems.ConnectionSystem;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.systems.RelationshipSystem;
+import com.benleskey.textengine.systems.TickSystem;
+import com.benleskey.textengine.util.Logger;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times a player waiting out game-days in a populated region: goblins patrol
+ * a ring of places strewn with coins while a player elsewhere waits, either in
+ * one wait caught up the way the game loop does or in a wait per step, in an
+ * in-memory database.
+ *
+ * Usage: WaitBenchmark [npcs (4)] [places (6)] [days (1)] [step seconds (0 for one wait)]
+ */
+public class WaitBenchmark {
+	// The game loop's catch-up budget per iteration
+	private static final long BUDGET_NANOS = 50_000_000;
+
+	public static void main(String[] args) throws Exception {
+		int npcs = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+		int placeCount = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+		int days = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+		int stepSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			ConnectionSystem connectionSystem = game.getSystem(ConnectionSystem.class);
+			RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+			ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+
+			List<Place> places = new ArrayList<>();
+			for (int i = 0; i < placeCount; i++) {
+				places.add(entitySystem.add(Place.class));
+			}
+			for (int i = 0; i < placeCount; i++) {
+				connectionSystem.connectBidirectional(places.get(i), places.get((i + 1) % placeCount));
+			}
+			for (int i = 0; i < npcs; i++) {
+				Place home = places.get(i % placeCount);
+				Goblin.create(game, home, home, places.get((i + 1) % placeCount));
+			}
+			Random random = new Random(1L);
+			for (int i = 0; i < npcs / 2; i++) {
+				relationshipSystem.add(places.get(random.nextInt(placeCount)), AncientCoin.create(game, random),
+						relationshipSystem.rvContains);
+			}
+			SimpleAvatar avatar = SimpleAvatar.create(game);
+			relationshipSystem.add(entitySystem.add(Place.class), avatar, relationshipSystem.rvContains);
+			connection.commit();
+
+			long seconds = days * 86400L;
+			long eventsBefore = countEvents(connection);
+			int calls = 0;
+			long started = System.nanoTime();
+			if (stepSeconds <= 0) {
+				actionSystem.queueAction(avatar, actionSystem.ACTION_WAIT, avatar, DTime.fromSeconds(seconds));
+				do {
+					calls++;
+				} while (!tickSystem.processWorldTicks(BUDGET_NANOS));
+			} else {
+				for (long waited = 0; waited < seconds; waited += stepSeconds) {
+					actionSystem.queueAction(avatar, actionSystem.ACTION_WAIT, avatar, DTime.fromSeconds(stepSeconds));
+					tickSystem.processWorldTicks();
+					calls++;
+				}
+			}
+			connection.commit();
+			double elapsed = (System.nanoTime() - started) / 1e9;
+
+			System.out.printf("%d NPCs in %d places waiting %d days %s: %.2f s over %d tick calls%n", npcs,
+					placeCount, days, stepSeconds <= 0 ? "at once" : "in " + stepSeconds + " s waits", elapsed, calls);
+			System.out.printf("%d events written (%.1f per NPC per day)%n", countEvents(connection) - eventsBefore,
+					(double) (countEvents(connection) - eventsBefore) / npcs / days);
+		}
+	}
+
+	private static long countEvents(Connection connection) throws SQLException {
+		try (Statement s = connection.createStatement(); ResultSet rs = s.executeQuery("SELECT COUNT(*) FROM event")) {
+			return rs.next() ? rs.getLong(1) : 0;
+		}
+	}
+}
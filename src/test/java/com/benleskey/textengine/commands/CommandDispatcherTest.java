@@ -0,0 +1,92 @@
+package com.benleskey.textengine.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.Logger;
+
+class CommandDispatcherTest {
+	private static final String[] VERBS = { "look", "l", "go", "move", "take", "get", "pickup", "grab", "drop",
+			"inventory", "inv", "i", "wait", "help", "quit", "chat", "echo", "open", "close", "put", "use", "travel",
+			"seed", "debug:roll", "debug:embersim", "debug:generatename", "north", "lo", "ta", "Look", "GO", "" };
+	private static final String[] ARGS = { "", " ", "  ", "north", " north", " the rock", " rock from chest",
+			" at tree", " to forest", " 10", " 1 minute", " 3d6+2", " 4 6 3 1", " 1 2 3 4 5 6", " axe on tree",
+			" coin into pouch", " 1", "!", "?", " hello there", "\t", "s", "x" };
+
+	@Test
+	void parsesLikeScanningEveryVariant() throws Exception {
+		Random random = new Random(1);
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			int matched = 0;
+			for (int i = 0; i < 50000; i++) {
+				String line = randomLine(random);
+				CommandInput actual = game.inputLineToCommandInput(line);
+				assertEquals(scan(game, line).toMap(), actual.toMap(), "Parse of '" + line + "'");
+				if (!actual.getId().equals(CommandOutput.M_UNKNOWN_COMMAND)) {
+					matched++;
+				}
+			}
+			// The corpus must exercise real commands, not just unknown ones
+			assertTrue(matched > 10000, matched + " lines matched a command");
+		}
+	}
+
+	/**
+	 * Parsing as it was before the dispatcher: every variant of every command,
+	 * in registration order.
+	 */
+	private static CommandInput scan(Game game, String line) {
+		for (Command command : game.getCommands().values()) {
+			for (CommandVariant variant : command.getVariants().values()) {
+				Matcher matcher = variant.getRegex().matcher(line);
+				if (matcher.find()) {
+					CommandInput processedInput = variant.getFunction().run(matcher);
+					processedInput.id(command.getName());
+					processedInput.line(line);
+					return processedInput;
+				}
+			}
+		}
+		return CommandInput.make(CommandOutput.M_UNKNOWN_COMMAND).put(CommandOutput.M_ORIGINAL_UNKNOWN_COMMAND_LINE,
+				line);
+	}
+
+	private static String randomLine(Random random) {
+		StringBuilder line = new StringBuilder();
+		if (random.nextInt(20) == 0) {
+			line.append(' ');
+		}
+		line.append(VERBS[random.nextInt(VERBS.length)]).append(ARGS[random.nextInt(ARGS.length)]);
+		if (random.nextInt(4) == 0) {
+			line.append(ARGS[random.nextInt(ARGS.length)]);
+		}
+		// Sometimes damage it
+		if (random.nextInt(5) == 0 && line.length() > 0) {
+			int at = random.nextInt(line.length());
+			if (random.nextBoolean()) {
+				line.deleteCharAt(at);
+			} else {
+				line.insert(at, (char) (' ' + random.nextInt(95)));
+			}
+		}
+		return line.toString();
+	}
+}
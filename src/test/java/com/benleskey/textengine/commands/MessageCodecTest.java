@@ -0,0 +1,228 @@
+package com.benleskey.textengine.commands;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.benleskey.textengine.actions.MoveAction;
+import com.benleskey.textengine.systems.EntitySystem;
+import com.benleskey.textengine.util.Message;
+
+class MessageCodecTest {
+	private static final String[] WORDS = { "actor_arrives", "look", "a goblin", "the forest", "\u00fc", "\u65e5\u672c",
+			"\ud83d\ude00", "", "<entity id=\"12\">rock</entity>" };
+
+	@Test
+	void roundTripsRandomMessages() throws IOException {
+		Random random = new Random(1);
+		List<Message<?>> messages = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			messages.add(randomMessage(random, 0));
+		}
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		MessageCodec.Encoder encoder = new MessageCodec.Encoder();
+		for (Message<?> message : messages) {
+			encoder.write(message, stream);
+		}
+
+		MessageCodec.Decoder decoder = new MessageCodec.Decoder();
+		ByteArrayInputStream in = new ByteArrayInputStream(stream.toByteArray());
+		for (int i = 0; i < messages.size(); i++) {
+			Message<?> decoded = decoder.read(in);
+			assertTrue(same(messages.get(i), decoded),
+					"Message " + i + " sent " + messages.get(i) + " but got " + decoded);
+		}
+		assertNull(decoder.read(in));
+	}
+
+	@Test
+	void rejectsTruncatedFrames() {
+		Random random = new Random(2);
+		for (int i = 0; i < 2000; i++) {
+			byte[] payload = payload(new MessageCodec.Encoder().encode(randomMessage(random, 0)));
+			byte[] truncated = Arrays.copyOf(payload, random.nextInt(payload.length));
+			assertThrows(IOException.class, () -> new MessageCodec.Decoder().read(frame(truncated)));
+		}
+	}
+
+	@Test
+	void corruptFramesFailOnlyWithIOException() {
+		Random random = new Random(3);
+		for (int i = 0; i < 20000; i++) {
+			byte[] payload = payload(new MessageCodec.Encoder().encode(randomMessage(random, 0)));
+			int flips = 1 + random.nextInt(4);
+			for (int j = 0; j < flips; j++) {
+				payload[random.nextInt(payload.length)] = (byte) random.nextInt(256);
+			}
+			try {
+				new MessageCodec.Decoder().read(frame(payload));
+			} catch (IOException e) {
+				// Expected for most corruptions
+			} catch (RuntimeException | StackOverflowError e) {
+				fail("Corrupt frame " + Arrays.toString(payload) + " threw " + e);
+			}
+		}
+	}
+
+	@Test
+	void doesNotReadPastAShortFrameIntoEarlierBytes() throws IOException {
+		MessageCodec.Decoder decoder = new MessageCodec.Decoder();
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		stream.write(new MessageCodec.Encoder().encode(
+				CommandOutput.make("look").put(CommandOutput.M_TEXT, "a long description ".repeat(20))));
+		// A raw message claiming one entry, with nothing after the count
+		stream.write(new byte[] { 2, 0, 1 });
+		ByteArrayInputStream in = new ByteArrayInputStream(stream.toByteArray());
+
+		decoder.read(in);
+		assertThrows(IOException.class, () -> decoder.read(in));
+	}
+
+	@Test
+	void rejectsDeepNesting() {
+		// Raw messages each holding the next under the type key
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		for (int i = 0; i < 100000; i++) {
+			payload.write(0); // Raw
+			payload.write(1); // One entry
+			payload.write(1); // First default key
+			payload.write(7); // Nested message
+		}
+		payload.write(0);
+		payload.write(0);
+		assertThrows(IOException.class, () -> new MessageCodec.Decoder().read(frame(payload.toByteArray())));
+	}
+
+	@Test
+	void rejectsUnknownKeyIds() {
+		// A raw message with one entry under a key id the stream never defined
+		byte[] payload = { 0, 1, (byte) 0xFF, 0x7F, 0 };
+		assertThrows(IOException.class, () -> new MessageCodec.Decoder().read(frame(payload)));
+	}
+
+	/**
+	 * @return a frame's payload without its length prefix
+	 */
+	private static byte[] payload(byte[] frame) {
+		int start = 0;
+		while ((frame[start] & 0x80) != 0) {
+			start++;
+		}
+		return Arrays.copyOfRange(frame, start + 1, frame.length);
+	}
+
+	private static ByteArrayInputStream frame(byte[] payload) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long length = payload.length;
+		while ((length & ~0x7FL) != 0) {
+			out.write((int) ((length & 0x7F) | 0x80));
+			length >>>= 7;
+		}
+		out.write((int) length);
+		out.writeBytes(payload);
+		return new ByteArrayInputStream(out.toByteArray());
+	}
+
+	private static Message<?> randomMessage(Random random, int depth) {
+		Message<?> message = switch (random.nextInt(3)) {
+			case 0 -> random.nextBoolean() ? CommandOutput.make(WORDS[random.nextInt(WORDS.length)])
+					: CommandOutput.make(MoveAction.LAYOUT_ARRIVES);
+			case 1 -> CommandInput.make(WORDS[random.nextInt(WORDS.length)]);
+			default -> Message.make();
+		};
+		int entries = random.nextInt(6);
+		for (int i = 0; i < entries; i++) {
+			// Mostly repeated keys, sometimes fresh ones to exercise the key table
+			String key = random.nextInt(4) == 0 ? "key" + random.nextInt(1000) : WORDS[random.nextInt(WORDS.length)];
+			if (random.nextInt(8) == 0) {
+				message.putId(EntitySystem.M_ACTOR_ID, random.nextLong() >>> random.nextInt(64));
+			} else {
+				message.put(key, randomValue(random, depth));
+			}
+		}
+		return message;
+	}
+
+	private static Object randomValue(Random random, int depth) {
+		int kinds = depth < 3 ? 10 : 7;
+		switch (random.nextInt(kinds)) {
+			case 0:
+				return null;
+			case 1:
+				return random.nextBoolean();
+			case 2:
+				return random.nextInt();
+			case 3:
+				return random.nextLong() >> random.nextInt(64);
+			case 4:
+				return random.nextDouble() * 1e6 - 5e5;
+			case 5:
+				return WORDS[random.nextInt(WORDS.length)];
+			case 6: {
+				StringBuilder s = new StringBuilder();
+				int length = random.nextInt(40);
+				for (int i = 0; i < length; i++) {
+					s.appendCodePoint(random.nextInt(3) == 0 ? 0x20 + random.nextInt(0x3000) : 'a' + random.nextInt(26));
+				}
+				return s.toString();
+			}
+			case 7:
+				return randomMessage(random, depth + 1);
+			case 8: {
+				List<Object> list = new ArrayList<>();
+				int length = random.nextInt(4);
+				for (int i = 0; i < length; i++) {
+					list.add(randomValue(random, depth + 1));
+				}
+				return list;
+			}
+			default: {
+				Map<String, Object> map = new LinkedHashMap<>();
+				int length = random.nextInt(4);
+				for (int i = 0; i < length; i++) {
+					map.put(WORDS[random.nextInt(WORDS.length)], randomValue(random, depth + 1));
+				}
+				return map;
+			}
+		}
+	}
+
+	/**
+	 * Deep equality; messages have no equals() of their own.
+	 */
+	private static boolean same(Object a, Object b) {
+		if (a instanceof Message<?> ma && b instanceof Message<?> mb) {
+			return ma.getClass() == mb.getClass() && same(ma.toMap(), mb.toMap());
+		}
+		if (a instanceof Map<?, ?> ma && b instanceof Map<?, ?> mb) {
+			return ma.size() == mb.size() && ma.entrySet().stream()
+					.allMatch(e -> mb.containsKey(e.getKey()) && same(e.getValue(), mb.get(e.getKey())));
+		}
+		if (a instanceof List<?> la && b instanceof List<?> lb) {
+			if (la.size() != lb.size()) {
+				return false;
+			}
+			for (int i = 0; i < la.size(); i++) {
+				if (!same(la.get(i), lb.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return Objects.equals(a, b);
+	}
+}
@@ -0,0 +1,174 @@
+package com.benleskey.textengine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.behaviors.Perception;
+import com.benleskey.textengine.behaviors.PlaceSnapshot;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Decision;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.AncientCoin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.Goblin;
+import com.benleskey.textengine.util.Logger;
+
+class ActionSystemTest {
+	private static final int PLACES = 12;
+	private static final int GOBLINS = 12;
+	private static final int COINS = 6;
+	private static final int STEPS = 13;
+
+	// Snapshots perceived by watched goblins, by goblin id
+	private static final Map<Long, PlaceSnapshot> perceived = new HashMap<>();
+
+	/**
+	 * A goblin that records the snapshot it decides from.
+	 */
+	public static class WatchedGoblin extends Goblin {
+		public WatchedGoblin(long id, Game game) {
+			super(id, game);
+		}
+
+		@Override
+		public Decision decide(Perception perception) {
+			perceived.put(getId(), perception.here());
+			return super.decide(perception);
+		}
+	}
+
+	@Test
+	void parallelDecisionsMatchSerialTurns() throws Exception {
+		assertEquals(simulate(false), simulate(true));
+	}
+
+	@Test
+	void coLocatedGoblinsShareOneSnapshot() throws Exception {
+		for (boolean parallel : List.of(false, true)) {
+			perceived.clear();
+			try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+				Game game = startGame(connection);
+				EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+				RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+				ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+				actionSystem.setParallelDecisions(parallel);
+				entitySystem.registerEntityType(WatchedGoblin.class);
+
+				Place camp = entitySystem.add(Place.class);
+				Place nextDoor = entitySystem.add(Place.class);
+				Place farSide = entitySystem.add(Place.class);
+				game.getSystem(ConnectionSystem.class).connectBidirectional(camp, nextDoor);
+				game.getSystem(ConnectionSystem.class).connectBidirectional(camp, farSide);
+				List<WatchedGoblin> goblins = new ArrayList<>();
+				for (Place place : List.of(camp, nextDoor, camp)) {
+					WatchedGoblin goblin = entitySystem.add(WatchedGoblin.class);
+					relationshipSystem.add(place, goblin, relationshipSystem.rvContains);
+					goblins.add(goblin);
+				}
+
+				BehaviorSystem behaviorSystem = game.getSystem(BehaviorSystem.class);
+				long snapshotsBefore = behaviorSystem.getSnapshotsBuilt();
+				// The goblin next door, whose surroundings overlap the camp's, takes its turn between the two
+				actionSystem.processActingEntitiesTick(goblins);
+
+				PlaceSnapshot first = perceived.get(goblins.get(0).getId());
+				assertSame(first, perceived.get(goblins.get(2).getId()));
+				assertEquals(camp, first.place());
+				assertNotSame(first, perceived.get(goblins.get(1).getId()));
+				assertEquals(2, behaviorSystem.getSnapshotsBuilt() - snapshotsBefore);
+			}
+		}
+	}
+
+	/**
+	 * Run goblins patrolling a ring of places strewn with coins.
+	 *
+	 * @return what each place holds after every ten minutes, by creation order
+	 */
+	private static List<String> simulate(boolean parallel) throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			ConnectionSystem connectionSystem = game.getSystem(ConnectionSystem.class);
+			RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+			WorldSystem worldSystem = game.getSystem(WorldSystem.class);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+			game.getSystem(ActionSystem.class).setParallelDecisions(parallel);
+
+			Map<Long, String> labels = new HashMap<>();
+			List<Place> places = new ArrayList<>();
+			for (int i = 0; i < PLACES; i++) {
+				Place place = entitySystem.add(Place.class);
+				places.add(place);
+				labels.put(place.getId(), "place " + i);
+			}
+			for (int i = 0; i < PLACES; i++) {
+				connectionSystem.connectBidirectional(places.get(i), places.get((i + 1) % PLACES));
+			}
+			for (int i = 0; i < GOBLINS; i++) {
+				Place home = places.get(i % PLACES);
+				labels.put(Goblin.create(game, home, home, places.get((i + 1) % PLACES)).getId(), "goblin " + i);
+			}
+			Random random = new Random(1L);
+			for (int i = 0; i < COINS; i++) {
+				AncientCoin coin = AncientCoin.create(game, random);
+				relationshipSystem.add(places.get(i * 7 % PLACES), coin, relationshipSystem.rvContains);
+				labels.put(coin.getId(), "coin " + i);
+			}
+			connection.commit();
+
+			List<String> states = new ArrayList<>();
+			for (int step = 0; step < STEPS; step++) {
+				worldSystem.incrementCurrentTime(DTime.fromSeconds(600));
+				tickSystem.processWorldTicks();
+				connection.commit();
+
+				DTime now = worldSystem.getCurrentTime();
+				for (Place place : places) {
+					states.add(labels.get(place.getId()) + ": " + contents(relationshipSystem, place, now, labels));
+				}
+			}
+			return states;
+		}
+	}
+
+	private static Game startGame(Connection connection) {
+		Game game = Game.builder()
+				.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+				.databaseConnection(connection)
+				.seed(1L)
+				.build();
+		game.registerPlugin(new HighFantasyPlugin(game));
+		game.initialize();
+		return game;
+	}
+
+	private static String contents(RelationshipSystem relationshipSystem, Entity container, DTime now,
+			Map<Long, String> labels) {
+		List<String> held = new ArrayList<>();
+		relationshipSystem.getReceivingRelationships(container, relationshipSystem.rvContains, now)
+				.forEach(rd -> {
+					Entity entity = rd.getReceiver();
+					String label = labels.getOrDefault(entity.getId(), "?");
+					String nested = contents(relationshipSystem, entity, now, labels);
+					held.add(nested.equals("[]") ? label : label + " " + nested);
+				});
+		held.sort(null);
+		return held.toString();
+	}
+}
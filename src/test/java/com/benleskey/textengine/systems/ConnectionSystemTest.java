@@ -0,0 +1,143 @@
+package com.benleskey.textengine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.Logger;
+
+class ConnectionSystemTest {
+	private Connection connection;
+	private EntitySystem entitySystem;
+	private SpatialSystem spatialSystem;
+	private ConnectionSystem connectionSystem;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+		Game game = Game.builder()
+				.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+				.databaseConnection(connection)
+				.seed(1L)
+				.build();
+		game.registerPlugin(new HighFantasyPlugin(game));
+		game.initialize();
+
+		entitySystem = game.getSystem(EntitySystem.class);
+		spatialSystem = game.getSystem(SpatialSystem.class);
+		connectionSystem = game.getSystem(ConnectionSystem.class);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		connection.close();
+	}
+
+	@Test
+	void findsShortestRoute() {
+		// A 6x6 grid with every edge, plus a long detour hanging off the start
+		int side = 6;
+		Place[][] grid = new Place[side][side];
+		for (int x = 0; x < side; x++) {
+			for (int y = 0; y < side; y++) {
+				grid[x][y] = place(x, y);
+				if (x > 0) {
+					connectionSystem.connectBidirectional(grid[x - 1][y], grid[x][y]);
+				}
+				if (y > 0) {
+					connectionSystem.connectBidirectional(grid[x][y - 1], grid[x][y]);
+				}
+			}
+		}
+		List<Place> detour = line(grid[0][0], 1, -1, 12);
+		connectionSystem.connectBidirectional(detour.get(detour.size() - 1), grid[side - 1][side - 1]);
+
+		List<Entity> route = connectionSystem.findRoute(grid[0][0], grid[side - 1][side - 1],
+				SpatialSystem.SCALE_CONTINENT);
+		assertEquals(2 * (side - 1), route.size());
+		assertEquals(grid[side - 1][side - 1], route.get(route.size() - 1));
+		for (int i = 0; i < route.size(); i++) {
+			int[] previous = spatialSystem.getPosition(i == 0 ? grid[0][0] : route.get(i - 1),
+					SpatialSystem.SCALE_CONTINENT);
+			int[] current = spatialSystem.getPosition(route.get(i), SpatialSystem.SCALE_CONTINENT);
+			assertEquals(1.0, spatialSystem.distance(previous, current), "Step " + i);
+		}
+	}
+
+	@Test
+	void headsForNearestPlaceWhenBudgetRunsOut() {
+		// The target lies at the far end of a line longer than the search budget
+		Place start = place(0, 0);
+		List<Place> road = line(start, 1, 0, 2100);
+		Place target = road.get(road.size() - 1);
+
+		List<Entity> route = connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT);
+		// 2000 places are expanded, the start and the first 1999 of the road
+		assertEquals(road.subList(0, 1999), route);
+	}
+
+	@Test
+	void routesFollowConnectionChanges() {
+		// A ring of eight with the target beside the start, but only reachable the long way round
+		List<Place> ring = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			ring.add(place(i < 4 ? i : 7 - i, i < 4 ? 0 : 2));
+		}
+		for (int i = 0; i < 7; i++) {
+			connectionSystem.connectBidirectional(ring.get(i), ring.get(i + 1));
+		}
+		Place start = ring.get(0);
+		Place target = ring.get(7);
+
+		List<Entity> around = connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT);
+		assertEquals(ring.subList(1, 8), around);
+		// Repeated searches are answered from the cache
+		List<Entity> cached = connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT);
+		assertSame(cached, connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT));
+		assertEquals(ring.subList(2, 8), connectionSystem.findRoute(ring.get(1), target, SpatialSystem.SCALE_CONTINENT));
+
+		connectionSystem.connectBidirectional(start, target);
+		assertEquals(List.of(target), connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT));
+		assertEquals(List.of(start, target), connectionSystem.findRoute(ring.get(1), target, SpatialSystem.SCALE_CONTINENT));
+
+		connectionSystem.disconnect(start, target);
+		assertEquals(ring.subList(1, 8), connectionSystem.findRoute(start, target, SpatialSystem.SCALE_CONTINENT));
+		// The way back still exists
+		assertEquals(List.of(start), connectionSystem.findRoute(target, start, SpatialSystem.SCALE_CONTINENT));
+	}
+
+	private Place place(int x, int y) {
+		Place place = entitySystem.add(Place.class);
+		spatialSystem.setPosition(place, SpatialSystem.SCALE_CONTINENT, x, y);
+		return place;
+	}
+
+	/**
+	 * Lay a road of places leading away from a place, one step of (dx, dy) apart.
+	 */
+	private List<Place> line(Place from, int dx, int dy, int length) {
+		int[] position = spatialSystem.getPosition(from, SpatialSystem.SCALE_CONTINENT);
+		List<Place> road = new ArrayList<>();
+		Place previous = from;
+		for (int i = 1; i <= length; i++) {
+			Place next = place(position[0] + dx * i, position[1] + dy * i);
+			connectionSystem.connectBidirectional(previous, next);
+			road.add(next);
+			previous = next;
+		}
+		return road;
+	}
+}
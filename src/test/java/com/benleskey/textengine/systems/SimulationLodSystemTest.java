@@ -0,0 +1,244 @@
+package com.benleskey.textengine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.benleskey.textengine.Client;
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.commands.CommandInput;
+import com.benleskey.textengine.commands.CommandOutput;
+import com.benleskey.textengine.entities.Acting;
+import com.benleskey.textengine.entities.Avatar;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.BaseEntity;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.SimpleAvatar;
+import com.benleskey.textengine.systems.SimulationLodSystem.Tier;
+import com.benleskey.textengine.util.Logger;
+
+class SimulationLodSystemTest {
+	// Turns taken by each counter, by id
+	private static final Map<Long, Integer> turns = new HashMap<>();
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	void setUp() {
+		turns.clear();
+	}
+
+	/**
+	 * An actor that counts its turns and waits a minute after each.
+	 */
+	public static class Counter extends BaseEntity implements Acting {
+		public Counter(long id, Game game) {
+			super(id, game);
+		}
+
+		@Override
+		public void onActionReady() {
+			turns.merge(getId(), 1, Integer::sum);
+			ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+			actionSystem.queueAction(this, actionSystem.ACTION_WAIT, this, DTime.fromSeconds(60));
+		}
+
+		@Override
+		public DTime getActionInterval() {
+			return DTime.fromSeconds(60);
+		}
+	}
+
+	/**
+	 * A connected player that ignores output.
+	 */
+	private static class Observer extends Client {
+		Observer(Game game, Avatar avatar) {
+			this.game = game;
+			setEntity(avatar);
+		}
+
+		@Override
+		public String getAccountIdentifier() {
+			return "observer";
+		}
+
+		@Override
+		public CommandInput waitForInput() {
+			return CommandInput.make(M_QUIT_FROM_CLIENT);
+		}
+
+		@Override
+		protected void writeOutput(List<CommandOutput> outputs) {
+		}
+
+		@Override
+		protected void writeStreamedOutput(CommandOutput output, Flow.Publisher<String> stream,
+				CompletableFuture<String> future) {
+		}
+	}
+
+	@Test
+	void tiersFollowDistanceToNearestPlayer() throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+			SimulationLodSystem lodSystem = game.getSystem(SimulationLodSystem.class);
+			Place home = place(game, 0, 0);
+			Place near = place(game, 8, 0);
+			Place far = place(game, 0, -20);
+			Place edge = place(game, 32, 0);
+			Place dormant = place(game, 33, 0);
+			Place nowhere = game.getSystem(EntitySystem.class).add(Place.class);
+
+			// Without players everything is simulated in full
+			lodSystem.refreshObservers();
+			assertEquals(Tier.NEAR, lodSystem.getTier(dormant));
+			assertTrue(lodSystem.getPlacesInRange().isEmpty());
+
+			observe(game, new Observer(game, avatarIn(game, home)));
+			assertTrue(lodSystem.refreshObservers());
+			assertFalse(lodSystem.refreshObservers());
+			assertEquals(Tier.NEAR, lodSystem.getTier(home));
+			assertEquals(Tier.NEAR, lodSystem.getTier(near));
+			assertEquals(Tier.FAR, lodSystem.getTier(far));
+			assertEquals(Tier.FAR, lodSystem.getTier(edge));
+			assertEquals(Tier.DORMANT, lodSystem.getTier(dormant));
+			assertEquals(Tier.NEAR, lodSystem.getTier(nowhere));
+			assertEquals(Tier.NEAR, lodSystem.getTier(null));
+			Set<?> inRange = lodSystem.getPlacesInRange();
+			assertTrue(inRange.containsAll(List.of(home, near, far, edge)));
+			assertFalse(inRange.contains(dormant));
+
+			// The nearest player counts
+			observe(game, new Observer(game, avatarIn(game, place(game, 40, 0))));
+			assertTrue(lodSystem.refreshObservers());
+			assertEquals(Tier.NEAR, lodSystem.getTier(dormant));
+			assertEquals(Tier.FAR, lodSystem.getTier(far));
+		}
+	}
+
+	@Test
+	void frozenActorsCatchUpAfterRestart() throws Exception {
+		String url = "jdbc:sqlite:" + tempDir.resolve("world.db");
+		long counterId;
+		long playerId;
+		long frozenAt;
+		try (Connection connection = DriverManager.getConnection(url)) {
+			Game game = startGame(connection);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+			SimpleAvatar player = avatarIn(game, place(game, 0, 0));
+			playerId = player.getId();
+			observe(game, new Observer(game, player));
+			Counter counter = game.getSystem(EntitySystem.class).add(Counter.class);
+			counterId = counter.getId();
+			game.getSystem(RelationshipSystem.class).add(place(game, 100, 0), counter,
+					game.getSystem(RelationshipSystem.class).rvContains);
+			game.getSystem(ActionSystem.class).addActing(counter);
+
+			// Its first turn finds it out of range, so it freezes
+			advance(game, 60);
+			frozenAt = game.getSystem(WorldSystem.class).getCurrentTime().toMilliseconds();
+			advance(game, 1800);
+			assertEquals(1, turns.get(counterId));
+			assertNull(tickSystem.getWakeTime(counter));
+			connection.commit();
+		}
+
+		try (Connection connection = DriverManager.getConnection(url)) {
+			Game game = startGame(connection);
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+			observe(game, new Observer(game, (SimpleAvatar) entitySystem.get(playerId)));
+			Counter counter = (Counter) entitySystem.get(counterId);
+
+			advance(game, 840);
+			assertEquals(1, turns.get(counterId));
+			assertNull(tickSystem.getWakeTime(counter));
+
+			// A second player arrives within range of it
+			observe(game, new Observer(game, avatarIn(game, place(game, 90, 0))));
+			advance(game, 60);
+			long now = game.getSystem(WorldSystem.class).getCurrentTime().toMilliseconds();
+			assertEquals(2700_000, now - frozenAt);
+			// A turn per six-minute FAR interval it was frozen; its regular turn then
+			// finds the wait queued by the last of them under way
+			assertEquals(1 + 7, turns.get(counterId));
+			assertNotNull(tickSystem.getWakeTime(counter));
+		}
+	}
+
+	@Test
+	void catchUpIsCapped() throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+			observe(game, new Observer(game, avatarIn(game, place(game, 0, 0))));
+			Counter counter = game.getSystem(EntitySystem.class).add(Counter.class);
+			game.getSystem(RelationshipSystem.class).add(place(game, 100, 0), counter,
+					game.getSystem(RelationshipSystem.class).rvContains);
+			game.getSystem(ActionSystem.class).addActing(counter);
+
+			advance(game, 60);
+			advance(game, 86400);
+			observe(game, new Observer(game, avatarIn(game, place(game, 100, 0))));
+			advance(game, 60);
+			assertEquals(1 + TickSystem.MAX_CATCH_UP_TURNS, turns.get(counter.getId()));
+		}
+	}
+
+	private static Game startGame(Connection connection) {
+		Game game = Game.builder()
+				.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+				.databaseConnection(connection)
+				.seed(1L)
+				.build();
+		game.registerPlugin(new HighFantasyPlugin(game));
+		game.initialize();
+		game.getSystem(EntitySystem.class).registerEntityType(Counter.class);
+		return game;
+	}
+
+	private static Place place(Game game, int x, int y) {
+		Place place = game.getSystem(EntitySystem.class).add(Place.class);
+		game.getSystem(SpatialSystem.class).setPosition(place, SpatialSystem.SCALE_CONTINENT, x, y);
+		return place;
+	}
+
+	private static SimpleAvatar avatarIn(Game game, Place place) {
+		SimpleAvatar avatar = SimpleAvatar.create(game);
+		RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+		relationshipSystem.add(place, avatar, relationshipSystem.rvContains);
+		return avatar;
+	}
+
+	/**
+	 * Connect a player without going through client start, which would give it
+	 * a new avatar.
+	 */
+	private static void observe(Game game, Observer observer) {
+		game.getClients().add(observer);
+	}
+
+	private static void advance(Game game, long seconds) {
+		game.getSystem(WorldSystem.class).incrementCurrentTime(DTime.fromSeconds(seconds));
+		game.getSystem(TickSystem.class).processWorldTicks();
+	}
+}
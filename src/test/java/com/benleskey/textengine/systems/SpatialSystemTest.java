@@ -0,0 +1,93 @@
+package com.benleskey.textengine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.util.Logger;
+
+class SpatialSystemTest {
+	// Regions are 32 tiles square and 64 stay loaded, so a 10x10 grid of them cannot all fit
+	private static final int REGION = 32;
+	private static final int GRID = 10;
+	private static final int BASE = 10_000;
+
+	@Test
+	void positionsSurviveRegionEviction() throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = Game.builder()
+					.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+					.databaseConnection(connection)
+					.seed(1L)
+					.build();
+			game.registerPlugin(new HighFantasyPlugin(game));
+			game.initialize();
+
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			SpatialSystem spatialSystem = game.getSystem(SpatialSystem.class);
+
+			// One place in every region of the grid
+			List<Place> places = new ArrayList<>();
+			List<int[]> coords = new ArrayList<>();
+			for (int x = 0; x < GRID; x++) {
+				for (int y = 0; y < GRID; y++) {
+					Place place = entitySystem.add(Place.class);
+					int[] position = { BASE + x * REGION + 3, BASE + y * REGION + 7 };
+					spatialSystem.setPosition(place, SpatialSystem.SCALE_CONTINENT, position);
+					places.add(place);
+					coords.add(position);
+				}
+			}
+
+			// Visiting every region pages each in and evicts the oldest past 64
+			int loaded = spatialSystem.getLoadedRegionCount(SpatialSystem.SCALE_CONTINENT);
+			for (int i = 0; i < places.size(); i++) {
+				assertArrayEquals(coords.get(i), spatialSystem.getPosition(places.get(i), SpatialSystem.SCALE_CONTINENT));
+				assertEquals(Math.min(loaded + i + 1, 64), spatialSystem.getLoadedRegionCount(SpatialSystem.SCALE_CONTINENT));
+			}
+
+			// The first region was evicted; a range query pages it back in
+			assertEquals(List.of(places.get(0)),
+					spatialSystem.getEntitiesInRange(SpatialSystem.SCALE_CONTINENT, coords.get(0), 2));
+			assertEquals(places.get(0), spatialSystem.getEntityAt(SpatialSystem.SCALE_CONTINENT, coords.get(0)));
+			assertEquals(64, spatialSystem.getLoadedRegionCount(SpatialSystem.SCALE_CONTINENT));
+
+			// Move a place out of an evicted region into a loaded one
+			Place moved = places.get(1);
+			int[] target = { coords.get(99)[0] + 1, coords.get(99)[1] };
+			spatialSystem.setPosition(moved, SpatialSystem.SCALE_CONTINENT, target);
+			assertArrayEquals(target, spatialSystem.getPosition(moved, SpatialSystem.SCALE_CONTINENT));
+			assertNull(spatialSystem.getEntityAt(SpatialSystem.SCALE_CONTINENT, coords.get(1)));
+			assertEquals(List.of(places.get(99), moved),
+					spatialSystem.getNearestEntities(SpatialSystem.SCALE_CONTINENT, coords.get(99), 5, 4));
+
+			// Move a place out of a loaded region into an evicted one
+			Place returned = places.get(98);
+			int[] back = { coords.get(2)[0] + 1, coords.get(2)[1] };
+			spatialSystem.setPosition(returned, SpatialSystem.SCALE_CONTINENT, back);
+			assertNull(spatialSystem.getEntityAt(SpatialSystem.SCALE_CONTINENT, coords.get(98)));
+			assertEquals(List.of(places.get(2), returned),
+					spatialSystem.getNearestEntities(SpatialSystem.SCALE_CONTINENT, coords.get(2), 5, 4));
+
+			// Revisiting everything still finds every place where it now is
+			coords.set(1, target);
+			coords.set(98, back);
+			for (int i = 0; i < places.size(); i++) {
+				assertArrayEquals(coords.get(i), spatialSystem.getPosition(places.get(i), SpatialSystem.SCALE_CONTINENT));
+				assertTrue(spatialSystem.getLoadedRegionCount(SpatialSystem.SCALE_CONTINENT) <= 64);
+			}
+		}
+	}
+}
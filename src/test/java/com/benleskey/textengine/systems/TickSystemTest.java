@@ -0,0 +1,318 @@
+package com.benleskey.textengine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.benleskey.textengine.Game;
+import com.benleskey.textengine.entities.Acting;
+import com.benleskey.textengine.entities.Place;
+import com.benleskey.textengine.model.BaseEntity;
+import com.benleskey.textengine.model.DTime;
+import com.benleskey.textengine.model.Entity;
+import com.benleskey.textengine.plugins.games.highfantasy.HighFantasyPlugin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.AncientCoin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.Goblin;
+import com.benleskey.textengine.plugins.games.highfantasy.entities.SimpleAvatar;
+import com.benleskey.textengine.util.Logger;
+
+class TickSystemTest {
+	// Clocks by id: interval in seconds, and how long each waits after ticking (0 for not at all)
+	private static final Map<Long, Long> intervals = new HashMap<>();
+	private static final Map<Long, Long> waits = new HashMap<>();
+	private static final Map<Long, String> names = new HashMap<>();
+	// "seconds since start name" for every tick, in order
+	private static final List<String> ticks = new ArrayList<>();
+	private static long start;
+	// Length of the wait compared against waiting minute by minute
+	private static final int HOURS = 4;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	void setUp() {
+		intervals.clear();
+		waits.clear();
+		names.clear();
+		ticks.clear();
+	}
+
+	/**
+	 * An actor that records each tick and optionally queues a wait.
+	 */
+	public static class Clock extends BaseEntity implements Acting {
+		public Clock(long id, Game game) {
+			super(id, game);
+		}
+
+		@Override
+		public void onActionReady() {
+			long now = game.getSystem(WorldSystem.class).getCurrentTime().toMilliseconds();
+			ticks.add((now - start) / 1000 + " " + names.get(getId()));
+			long wait = waits.getOrDefault(getId(), 0L);
+			if (wait > 0) {
+				ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+				actionSystem.queueAction(this, actionSystem.ACTION_WAIT, this, DTime.fromSeconds(wait));
+			}
+		}
+
+		@Override
+		public DTime getActionInterval() {
+			return DTime.fromSeconds(intervals.get(getId()));
+		}
+	}
+
+	@Test
+	void wakesInTimeOrder() throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+			addClocks(game);
+
+			advance(game, 3000);
+			assertEquals(expectedTicks(3000), ticks);
+		}
+	}
+
+	@Test
+	void supersededWakeDoesNotTickAgain() throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+			Clock clock = addClock(game, "a", 1000, 0);
+
+			// Pull the wake from 1000 to 200; the heap entry at 1000 is left behind
+			tickSystem.wakeBy(clock, start + 200_000);
+			// Later and equal requests keep the earlier wake
+			tickSystem.wakeBy(clock, start + 600_000);
+			tickSystem.wakeBy(clock, start + 200_000);
+			assertEquals(start + 200_000, tickSystem.getWakeTime(clock));
+
+			advance(game, 1100);
+			assertEquals(List.of("200 a"), ticks);
+			assertEquals(start + 1_200_000, tickSystem.getWakeTime(clock));
+
+			advance(game, 1100);
+			assertEquals(List.of("200 a", "1200 a", "2200 a"), ticks);
+		}
+	}
+
+	@Test
+	void scheduleSurvivesReload() throws Exception {
+		List<String> uninterrupted = runAcrossReload(tempDir.resolve("uninterrupted.db"), false);
+		setUp();
+		List<String> reloaded = runAcrossReload(tempDir.resolve("reloaded.db"), true);
+		assertEquals(uninterrupted, reloaded);
+	}
+
+	/**
+	 * Run the clocks for 3000 seconds with an early wake requested partway,
+	 * optionally closing and reopening the world at that point.
+	 *
+	 * @return the ticks
+	 */
+	private List<String> runAcrossReload(Path database, boolean reload) throws Exception {
+		String url = "jdbc:sqlite:" + database;
+		Connection connection = DriverManager.getConnection(url);
+		try {
+			Game game = startGame(connection);
+			List<Long> clocks = addClocks(game);
+			advance(game, 1100);
+			// Not derivable from intervals or queued actions, so only the stored schedule has it
+			Acting b = (Acting) game.getSystem(EntitySystem.class).get(clocks.get(1));
+			game.getSystem(TickSystem.class).wakeBy(b, start + 1_234_000);
+			Map<Long, Long> wakes = wakeTimes(game, clocks);
+
+			if (reload) {
+				connection.commit();
+				connection.close();
+				connection = DriverManager.getConnection(url);
+				game = startGame(connection);
+			}
+			assertEquals(wakes, wakeTimes(game, clocks));
+			advance(game, 1900);
+		} finally {
+			connection.close();
+		}
+		return new ArrayList<>(ticks);
+	}
+
+	@Test
+	void longWaitMatchesSteppedWaits() throws Exception {
+		assertEquals(waitOut(true), waitOut(false));
+	}
+
+	/**
+	 * Goblins patrol a ring strewn with coins while a player waits four hours,
+	 * either in one wait caught up in slices or in a wait per minute.
+	 *
+	 * @return what each place holds and when each goblin next wakes, by creation order
+	 */
+	private static List<String> waitOut(boolean stepped) throws Exception {
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			Game game = startGame(connection);
+			EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+			ConnectionSystem connectionSystem = game.getSystem(ConnectionSystem.class);
+			RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+			ActionSystem actionSystem = game.getSystem(ActionSystem.class);
+			TickSystem tickSystem = game.getSystem(TickSystem.class);
+
+			Map<Long, String> labels = new HashMap<>();
+			List<Place> places = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				Place place = entitySystem.add(Place.class);
+				places.add(place);
+				labels.put(place.getId(), "place " + i);
+			}
+			for (int i = 0; i < places.size(); i++) {
+				connectionSystem.connectBidirectional(places.get(i), places.get((i + 1) % places.size()));
+			}
+			List<Goblin> goblins = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Goblin goblin = Goblin.create(game, places.get(i), places.get(i), places.get((i + 1) % places.size()));
+				goblins.add(goblin);
+				labels.put(goblin.getId(), "goblin " + i);
+			}
+			Random random = new Random(1L);
+			for (int i = 0; i < 3; i++) {
+				AncientCoin coin = AncientCoin.create(game, random);
+				relationshipSystem.add(places.get(i * 5 % places.size()), coin, relationshipSystem.rvContains);
+				labels.put(coin.getId(), "coin " + i);
+			}
+			// The player waits somewhere out of the way
+			SimpleAvatar avatar = SimpleAvatar.create(game);
+			relationshipSystem.add(entitySystem.add(Place.class), avatar, relationshipSystem.rvContains);
+
+			if (stepped) {
+				for (int minute = 0; minute < HOURS * 60; minute++) {
+					actionSystem.queueAction(avatar, actionSystem.ACTION_WAIT, avatar, DTime.fromSeconds(60));
+					tickSystem.processWorldTicks();
+				}
+			} else {
+				actionSystem.queueAction(avatar, actionSystem.ACTION_WAIT, avatar, DTime.fromSeconds(HOURS * 3600));
+				// Like the game loop, catch up a millisecond of work at a time
+				while (!tickSystem.processWorldTicks(1_000_000)) {
+				}
+			}
+
+			DTime now = game.getSystem(WorldSystem.class).getCurrentTime();
+			assertEquals(start + HOURS * 3600 * 1000, now.toMilliseconds());
+			List<String> state = new ArrayList<>();
+			for (Place place : places) {
+				state.add(labels.get(place.getId()) + ": " + contents(relationshipSystem, place, now, labels));
+			}
+			for (Goblin goblin : goblins) {
+				state.add(labels.get(goblin.getId()) + " wakes at " + (tickSystem.getWakeTime(goblin) - start) / 1000);
+			}
+			return state;
+		}
+	}
+
+	private static String contents(RelationshipSystem relationshipSystem, Entity container, DTime now,
+			Map<Long, String> labels) {
+		List<String> held = new ArrayList<>();
+		relationshipSystem.getReceivingRelationships(container, relationshipSystem.rvContains, now)
+				.forEach(rd -> {
+					Entity entity = rd.getReceiver();
+					String label = labels.getOrDefault(entity.getId(), "?");
+					String nested = contents(relationshipSystem, entity, now, labels);
+					held.add(nested.equals("[]") ? label : label + " " + nested);
+				});
+		held.sort(null);
+		return held.toString();
+	}
+
+	private static Game startGame(Connection connection) {
+		Game game = Game.builder()
+				.log(Logger.builder().stream(OutputStream.nullOutputStream()).build())
+				.databaseConnection(connection)
+				.seed(1L)
+				.build();
+		game.registerPlugin(new HighFantasyPlugin(game));
+		game.initialize();
+		game.getSystem(EntitySystem.class).registerEntityType(Clock.class);
+		if (names.isEmpty()) {
+			start = game.getSystem(WorldSystem.class).getCurrentTime().toMilliseconds();
+		}
+		return game;
+	}
+
+	/**
+	 * Three clocks on plain intervals and one that waits 200 seconds after each tick.
+	 *
+	 * @return the clock ids
+	 */
+	private static List<Long> addClocks(Game game) {
+		return List.of(
+				addClock(game, "a", 300, 0).getId(),
+				addClock(game, "b", 500, 0).getId(),
+				addClock(game, "c", 700, 0).getId(),
+				addClock(game, "w", 1000, 200).getId());
+	}
+
+	private static Clock addClock(Game game, String name, long interval, long wait) {
+		EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+		RelationshipSystem relationshipSystem = game.getSystem(RelationshipSystem.class);
+		Place place = entitySystem.add(Place.class);
+		Clock clock = entitySystem.add(Clock.class);
+		intervals.put(clock.getId(), interval);
+		waits.put(clock.getId(), wait);
+		names.put(clock.getId(), name);
+		relationshipSystem.add(place, clock, relationshipSystem.rvContains);
+		game.getSystem(ActionSystem.class).addActing(clock);
+		return clock;
+	}
+
+	/**
+	 * Ticks addClocks should produce in the first given seconds: every interval
+	 * for the plain clocks, then every 200 seconds once the waiting clock starts.
+	 */
+	private static List<String> expectedTicks(long seconds) {
+		record Tick(long time, int order, String name) {
+		}
+		List<Tick> expected = new ArrayList<>();
+		String[] plain = { "a", "b", "c" };
+		long[] plainIntervals = { 300, 500, 700 };
+		for (int i = 0; i < plain.length; i++) {
+			for (long time = plainIntervals[i]; time <= seconds; time += plainIntervals[i]) {
+				expected.add(new Tick(time, i, plain[i]));
+			}
+		}
+		for (long time = 1000; time <= seconds; time += 200) {
+			expected.add(new Tick(time, plain.length, "w"));
+		}
+		return expected.stream()
+				.sorted(Comparator.comparingLong(Tick::time).thenComparingInt(Tick::order))
+				.map(tick -> tick.time() + " " + tick.name())
+				.collect(Collectors.toList());
+	}
+
+	private static Map<Long, Long> wakeTimes(Game game, List<Long> clocks) {
+		EntitySystem entitySystem = game.getSystem(EntitySystem.class);
+		TickSystem tickSystem = game.getSystem(TickSystem.class);
+		Map<Long, Long> wakes = new HashMap<>();
+		for (long id : clocks) {
+			wakes.put(id, tickSystem.getWakeTime((Acting) entitySystem.get(id)));
+		}
+		return wakes;
+	}
+
+	private static void advance(Game game, long seconds) {
+		game.getSystem(WorldSystem.class).incrementCurrentTime(DTime.fromSeconds(seconds));
+		game.getSystem(TickSystem.class).processWorldTicks();
+	}
+}
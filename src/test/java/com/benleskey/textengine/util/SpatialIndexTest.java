@@ -0,0 +1,117 @@
+package com.benleskey.textengine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTest {
+
+	@Test
+	void queriesMatchBruteForceInTwoDimensions() {
+		check(2, 2000, 200, new Random(1));
+	}
+
+	@Test
+	void queriesMatchBruteForceInThreeDimensions() {
+		check(3, 1000, 60, new Random(2));
+	}
+
+	@Test
+	void queriesMatchBruteForceWhenSparse() {
+		// A few points spread far apart, so nearest hits lie many rings out
+		check(2, 20, 1_000_000, new Random(3));
+	}
+
+	@Test
+	void moveAndRemoveUpdateEveryQuery() {
+		SpatialIndex<String> index = new SpatialIndex<>(2);
+		index.put("a", new int[] { 0, 0 });
+		index.put("b", new int[] { 40, 40 });
+		index.put("a", new int[] { 41, 40 });
+
+		assertEquals(Set.of(), index.getAt(new int[] { 0, 0 }));
+		assertEquals(List.of("a", "b"), index.getNearest(new int[] { 42, 40 }, 2));
+		index.remove("b");
+		assertNull(index.get("b"));
+		assertEquals(List.of("a"), index.getInRadius(new int[] { 40, 40 }, 5));
+		assertEquals(1, index.size());
+	}
+
+	private static void check(int dimensions, int count, int extent, Random random) {
+		SpatialIndex<Integer> index = new SpatialIndex<>(dimensions);
+		List<int[]> points = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			int[] coords = randomCoords(dimensions, extent, random);
+			points.add(coords);
+			index.put(i, coords);
+		}
+
+		for (int query = 0; query < 200; query++) {
+			// Half the queries sit exactly on an indexed point
+			int[] center = query % 2 == 0 ? points.get(random.nextInt(count)).clone()
+					: randomCoords(dimensions, extent, random);
+
+			Set<Integer> at = new HashSet<>();
+			Set<Integer> inBox = new HashSet<>();
+			Set<Integer> inRadius = new HashSet<>();
+			int[] min = new int[dimensions];
+			int[] max = new int[dimensions];
+			for (int d = 0; d < dimensions; d++) {
+				int a = random.nextInt(extent);
+				int b = random.nextInt(extent);
+				min[d] = Math.min(a, b) - extent / 2;
+				max[d] = Math.max(a, b) - extent / 2;
+			}
+			double radius = random.nextDouble() * extent / 4;
+			for (int i = 0; i < count; i++) {
+				int[] coords = points.get(i);
+				if (Arrays.equals(coords, center)) {
+					at.add(i);
+				}
+				boolean inside = true;
+				for (int d = 0; d < dimensions; d++) {
+					inside &= coords[d] >= min[d] && coords[d] <= max[d];
+				}
+				if (inside) {
+					inBox.add(i);
+				}
+				if (index.distance(center, coords) <= radius) {
+					inRadius.add(i);
+				}
+			}
+			assertEquals(at, index.getAt(center));
+			assertEquals(inBox, new HashSet<>(index.getInBox(min, max)));
+			assertEquals(inRadius, new HashSet<>(index.getInRadius(center, radius)));
+
+			// Ties make the items ambiguous, so compare the distances
+			int k = 1 + random.nextInt(12);
+			List<Double> expected = points.stream()
+					.map(coords -> index.distance(center, coords))
+					.sorted(Comparator.naturalOrder())
+					.limit(k)
+					.toList();
+			List<Double> actual = index.getNearest(center, k).stream()
+					.map(item -> index.distance(center, points.get(item)))
+					.toList();
+			assertEquals(expected, actual, "Nearest " + k);
+		}
+	}
+
+	private static int[] randomCoords(int dimensions, int extent, Random random) {
+		int[] coords = new int[dimensions];
+		for (int d = 0; d < dimensions; d++) {
+			// Centered on the origin to cover negative cells
+			coords[d] = random.nextInt(extent) - extent / 2;
+		}
+		return coords;
+	}
+}